@@ -1,11 +1,12 @@
 package algoritmos.arvore_geradora_minima.boruvka;
 
+import graph_structure.DicionarioDeVertices;
 import graph_structure.Grafo;
 import graph_structure.Grafo.Aresta;
 import util.hashSet.HashSet;
+import util.lista.ListaArray;
 import util.lista.ListaEncadeada;
-import util.tabelaHash.TabelaHash;
-import util.union_find.UnionFind;
+import util.union_find.UnionFindDeInteiros;
 
 /**
  * Implementação do Algoritmo de Borůvka para encontrar a Árvore Geradora Mínima (MST).
@@ -33,61 +34,67 @@ public class Boruvka<V> {
             return new ListaEncadeada<>();
         }
 
+        // Ids densos para os vértices e as pontas de cada aresta já convertidas, para que as rodadas
+        // trabalhem só com arrays de int.
+        DicionarioDeVertices<V> dicionario = new DicionarioDeVertices<>();
+        HashSet<V>.MeuIteradorDeHashSet iteradorVertices = grafo.getVertices().iterator();
+        while (iteradorVertices.hasNext()) {
+            dicionario.internar(iteradorVertices.next());
+        }
+        ListaArray<Aresta<V>> arestas = new ListaArray<>(grafo.getNumeroDeArestas());
+        ListaEncadeada<Aresta<V>>.MeuIteradorDeLista iteradorArestas = grafo.getArestas().iterador();
+        while (iteradorArestas.temProximo()) {
+            arestas.add(iteradorArestas.proximo());
+        }
+        int numArestas = arestas.size();
+        int[] origens = new int[numArestas];
+        int[] destinos = new int[numArestas];
+        for (int i = 0; i < numArestas; i++) {
+            origens[i] = dicionario.idDe(arestas.get(i).origem());
+            destinos[i] = dicionario.idDe(arestas.get(i).destino());
+        }
+
         // Estrutura Union-Find para gerenciar os componentes conectados.
-        UnionFind<V> uf = new UnionFind<>(grafo.getVertices());
+        UnionFindDeInteiros uf = new UnionFindDeInteiros(numVertices);
 
         // Lista que armazenará as arestas da Árvore Geradora Mínima.
         ListaEncadeada<Aresta<V>> mst = new ListaEncadeada<>();
 
-        // Inicialmente, cada vértice é um componente separado.
-        int numComponentes = numVertices;
+        // Índice da menor aresta que sai de cada componente (indexado pela raiz), ou -1.
+        int[] arestaMaisBarata = new int[numVertices];
 
         // Enquanto houver mais de um componente e a MST ainda não tiver V-1 arestas.
-        while (numComponentes > 1 && mst.size() < numVertices - 1) {
-
-            // Armazena a menor aresta que conecta cada componente a outro.
-            TabelaHash<V, Aresta<V>> arestaMaisBarata = new TabelaHash<>();
-
-            // Passo 1: Identificar a menor aresta de saída de cada componente.
-            ListaEncadeada<Aresta<V>>.MeuIteradorDeLista iteradorArestas = grafo.getArestas().iterador();
-            while (iteradorArestas.temProximo()) {
-                Aresta<V> aresta = iteradorArestas.proximo();
-                V u = aresta.origem();
-                V v = aresta.destino();
+        while (uf.getNumeroDeConjuntos() > 1 && mst.size() < numVertices - 1) {
+            for (int r = 0; r < numVertices; r++) {
+                arestaMaisBarata[r] = -1;
+            }
 
-                // Encontrar os representantes de cada componente.
-                V raizU = uf.find(u);
-                V raizV = uf.find(v);
+            // Passo 1: Identificar a menor aresta de saída de cada componente. Em caso de empate,
+            // fica a de menor índice, então todos os componentes desempatam da mesma forma.
+            for (int i = 0; i < numArestas; i++) {
+                int raizU = uf.find(origens[i]);
+                int raizV = uf.find(destinos[i]);
 
                 // Apenas considerar arestas entre componentes diferentes.
-                if (!raizU.equals(raizV)) {
-                    // Atualiza a menor aresta para o componente de u.
-                    if (arestaMaisBarata.get(raizU) == null || aresta.peso() < arestaMaisBarata.get(raizU).peso()) {
-                        arestaMaisBarata.put(raizU, aresta);
+                if (raizU != raizV) {
+                    double peso = arestas.get(i).peso();
+                    if (arestaMaisBarata[raizU] == -1 || peso < arestas.get(arestaMaisBarata[raizU]).peso()) {
+                        arestaMaisBarata[raizU] = i;
                     }
-                    // Atualiza a menor aresta para o componente de v.
-                    if (arestaMaisBarata.get(raizV) == null || aresta.peso() < arestaMaisBarata.get(raizV).peso()) {
-                        arestaMaisBarata.put(raizV, aresta);
+                    if (arestaMaisBarata[raizV] == -1 || peso < arestas.get(arestaMaisBarata[raizV]).peso()) {
+                        arestaMaisBarata[raizV] = i;
                     }
                 }
             }
 
             boolean algumaArestaAdicionadaNestaRodada = false;
 
-            // Passo 2: Adicionar as arestas selecionadas e unir os componentes.
-            ListaEncadeada<V> raizes = arestaMaisBarata.keySet();
-            ListaEncadeada<V>.MeuIteradorDeLista iteradorRaizes = raizes.iterador();
-            while (iteradorRaizes.temProximo()) {
-                V raiz = iteradorRaizes.proximo();
-                Aresta<V> aresta = arestaMaisBarata.get(raiz);
-                V u = aresta.origem();
-                V v = aresta.destino();
-
-                // Verifica novamente se u e v ainda estão em componentes diferentes antes de unir.
-                if (!uf.find(u).equals(uf.find(v))) {
-                    mst.add(aresta);
-                    uf.union(u, v);
-                    numComponentes--;
+            // Passo 2: Adicionar as arestas selecionadas e unir os componentes. A união só acontece
+            // se u e v ainda estiverem em componentes diferentes nesta rodada.
+            for (int r = 0; r < numVertices; r++) {
+                int i = arestaMaisBarata[r];
+                if (i != -1 && uf.union(origens[i], destinos[i])) {
+                    mst.add(arestas.get(i));
                     algumaArestaAdicionadaNestaRodada = true;
                 }
             }
@@ -38,8 +38,9 @@ public class RunBoruvka {
         HashSet<String> arestasUnicas = new HashSet<>();
         double custoTotal = 0;
 
-        for (int i = 0; i < mst.size(); i++) {
-            Grafo.Aresta<String> aresta = mst.get(i);
+        ListaEncadeada<Grafo.Aresta<String>>.MeuIteradorDeLista iterador = mst.iterador();
+        while (iterador.temProximo()) {
+            Grafo.Aresta<String> aresta = iterador.proximo();
             String u = aresta.origem();
             String v = aresta.destino();
 
@@ -1,9 +1,12 @@
 package algoritmos.arvore_geradora_minima.kruskal;
 
 import algoritmos.arvore_geradora_minima.kruskal.utilKruskal.MergeSortArestas;
-import util.union_find.UnionFind;
+import util.hashSet.HashSet;
+import util.union_find.UnionFindDeInteiros;
+import graph_structure.DicionarioDeVertices;
 import graph_structure.Grafo;
 import graph_structure.Grafo.Aresta;
+import util.lista.ListaArray;
 import util.lista.ListaEncadeada;
 
 /**
@@ -25,12 +28,23 @@ public class Kruskal<V> {
     }
 
     public ListaEncadeada<Aresta<V>> encontrarMST() {
-        // Passo 1: Obter todas as arestas do grafo e ordená-las por peso crescente.
-        ListaEncadeada<Aresta<V>> arestas = grafo.getArestas();
+        // Passo 1: Copiar as arestas do grafo para uma lista com acesso O(1) por índice
+        // e ordená-las por peso crescente (a lista do próprio grafo não é alterada).
+        ListaArray<Aresta<V>> arestas = new ListaArray<>(grafo.getNumeroDeArestas());
+        ListaEncadeada<Aresta<V>>.MeuIteradorDeLista iteradorArestas = grafo.getArestas().iterador();
+        while (iteradorArestas.temProximo()) {
+            arestas.add(iteradorArestas.proximo());
+        }
         new MergeSortArestas<V>().sort(arestas);
 
-        // Passo 2: Inicializar a estrutura Union-Find para controle dos componentes.
-        UnionFind<V> uf = new UnionFind<>(grafo.getVertices());
+        // Passo 2: Inicializar a estrutura Union-Find para controle dos componentes,
+        // sobre ids densos atribuídos aos vértices.
+        DicionarioDeVertices<V> dicionario = new DicionarioDeVertices<>();
+        HashSet<V>.MeuIteradorDeHashSet iteradorVertices = grafo.getVertices().iterator();
+        while (iteradorVertices.hasNext()) {
+            dicionario.internar(iteradorVertices.next());
+        }
+        UnionFindDeInteiros uf = new UnionFindDeInteiros(dicionario.tamanho());
 
         // Lista que armazenará as arestas da Árvore Geradora Mínima.
         ListaEncadeada<Aresta<V>> mst = new ListaEncadeada<>();
@@ -43,14 +57,12 @@ public class Kruskal<V> {
             }
 
             Aresta<V> aresta = arestas.get(i);
-            V u = aresta.origem();
-            V v = aresta.destino();
+            int u = dicionario.idDe(aresta.origem());
+            int v = dicionario.idDe(aresta.destino());
 
-            // Verifica se os vértices u e v estão em componentes diferentes.
-            if (!uf.find(u).equals(uf.find(v))) {
-                // Se estiverem, a aresta pode ser adicionada sem formar ciclo.
+            // Une os componentes de u e v; se já eram o mesmo, a aresta formaria um ciclo.
+            if (uf.union(u, v)) {
                 mst.add(aresta);
-                uf.union(u, v); // Une os componentes de u e v.
             }
         }
 
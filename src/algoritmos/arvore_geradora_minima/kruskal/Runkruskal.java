@@ -31,8 +31,9 @@ public class Runkruskal {
         // --- ETAPA 3: Exibir os resultados da MST ---
         double custoTotal = 0;
         System.out.println("\nArestas da Árvore Geradora Mínima (MST):");
-        for (int i = 0; i < mst.size(); i++) {
-            Grafo.Aresta<String> aresta = mst.get(i);
+        ListaEncadeada<Grafo.Aresta<String>>.MeuIteradorDeLista iterador = mst.iterador();
+        while (iterador.temProximo()) {
+            Grafo.Aresta<String> aresta = iterador.proximo();
             System.out.println(aresta.origem() + " - " + aresta.destino() + " (Peso: " + aresta.peso() + ")");
             custoTotal += aresta.peso();
         }
@@ -1,18 +1,18 @@
 package algoritmos.arvore_geradora_minima.kruskal.utilKruskal;
 
 import graph_structure.Grafo.Aresta;
-import util.lista.ListaEncadeada;
+import util.lista.ListaArray;
 
 public class MergeSortArestas<V> {
 
-    public void sort(ListaEncadeada<Aresta<V>> lista) {
+    public void sort(ListaArray<Aresta<V>> lista) {
         if (lista == null || lista.size() <= 1) {
             return; // Já está ordenada
         }
         mergeSort(lista, 0, lista.size() - 1);
     }
 
-    private void mergeSort(ListaEncadeada<Aresta<V>> lista, int esquerda, int direita) {
+    private void mergeSort(ListaArray<Aresta<V>> lista, int esquerda, int direita) {
         if (esquerda < direita) {
             int meio = esquerda + (direita - esquerda) / 2;
             mergeSort(lista, esquerda, meio);
@@ -22,7 +22,7 @@ public class MergeSortArestas<V> {
     }
 
     @SuppressWarnings("unchecked")
-    private void merge(ListaEncadeada<Aresta<V>> lista, int esquerda, int meio, int direita) {
+    private void merge(ListaArray<Aresta<V>> lista, int esquerda, int meio, int direita) {
         int n1 = meio - esquerda + 1;
         int n2 = direita - meio;
 
@@ -4,8 +4,10 @@ import algoritmos.arvore_geradora_minima.prim.utilPrim.Comparador;
 import algoritmos.arvore_geradora_minima.prim.utilPrim.FilaDePrioridade;
 import graph_structure.Grafo;
 import graph_structure.Grafo.Aresta;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
+import util.primitivos.ConjuntoDeBits;
 import java.util.Comparator;
 
 /**
@@ -17,6 +19,7 @@ import java.util.Comparator;
 public class Prim<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr; // Representação compacta, quando Prim é criado a partir de um GrafoCSR.
 
     public Prim(Grafo<V> grafo) {
         // O algoritmo de Prim só pode ser aplicado a grafos não direcionados.
@@ -24,9 +27,27 @@ public class Prim<V> {
             throw new IllegalArgumentException("O algoritmo de Prim só funciona em grafos não direcionados.");
         }
         this.grafo = grafo;
+        this.csr = null;
+    }
+
+    /**
+     * Cria o algoritmo sobre a representação compacta (CSR) do grafo.
+     *
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
+     */
+    public Prim(GrafoCSR<V> csr) {
+        if (csr.isDirecionado()) {
+            throw new IllegalArgumentException("O algoritmo de Prim só funciona em grafos não direcionados.");
+        }
+        this.grafo = null;
+        this.csr = csr;
     }
 
     public ListaEncadeada<Aresta<V>> encontrarMST() {
+        if (csr != null) {
+            return encontrarMSTCSR();
+        }
+
         // Caso o grafo não tenha vértices, retorna uma MST vazia.
         if (grafo.getVertices().isEmpty()) {
             return new ListaEncadeada<>();
@@ -91,4 +112,50 @@ public class Prim<V> {
             }
         }
     }
+
+    /**
+     * Versão sobre o CSR. A fila guarda apenas a posição da aresta no CSR;
+     * o objeto {@link Aresta} só é criado quando a aresta entra na MST.
+     *
+     * @return Lista de arestas da MST.
+     */
+    private ListaEncadeada<Aresta<V>> encontrarMSTCSR() {
+        ListaEncadeada<Aresta<V>> mst = new ListaEncadeada<>();
+        int n = csr.getNumeroDeVertices();
+        if (n == 0) {
+            return mst;
+        }
+
+        ConjuntoDeBits naMST = new ConjuntoDeBits(n);
+        FilaDePrioridade<Integer> pq = new FilaDePrioridade<>(new Comparador<Integer>() {
+            public int comparar(Integer e1, Integer e2) {
+                return Double.compare(csr.peso(e1), csr.peso(e2));
+            }
+        });
+
+        // Vértice inicial: id 0 (o mesmo vértice que a versão sobre Grafo escolheria).
+        naMST.add(0);
+        adicionarArestasCSR(0, naMST, pq);
+
+        while (!pq.isEmpty() && mst.size() < n - 1) {
+            int e = pq.remover();
+            int v = csr.alvo(e);
+
+            if (naMST.add(v)) {
+                int u = csr.origem(e);
+                mst.add(new Aresta<>(csr.rotuloDe(u), csr.rotuloDe(v), csr.peso(e)));
+                adicionarArestasCSR(v, naMST, pq);
+            }
+        }
+
+        return mst;
+    }
+
+    private void adicionarArestasCSR(int vertice, ConjuntoDeBits naMST, FilaDePrioridade<Integer> pq) {
+        for (int e = csr.inicio(vertice); e < csr.fim(vertice); e++) {
+            if (!naMST.contains(csr.alvo(e))) {
+                pq.adicionar(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package algoritmos.arvore_geradora_minima.prim;
+
+import graph_structure.Grafo;
+import graph_structure.Grafo.Aresta;
+import graph_structure.GrafoCSR;
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+import util.lista.ListaEncadeada;
+import util.primitivos.ConjuntoDeBits;
+
+/**
+ * Versão "eager" do Algoritmo de Prim para encontrar a Árvore Geradora Mínima (MST).
+ * Em vez de enfileirar uma aresta por vizinho (versão "lazy" de {@link Prim}), guarda para cada
+ * vértice fora da árvore apenas a aresta mais barata que o liga à árvore, numa fila indexada
+ * por id com decrease-key. O heap fica com no máximo V entradas e nenhum objeto é alocado por aresta.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class PrimEager<V> {
+
+    private final GrafoCSR<V> csr;
+
+    public PrimEager(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public PrimEager(GrafoCSR<V> csr) {
+        // O algoritmo de Prim só pode ser aplicado a grafos não direcionados.
+        if (csr.isDirecionado()) {
+            throw new IllegalArgumentException("O algoritmo de Prim só funciona em grafos não direcionados.");
+        }
+        this.csr = csr;
+    }
+
+    public ListaEncadeada<Aresta<V>> encontrarMST() {
+        ListaEncadeada<Aresta<V>> mst = new ListaEncadeada<>();
+        int n = csr.getNumeroDeVertices();
+
+        // Caso o grafo não tenha vértices, retorna uma MST vazia.
+        if (n == 0) {
+            return mst;
+        }
+
+        // Menor peso conhecido para ligar cada vértice à árvore, e a aresta (posição no CSR) correspondente.
+        double[] custo = new double[n];
+        int[] arestaPara = new int[n];
+        for (int v = 0; v < n; v++) {
+            custo[v] = Double.POSITIVE_INFINITY;
+            arestaPara[v] = -1;
+        }
+        ConjuntoDeBits naMST = new ConjuntoDeBits(n);
+        FilaDePrioridadeIndexada pq = new FilaDePrioridadeIndexada(n);
+
+        // Vértice inicial: id 0, o mesmo que a versão lazy escolheria.
+        custo[0] = 0.0;
+        pq.add(0, 0.0);
+
+        while (!pq.isEmpty()) {
+            int u = pq.removeMin();
+            naMST.add(u);
+
+            // Registra a aresta que trouxe u para a árvore (o vértice inicial não tem).
+            if (arestaPara[u] != -1) {
+                int e = arestaPara[u];
+                mst.add(new Aresta<>(csr.rotuloDe(csr.origem(e)), csr.rotuloDe(u), csr.peso(e)));
+            }
+
+            // Relaxa as arestas de u: guarda apenas a ligação mais barata de cada vizinho.
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                if (naMST.contains(v)) {
+                    continue;
+                }
+                double peso = csr.peso(e);
+                if (peso < custo[v]) {
+                    custo[v] = peso;
+                    arestaPara[v] = e;
+                    pq.addOuDiminuir(v, peso);
+                }
+            }
+        }
+
+        // Retorna a Árvore Geradora Mínima do componente do vértice inicial.
+        return mst;
+    }
+}
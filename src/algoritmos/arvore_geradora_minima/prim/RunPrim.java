@@ -31,11 +31,23 @@ public class RunPrim {
         // --- ETAPA 3: Exibir os resultados da MST ---
         double custoTotal = 0;
         System.out.println("\nArestas da Árvore Geradora Mínima:");
-        for (int i = 0; i < mst.size(); i++) {
-            Grafo.Aresta<String> aresta = mst.get(i);
+        ListaEncadeada<Grafo.Aresta<String>>.MeuIteradorDeLista iterador = mst.iterador();
+        while (iterador.temProximo()) {
+            Grafo.Aresta<String> aresta = iterador.proximo();
             System.out.println(aresta.origem() + " - " + aresta.destino() + " (Peso: " + aresta.peso() + ")");
             custoTotal += aresta.peso();
         }
         System.out.println("\nCusto total da MST: " + custoTotal);
+
+
+        // --- ETAPA 4: Conferir com a versão eager (fila indexada sobre o CSR) ---
+        System.out.println("\n--- Executando Algoritmo de Prim (eager) ---");
+        ListaEncadeada<Grafo.Aresta<String>> mstEager = new PrimEager<>(grafo).encontrarMST();
+        double custoEager = 0;
+        ListaEncadeada<Grafo.Aresta<String>>.MeuIteradorDeLista iteradorEager = mstEager.iterador();
+        while (iteradorEager.temProximo()) {
+            custoEager += iteradorEager.proximo().peso();
+        }
+        System.out.println("Arestas: " + mstEager.size() + " | Custo total da MST: " + custoEager);
     }
 }
\ No newline at end of file
@@ -1,11 +1,21 @@
 package algoritmos.arvore_geradora_minima.prim.utilPrim;
 
+import util.lista.ListaArray;
 import util.lista.ListaEncadeada;
 
+/**
+ * Fila de prioridade implementada como heap binário mínimo em um array contíguo.
+ * O filho esquerdo de i está em 2i + 1 e o direito em 2i + 2, então cada passo de
+ * subida ou descida é O(1) e as operações de inserção e remoção custam O(log n).
+ *
+ * @param <E> Tipo dos elementos armazenados.
+ */
+public class FilaDePrioridade<E> {
 
+    private static final int CAPACIDADE_INICIAL = 16;
 
-public class FilaDePrioridade<E> {
-    private final ListaEncadeada<E> heap;
+    private Object[] heap;
+    private int tamanho;
     private final Comparador<E> comparador;
 
     /**
@@ -13,65 +23,140 @@ public class FilaDePrioridade<E> {
      * @param comparador O comparador para ordenar os elementos.
      */
     public FilaDePrioridade(Comparador<E> comparador) {
-        this.heap = new ListaEncadeada<>();
+        this.heap = new Object[CAPACIDADE_INICIAL];
+        this.tamanho = 0;
         this.comparador = comparador;
     }
 
     public void adicionar(E elemento) {
-        heap.add(elemento); // Adiciona no final da lista
-        subir(heap.size() - 1); // "Sobe" o elemento para sua posição correta
+        garantirCapacidade(tamanho + 1);
+        heap[tamanho] = elemento; // Adiciona no final do array
+        subir(tamanho);           // "Sobe" o elemento para sua posição correta
+        tamanho++;
+    }
+
+    /**
+     * Adiciona vários elementos de uma vez e reconstrói o heap com heapify de baixo para cima,
+     * em O(n) no total, em vez de n inserções de O(log n).
+     *
+     * @param elementos Elementos a adicionar.
+     */
+    public void adicionarTodos(ListaArray<E> elementos) {
+        garantirCapacidade(tamanho + elementos.size());
+        for (int i = 0; i < elementos.size(); i++) {
+            heap[tamanho++] = elementos.get(i);
+        }
+        heapificar();
+    }
+
+    /**
+     * Versão de {@link #adicionarTodos(ListaArray)} para listas encadeadas.
+     *
+     * @param elementos Elementos a adicionar.
+     */
+    public void adicionarTodos(ListaEncadeada<E> elementos) {
+        garantirCapacidade(tamanho + elementos.size());
+        ListaEncadeada<E>.MeuIteradorDeLista iterador = elementos.iterador();
+        while (iterador.temProximo()) {
+            heap[tamanho++] = iterador.proximo();
+        }
+        heapificar();
     }
 
     public E remover() {
         if (isEmpty()) {
             throw new IllegalStateException("A fila de prioridade está vazia.");
         }
-        // Eroca o primeiro (menor) com o último
-        E menor = heap.get(0);
-        E ultimo = heap.remove(heap.size() - 1);
+        // Troca o primeiro (menor) com o último
+        E menor = elemento(0);
+        tamanho--;
+        Object ultimo = heap[tamanho];
+        heap[tamanho] = null;
 
         if (!isEmpty()) {
-            heap.set(0, ultimo); // Coloca o último no lugar do primeiro
-            descer(0); // "Desce" o elemento para sua posição correta
+            heap[0] = ultimo; // Coloca o último no lugar do primeiro
+            descer(0);        // "Desce" o elemento para sua posição correta
         }
         return menor;
     }
 
+    /**
+     * Retorna o menor elemento sem removê-lo.
+     *
+     * @return O elemento de maior prioridade.
+     */
+    public E espiar() {
+        if (isEmpty()) {
+            throw new IllegalStateException("A fila de prioridade está vazia.");
+        }
+        return elemento(0);
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
     public boolean isEmpty() {
-        return heap.isEmpty();
+        return tamanho == 0;
+    }
+
+    /** Reorganiza todo o array como heap, descendo cada nó interno a partir do último. */
+    private void heapificar() {
+        for (int i = (tamanho >>> 1) - 1; i >= 0; i--) {
+            descer(i);
+        }
     }
 
+    /**
+     * Sobe o elemento da posição index. Em vez de trocar a cada nível,
+     * os pais são deslocados para baixo e o elemento é gravado uma única vez no final.
+     */
     private void subir(int index) {
-        int paiIndex = (index - 1) / 2;
-        while (index > 0 && comparador.comparar(heap.get(index), heap.get(paiIndex)) < 0) {
-            trocar(index, paiIndex);
+        E elemento = elemento(index);
+        while (index > 0) {
+            int paiIndex = (index - 1) >>> 1;
+            E pai = elemento(paiIndex);
+            if (comparador.comparar(elemento, pai) >= 0) {
+                break;
+            }
+            heap[index] = pai;
             index = paiIndex;
-            paiIndex = (index - 1) / 2;
         }
+        heap[index] = elemento;
     }
 
     private void descer(int index) {
-        int filhoEsquerdaIndex;
-        while ((filhoEsquerdaIndex = 2 * index + 1) < heap.size()) {
-            int menorFilhoIndex = filhoEsquerdaIndex;
-            int filhoDireitaIndex = filhoEsquerdaIndex + 1;
+        E elemento = elemento(index);
+        int metade = tamanho >>> 1; // Nós a partir daqui são folhas.
+        while (index < metade) {
+            int menorFilhoIndex = 2 * index + 1;
+            int filhoDireitaIndex = menorFilhoIndex + 1;
 
-            if (filhoDireitaIndex < heap.size() && comparador.comparar(heap.get(filhoDireitaIndex), heap.get(filhoEsquerdaIndex)) < 0) {
+            if (filhoDireitaIndex < tamanho && comparador.comparar(elemento(filhoDireitaIndex), elemento(menorFilhoIndex)) < 0) {
                 menorFilhoIndex = filhoDireitaIndex;
             }
 
-            if (comparador.comparar(heap.get(index), heap.get(menorFilhoIndex)) <= 0) {
+            if (comparador.comparar(elemento, elemento(menorFilhoIndex)) <= 0) {
                 break;
             }
 
-            trocar(index, menorFilhoIndex);
+            heap[index] = heap[menorFilhoIndex];
             index = menorFilhoIndex;
         }
+        heap[index] = elemento;
+    }
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo > heap.length) {
+            int novaCapacidade = Math.max(minimo, heap.length * 2);
+            Object[] novo = new Object[novaCapacidade];
+            System.arraycopy(heap, 0, novo, 0, tamanho);
+            heap = novo;
+        }
     }
 
-    private void trocar(int i, int j) {
-        E temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    @SuppressWarnings("unchecked")
+    private E elemento(int index) {
+        return (E) heap[index];
     }
 }
@@ -1,6 +1,7 @@
 package algoritmos.biparticao;
 
 import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
 import util.tabelaHash.TabelaHash;
@@ -13,7 +14,9 @@ import util.tabelaHash.TabelaHash;
 public class VerificadorBiparticao<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr;              // Representação compacta, quando criado a partir de um GrafoCSR.
     private final TabelaHash<V, Integer> cores; // Armazena a cor de cada vértice (1 ou -1)
+    private int[] coresCSR;                     // Cor por id na versão CSR (0 = sem cor).
     private boolean isBipartido = true;
 
     public VerificadorBiparticao(Grafo<V> grafo) {
@@ -22,15 +25,36 @@ public class VerificadorBiparticao<V> {
             System.out.println("Aviso: A verificação de bipartição geralmente é aplicada a grafos não direcionados.");
         }
         this.grafo = grafo;
+        this.csr = null;
         this.cores = new TabelaHash<>();
     }
 
+    /**
+     * Cria o verificador sobre a representação compacta (CSR) do grafo.
+     * As cores ficam em um array indexado pelo id do vértice.
+     *
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
+     */
+    public VerificadorBiparticao(GrafoCSR<V> csr) {
+        if (csr.isDirecionado()) {
+            System.out.println("Aviso: A verificação de bipartição geralmente é aplicada a grafos não direcionados.");
+        }
+        this.grafo = null;
+        this.csr = csr;
+        this.cores = null;
+    }
+
     /**
      * Verifica se o grafo é bipartido.
      *
      * @return true se for bipartido, false caso contrário.
      */
     public boolean verificar() {
+        if (csr != null) {
+            isBipartido = verificarCSR();
+            return isBipartido;
+        }
+
         // Percorre todos os vértices para tratar componentes desconectados.
         HashSet<V>.MeuIteradorDeHashSet iteradorVertices = grafo.getVertices().iterator();
 
@@ -103,9 +127,22 @@ public class VerificadorBiparticao<V> {
         HashSet<V> particaoA = new HashSet<>();
         HashSet<V> particaoB = new HashSet<>();
 
+        if (csr != null) {
+            for (int v = 0; v < coresCSR.length; v++) {
+                if (coresCSR[v] == 1) {
+                    particaoA.add(csr.rotuloDe(v));
+                } else {
+                    particaoB.add(csr.rotuloDe(v));
+                }
+            }
+            ListaEncadeada<HashSet<V>> particoes = new ListaEncadeada<>();
+            particoes.add(particaoA);
+            particoes.add(particaoB);
+            return particoes;
+        }
+
         // Itera sobre os vértices coloridos para separá-los em dois conjuntos.
-        ListaEncadeada<V> verticesColoridos = cores.keySet();
-        ListaEncadeada<V>.MeuIteradorDeLista iterador = verticesColoridos.iterador();
+        TabelaHash<V, Integer>.IteradorDeChaves iterador = cores.keySet().iterador();
 
         while(iterador.temProximo()) {
             V vertice = iterador.proximo();
@@ -124,4 +161,43 @@ public class VerificadorBiparticao<V> {
 
         return particoes;
     }
+
+    /**
+     * Versão sobre o CSR: BFS com coloração usando um array de cores e um array como fila.
+     *
+     * @return true se o grafo for bipartido.
+     */
+    private boolean verificarCSR() {
+        int n = csr.getNumeroDeVertices();
+        coresCSR = new int[n];
+        int[] fila = new int[n];
+
+        for (int inicio = 0; inicio < n; inicio++) {
+            if (coresCSR[inicio] != 0) {
+                continue;
+            }
+
+            int cabeca = 0;
+            int cauda = 0;
+            coresCSR[inicio] = 1;
+            fila[cauda++] = inicio;
+
+            while (cabeca < cauda) {
+                int atual = fila[cabeca++];
+                int corAtual = coresCSR[atual];
+
+                for (int e = csr.inicio(atual); e < csr.fim(atual); e++) {
+                    int vizinho = csr.alvo(e);
+                    if (coresCSR[vizinho] == 0) {
+                        coresCSR[vizinho] = -corAtual;
+                        fila[cauda++] = vizinho;
+                    } else if (coresCSR[vizinho] == corAtual) {
+                        System.out.println("Conflito: Aresta entre " + csr.rotuloDe(atual) + " e " + csr.rotuloDe(vizinho) + " com a mesma cor.");
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -1,8 +1,12 @@
 package algoritmos.busca.bfs;
 
+import algoritmos.busca.percurso.PercursoEmLargura;
+import algoritmos.busca.percurso.VisitanteDeImpressao;
 import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
+import util.primitivos.ConjuntoDeBits;
 
 /**
  * Implementação da Busca em Largura (BFS).
@@ -16,9 +20,22 @@ import util.lista.ListaEncadeada;
 public class BFS<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr; // Representação compacta, quando a BFS é criada a partir de um GrafoCSR.
 
     public BFS(Grafo<V> grafo) {
         this.grafo = grafo;
+        this.csr = null;
+    }
+
+    /**
+     * Cria a BFS sobre a representação compacta (CSR) do grafo.
+     * A travessia é feita sobre ids inteiros, sem consultas a tabelas hash no laço principal.
+     *
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
+     */
+    public BFS(GrafoCSR<V> csr) {
+        this.grafo = null;
+        this.csr = csr;
     }
 
     /**
@@ -29,6 +46,15 @@ public class BFS<V> {
      * @return Conjunto de vértices visitados.
      */
     public HashSet<V> executar(V inicio) {
+        if (csr != null) {
+            HashSet<V> visitados = new HashSet<>();
+            int[] ordem = travessiaCSR(inicio);
+            for (int i = 0; i < ordem.length; i++) {
+                visitados.add(csr.rotuloDe(ordem[i]));
+            }
+            return visitados;
+        }
+
         HashSet<V> visitados = new HashSet<>();
 
         // Valida se o vértice inicial existe no grafo.
@@ -66,45 +92,22 @@ public class BFS<V> {
 
     /**
      * Executa a BFS e imprime no console a ordem de visitação dos vértices.
-     * Útil para visualização e depuração.
+     * Útil para visualização e depuração. A travessia é feita pelo {@link PercursoEmLargura},
+     * com a impressão a cargo de um {@link VisitanteDeImpressao}.
      *
      * @param inicio Vértice de partida.
      */
     public void imprimirBusca(V inicio) {
+        GrafoCSR<V> alvo = csr != null ? csr : grafo.congelar();
+
         // Valida se o vértice inicial existe.
-        if (grafo.getVertices() == null || !grafo.getVertices().contains(inicio)) {
+        if (alvo.idDe(inicio) < 0) {
             System.out.println("Vértice inicial não encontrado no grafo.");
             return;
         }
 
-        HashSet<V> visitados = new HashSet<>();
-        ListaEncadeada<V> fila = new ListaEncadeada<>();
-
-        fila.add(inicio);
-        visitados.add(inicio);
-
         System.out.println("--- Iniciando BFS a partir de " + inicio + " ---");
-
-        while (!fila.isEmpty()) {
-            V atual = fila.remove(0);
-            System.out.println("Visitando: " + atual);
-
-            ListaEncadeada<Grafo.Vizinho<V>> vizinhos = grafo.getVizinhos(atual);
-            ListaEncadeada<Grafo.Vizinho<V>>.MeuIteradorDeLista iterador = vizinhos.iterador();
-
-            while (iterador.temProximo()) {
-                Grafo.Vizinho<V> vizinho = iterador.proximo();
-                V destino = vizinho.no();
-
-                // Enfileira e marca o vizinho não visitado.
-                if (!visitados.contains(destino)) {
-                    System.out.println("  -> Enfileirando: " + destino);
-                    fila.add(destino);
-                    visitados.add(destino);
-                }
-            }
-        }
-
+        new PercursoEmLargura<>(alvo).executar(inicio, new VisitanteDeImpressao<>("  -> Enfileirando: "));
         System.out.println("--- Fim da BFS ---");
     }
 
@@ -116,6 +119,15 @@ public class BFS<V> {
      * @return Lista com os vértices na ordem de visita.
      */
     public ListaEncadeada<V> getTravessia(V inicio) {
+        if (csr != null) {
+            ListaEncadeada<V> ordemDeVisita = new ListaEncadeada<>();
+            int[] ordem = travessiaCSR(inicio);
+            for (int i = 0; i < ordem.length; i++) {
+                ordemDeVisita.add(csr.rotuloDe(ordem[i]));
+            }
+            return ordemDeVisita;
+        }
+
         ListaEncadeada<V> ordemDeVisita = new ListaEncadeada<>();
         HashSet<V> visitados = new HashSet<>();
 
@@ -150,4 +162,76 @@ public class BFS<V> {
 
         return ordemDeVisita;
     }
+
+    /**
+     * Calcula a distância em número de arestas da origem até cada vértice.
+     * Disponível apenas para a BFS criada a partir de um {@link GrafoCSR}, já que o resultado é indexado por id.
+     *
+     * @param origem Id do vértice de partida.
+     * @return distancias[v] = número de arestas no caminho mais curto até v, ou -1 se v não for alcançável.
+     */
+    public int[] distanciasIds(int origem) {
+        if (csr == null) {
+            throw new IllegalStateException("Distâncias por id exigem a BFS criada a partir de um GrafoCSR.");
+        }
+        int n = csr.getNumeroDeVertices();
+        int[] distancias = new int[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = -1;
+        }
+        int[] fila = new int[n];
+        int cabeca = 0;
+        int cauda = 0;
+
+        fila[cauda++] = origem;
+        distancias[origem] = 0;
+
+        while (cabeca < cauda) {
+            int atual = fila[cabeca++];
+            for (int e = csr.inicio(atual); e < csr.fim(atual); e++) {
+                int destino = csr.alvo(e);
+                if (distancias[destino] == -1) {
+                    distancias[destino] = distancias[atual] + 1;
+                    fila[cauda++] = destino;
+                }
+            }
+        }
+        return distancias;
+    }
+
+    /**
+     * BFS sobre o CSR. O próprio array de saída funciona como fila, pois cada vértice
+     * é enfileirado no máximo uma vez.
+     *
+     * @param inicio Vértice de partida.
+     * @return Ids dos vértices na ordem de visita (vazio se o vértice não existir).
+     */
+    private int[] travessiaCSR(V inicio) {
+        int origem = csr.idDe(inicio);
+        if (origem < 0) {
+            return new int[0];
+        }
+
+        ConjuntoDeBits visitados = new ConjuntoDeBits(csr.getNumeroDeVertices());
+        int[] fila = new int[csr.getNumeroDeVertices()];
+        int cabeca = 0;
+        int cauda = 0;
+
+        fila[cauda++] = origem;
+        visitados.add(origem);
+
+        while (cabeca < cauda) {
+            int atual = fila[cabeca++];
+            for (int e = csr.inicio(atual); e < csr.fim(atual); e++) {
+                int destino = csr.alvo(e);
+                if (visitados.add(destino)) {
+                    fila[cauda++] = destino;
+                }
+            }
+        }
+
+        int[] ordem = new int[cauda];
+        System.arraycopy(fila, 0, ordem, 0, cauda);
+        return ordem;
+    }
 }
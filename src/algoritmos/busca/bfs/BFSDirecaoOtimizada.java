@@ -0,0 +1,160 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+import util.primitivos.ConjuntoDeBits;
+
+/**
+ * BFS com otimização de direção (Beamer, Asanović e Patterson).
+ *
+ * O passo tradicional (top-down) percorre as arestas de saída de cada vértice da fronteira. Em grafos
+ * de diâmetro pequeno, a fronteira do meio da busca contém boa parte do grafo, e quase todas essas
+ * arestas levam a vértices já visitados. O passo bottom-up inverte a busca: cada vértice ainda não
+ * visitado procura, entre as suas arestas de entrada, um pai que esteja na fronteira, e para no
+ * primeiro que encontrar.
+ *
+ * A escolha é feita a cada nível:
+ * - top-down → bottom-up quando a fronteira cresce e m_f > m_u / α, em que m_f é o número de arestas
+ *   que saem da fronteira e m_u o número de arestas que chegam aos vértices não visitados;
+ * - bottom-up → top-down quando a fronteira encolhe e n_f < n / β.
+ *
+ * Fronteira, próxima fronteira e visitados são {@link ConjuntoDeBits}. Em grafos direcionados,
+ * o passo bottom-up usa o grafo transposto ({@link GrafoCSR#transposto()}), montado no construtor.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class BFSDirecaoOtimizada<V> {
+
+    public enum Direcao { TOP_DOWN, BOTTOM_UP }
+
+    public static final double ALFA_PADRAO = 15.0;
+    public static final double BETA_PADRAO = 18.0;
+
+    private final GrafoCSR<V> csr;
+    private final GrafoCSR<V> entrada;
+    private final double alfa;
+    private final double beta;
+
+    public BFSDirecaoOtimizada(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public BFSDirecaoOtimizada(GrafoCSR<V> csr) {
+        this(csr, ALFA_PADRAO, BETA_PADRAO);
+    }
+
+    /**
+     * @param csr  Grafo a percorrer.
+     * @param alfa Quanto maior, mais cedo a busca passa para bottom-up.
+     * @param beta Quanto maior, mais tarde a busca volta para top-down.
+     */
+    public BFSDirecaoOtimizada(GrafoCSR<V> csr, double alfa, double beta) {
+        if (!(alfa > 0) || !(beta > 0)) {
+            throw new IllegalArgumentException("Os limiares alfa e beta devem ser positivos: " + alfa + ", " + beta);
+        }
+        this.csr = csr;
+        this.entrada = csr.transposto();
+        this.alfa = alfa;
+        this.beta = beta;
+    }
+
+    /**
+     * Executa a busca a partir de um vértice.
+     */
+    public ResultadoBFSDirecaoOtimizada<V> executar(V inicio) {
+        int origem = csr.idDe(inicio);
+        if (origem < 0) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + inicio);
+        }
+        return executarIds(origem);
+    }
+
+    /**
+     * Versão por ids de {@link #executar(Object)}.
+     */
+    public ResultadoBFSDirecaoOtimizada<V> executarIds(int origem) {
+        int n = csr.getNumeroDeVertices();
+        int[] distancias = new int[n];
+        int[] pais = new int[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = ResultadoBFS.NAO_ALCANCADO;
+            pais[v] = ResultadoBFS.NAO_ALCANCADO;
+        }
+        ConjuntoDeBits visitados = new ConjuntoDeBits(n);
+        ConjuntoDeBits fronteira = new ConjuntoDeBits(n);
+        ConjuntoDeBits proxima = new ConjuntoDeBits(n);
+        ListaEncadeada<ResultadoBFSDirecaoOtimizada.Nivel> niveis = new ListaEncadeada<>();
+
+        distancias[origem] = 0;
+        visitados.add(origem);
+        fronteira.add(origem);
+
+        // m_u: arestas de entrada dos vértices ainda não visitados (o custo de um passo bottom-up completo).
+        long arestasNaoExploradas = entrada.getNumeroDeArcos() - entrada.grau(origem);
+        // m_f: arestas de saída da fronteira (o custo do próximo passo top-down).
+        long arestasDaFronteira = csr.grau(origem);
+        int tamanhoAnterior = 0;
+        Direcao direcao = Direcao.TOP_DOWN;
+
+        for (int nivel = 0; !fronteira.isEmpty(); nivel++) {
+            int tamanho = fronteira.size();
+            boolean crescendo = tamanho > tamanhoAnterior;
+            if (direcao == Direcao.TOP_DOWN && crescendo && arestasDaFronteira > arestasNaoExploradas / alfa) {
+                direcao = Direcao.BOTTOM_UP;
+            } else if (direcao == Direcao.BOTTOM_UP && !crescendo && tamanho < n / beta) {
+                direcao = Direcao.TOP_DOWN;
+            }
+
+            long examinadas = 0;
+            if (direcao == Direcao.TOP_DOWN) {
+                for (int u = fronteira.proximo(0); u != -1; u = fronteira.proximo(u + 1)) {
+                    for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                        int v = csr.alvo(e);
+                        examinadas++;
+                        if (visitados.add(v)) {
+                            distancias[v] = nivel + 1;
+                            pais[v] = u;
+                            proxima.add(v);
+                        }
+                    }
+                }
+            } else {
+                for (int v = 0; v < n; v++) {
+                    if (visitados.contains(v)) continue;
+                    for (int e = entrada.inicio(v); e < entrada.fim(v); e++) {
+                        int u = entrada.alvo(e);
+                        examinadas++;
+                        // Basta um pai na fronteira; as demais arestas de v não precisam ser lidas.
+                        if (fronteira.contains(u)) {
+                            visitados.add(v);
+                            distancias[v] = nivel + 1;
+                            pais[v] = u;
+                            proxima.add(v);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            arestasDaFronteira = 0;
+            for (int v = proxima.proximo(0); v != -1; v = proxima.proximo(v + 1)) {
+                arestasDaFronteira += csr.grau(v);
+                arestasNaoExploradas -= entrada.grau(v);
+            }
+            niveis.addLast(new ResultadoBFSDirecaoOtimizada.Nivel(nivel, direcao, tamanho, examinadas, proxima.size()));
+
+            ConjuntoDeBits troca = fronteira;
+            fronteira = proxima;
+            proxima = troca;
+            proxima.clear();
+            tamanhoAnterior = tamanho;
+        }
+
+        return new ResultadoBFSDirecaoOtimizada<>(csr, origem, distancias, pais, visitados.size(), niveis);
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
@@ -0,0 +1,111 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class BFSDirecaoOtimizadaRun {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo diretamente no formato CSR ---
+        String caminhoArquivo = "src/algoritmos/busca/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        String verticeInicial = "A";
+        ResultadoBFSDirecaoOtimizada<String> pequeno = new BFSDirecaoOtimizada<>(grafo).executar(verticeInicial);
+        System.out.println("--- BFS com otimização de direção a partir de '" + verticeInicial + "' ---");
+        for (int v = 0; v < grafo.getNumeroDeVertices(); v++) {
+            System.out.println("Vértice " + grafo.rotuloDe(v) + ": distância " + pequeno.distanciaId(v));
+        }
+        System.out.print(pequeno.formatarNiveis());
+
+        // --- ETAPA 2: Grafo de lei de potência, onde a fronteira cresce rápido ---
+        int n = 1 << 18;
+        int grauMedio = 16;
+        GrafoCSR<Integer> potencia = gerarGrafoRMAT(n, n * grauMedio / 2, 42);
+        System.out.println("\n--- Grafo R-MAT com " + n + " vértices e " + potencia.getNumeroDeArcos() + " arcos ---");
+
+        BFS<Integer> bfs = new BFS<>(potencia);
+        BFSDirecaoOtimizada<Integer> otimizada = new BFSDirecaoOtimizada<>(potencia);
+        // Com alfa muito pequeno a busca nunca passa para bottom-up: serve de referência só top-down.
+        BFSDirecaoOtimizada<Integer> soTopDown = new BFSDirecaoOtimizada<>(potencia, 1e-9, BFSDirecaoOtimizada.BETA_PADRAO);
+        int origem = maiorGrau(potencia);
+        for (int aquecimento = 0; aquecimento < 3; aquecimento++) {
+            bfs.distanciasIds(origem);
+            otimizada.executarIds(origem);
+            soTopDown.executarIds(origem);
+        }
+
+        long inicio = System.nanoTime();
+        int[] referencia = bfs.distanciasIds(origem);
+        double msBfs = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ResultadoBFSDirecaoOtimizada<Integer> topDown = soTopDown.executarIds(origem);
+        double msTopDown = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ResultadoBFSDirecaoOtimizada<Integer> resultado = otimizada.executarIds(origem);
+        double msOtimizada = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        System.out.print(resultado.formatarNiveis());
+        boolean iguais = true;
+        for (int v = 0; v < n; v++) {
+            iguais &= resultado.distanciaId(v) == referencia[v];
+        }
+        System.out.printf("BFS com fila:           %.1f ms%n", msBfs);
+        System.out.printf("Só top-down (bitsets):  %.1f ms | arestas lidas %d%n", msTopDown, topDown.getArestasExaminadas());
+        System.out.printf("Otimização de direção:  %.1f ms | arestas lidas %d%n", msOtimizada, resultado.getArestasExaminadas());
+        System.out.println("Distâncias iguais: " + iguais);
+    }
+
+    private static int maiorGrau(GrafoCSR<?> grafo) {
+        int melhor = 0;
+        for (int v = 1; v < grafo.getNumeroDeVertices(); v++) {
+            if (grafo.grau(v) > grafo.grau(melhor)) melhor = v;
+        }
+        return melhor;
+    }
+
+    /**
+     * Grafo não direcionado R-MAT (Chakrabarti et al.): cada aresta escolhe recursivamente um dos quatro
+     * quadrantes da matriz de adjacência com probabilidades 0,57 / 0,19 / 0,19 / 0,05, o que gera graus
+     * com distribuição de lei de potência e diâmetro pequeno. n deve ser potência de 2.
+     */
+    private static GrafoCSR<Integer> gerarGrafoRMAT(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        int bits = Integer.numberOfTrailingZeros(n);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            int u = 0;
+            int v = 0;
+            for (int b = 0; b < bits; b++) {
+                double p = aleatorio.nextDouble();
+                int bitU = p >= 0.76 ? 1 : 0;                    // quadrantes de baixo: 0,19 + 0,05
+                int bitV = (p >= 0.57 && p < 0.76) || p >= 0.95 ? 1 : 0; // quadrantes da direita: 0,19 + 0,05
+                u = (u << 1) | bitU;
+                v = (v << 1) | bitV;
+            }
+            origens[i] = u;
+            destinos[i] = v;
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, false);
+    }
+}
@@ -0,0 +1,164 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+
+/**
+ * BFS de múltiplas origens em paralelo de bits (MS-BFS).
+ *
+ * Em vez de uma BFS por origem, até 64 · k origens são percorridas juntas: cada vértice guarda k
+ * palavras {@code long} em que o bit i indica a origem i. A cada nível, a fronteira de um vértice é
+ * propagada aos vizinhos com um OR, e os bits novos (ainda não vistos) formam a próxima fronteira.
+ * Quando várias buscas passam pelo mesmo vértice no mesmo nível, as arestas dele são lidas uma vez
+ * só para todas, o que reduz as passadas pela adjacência em relação a uma BFS por origem.
+ *
+ * As distâncias são em número de arestas (os pesos são ignorados) e seguem o sentido das arestas.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class BFSMultiplasOrigens<V> {
+
+    private final GrafoCSR<V> csr;
+    private final int palavrasPorVertice;
+
+    public BFSMultiplasOrigens(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public BFSMultiplasOrigens(GrafoCSR<V> csr) {
+        this(csr, 1);
+    }
+
+    /**
+     * @param csr                Grafo a percorrer.
+     * @param palavrasPorVertice Quantidade k de palavras de 64 bits por vértice; cada lote tem até 64 · k origens.
+     */
+    public BFSMultiplasOrigens(GrafoCSR<V> csr, int palavrasPorVertice) {
+        if (palavrasPorVertice <= 0) {
+            throw new IllegalArgumentException("A quantidade de palavras por vértice deve ser positiva: " + palavrasPorVertice);
+        }
+        this.csr = csr;
+        this.palavrasPorVertice = palavrasPorVertice;
+    }
+
+    /**
+     * Calcula as distâncias em saltos a partir de cada origem da lista.
+     *
+     * @return distancias[i][v] = distância da i-ésima origem até o vértice de id v, ou -1 se inalcançável.
+     */
+    public int[][] distancias(ListaEncadeada<V> origens) {
+        int[] ids = new int[origens.size()];
+        ListaEncadeada<V>.MeuIteradorDeLista iterador = origens.iterador();
+        int i = 0;
+        while (iterador.temProximo()) {
+            V origem = iterador.proximo();
+            ids[i] = csr.idDe(origem);
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Vértice não encontrado no grafo: " + origem);
+            }
+            i++;
+        }
+        return distanciasIds(ids);
+    }
+
+    /**
+     * Versão por ids de {@link #distancias(ListaEncadeada)}. Guarda uma linha de n inteiros por origem;
+     * para muitas origens, {@link #calcular(int[], ConsumidorDeDistancias)} evita manter todas na memória.
+     */
+    public int[][] distanciasIds(int[] origens) {
+        int[][] distancias = new int[origens.length][];
+        calcular(origens, (indice, linha) -> distancias[indice] = linha);
+        return distancias;
+    }
+
+    /**
+     * Percorre as origens em lotes de até 64 · k e entrega as distâncias de cada uma ao consumidor
+     * assim que o lote dela termina.
+     */
+    public void calcular(int[] origens, ConsumidorDeDistancias consumidor) {
+        int tamanhoDoLote = 64 * palavrasPorVertice;
+        for (int inicio = 0; inicio < origens.length; inicio += tamanhoDoLote) {
+            int fim = Math.min(origens.length, inicio + tamanhoDoLote);
+            int[][] lote = executarLote(origens, inicio, fim);
+            for (int i = 0; i < lote.length; i++) {
+                consumidor.aceitar(inicio + i, lote[i]);
+            }
+        }
+    }
+
+    /**
+     * Executa uma BFS simultânea para as origens [inicio, fim). A origem inicio + i usa o bit i.
+     */
+    private int[][] executarLote(int[] origens, int inicio, int fim) {
+        int n = csr.getNumeroDeVertices();
+        int k = palavrasPorVertice;
+        int quantidade = fim - inicio;
+
+        int[][] distancias = new int[quantidade][n];
+        for (int i = 0; i < quantidade; i++) {
+            for (int v = 0; v < n; v++) {
+                distancias[i][v] = -1;
+            }
+        }
+
+        // As k palavras de cada vértice ficam contíguas: posição v * k + palavra.
+        long[] vistos = new long[n * k];
+        long[] fronteira = new long[n * k];
+        long[] proxima = new long[n * k];
+        for (int i = 0; i < quantidade; i++) {
+            int s = origens[inicio + i];
+            long bit = 1L << (i & 63);
+            vistos[s * k + (i >>> 6)] |= bit;
+            fronteira[s * k + (i >>> 6)] |= bit;
+            distancias[i][s] = 0;
+        }
+
+        boolean ativa = quantidade > 0;
+        for (int nivel = 1; ativa; nivel++) {
+            // Propaga a fronteira de cada vértice para os vizinhos: uma leitura das arestas por vértice,
+            // para todas as buscas que o têm na fronteira.
+            for (int u = 0; u < n; u++) {
+                int base = u * k;
+                boolean temFronteira = false;
+                for (int p = 0; p < k; p++) {
+                    if (fronteira[base + p] != 0) {
+                        temFronteira = true;
+                        break;
+                    }
+                }
+                if (!temFronteira) continue;
+                for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                    int destino = csr.alvo(e) * k;
+                    for (int p = 0; p < k; p++) {
+                        proxima[destino + p] |= fronteira[base + p];
+                    }
+                }
+            }
+
+            // Só os bits que o vértice ainda não tinha visto formam a próxima fronteira.
+            ativa = false;
+            for (int v = 0; v < n; v++) {
+                int base = v * k;
+                for (int p = 0; p < k; p++) {
+                    long novos = proxima[base + p] & ~vistos[base + p];
+                    proxima[base + p] = 0;
+                    fronteira[base + p] = novos;
+                    if (novos == 0) continue;
+                    ativa = true;
+                    vistos[base + p] |= novos;
+                    while (novos != 0) {
+                        int i = (p << 6) + Long.numberOfTrailingZeros(novos);
+                        distancias[i][v] = nivel;
+                        novos &= novos - 1;
+                    }
+                }
+            }
+        }
+        return distancias;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
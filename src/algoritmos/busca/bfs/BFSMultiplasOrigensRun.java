@@ -0,0 +1,101 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class BFSMultiplasOrigensRun {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo diretamente no formato CSR ---
+        String caminhoArquivo = "src/algoritmos/busca/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Distâncias a partir de todos os vértices em um único lote ---
+        int n = grafo.getNumeroDeVertices();
+        int[] todas = new int[n];
+        for (int v = 0; v < n; v++) {
+            todas[v] = v;
+        }
+        BFSMultiplasOrigens<String> msbfs = new BFSMultiplasOrigens<>(grafo);
+        int[][] distancias = msbfs.distanciasIds(todas);
+        System.out.println("--- Excentricidade de cada vértice (MS-BFS com " + n + " origens) ---");
+        for (int s = 0; s < n; s++) {
+            int excentricidade = 0;
+            for (int v = 0; v < n; v++) {
+                excentricidade = Math.max(excentricidade, distancias[s][v]);
+            }
+            System.out.println("Vértice " + grafo.rotuloDe(s) + ": " + excentricidade);
+        }
+
+        // --- ETAPA 3: Grafo aleatório maior, comparando com uma BFS por origem ---
+        int vertices = 100_000;
+        int arestas = 400_000;
+        int origens = 512;
+        GrafoCSR<Integer> aleatorio = gerarGrafoAleatorio(vertices, arestas, 42);
+        int[] sorteadas = new int[origens];
+        Random sorteio = new Random(7);
+        for (int i = 0; i < origens; i++) {
+            sorteadas[i] = sorteio.nextInt(vertices);
+        }
+        System.out.println("\n--- Grafo aleatório com " + vertices + " vértices, " + arestas + " arestas e "
+                + origens + " origens ---");
+
+        BFS<Integer> bfs = new BFS<>(aleatorio);
+        long inicio = System.nanoTime();
+        long somaSimples = 0;
+        for (int i = 0; i < origens; i++) {
+            for (int d : bfs.distanciasIds(sorteadas[i])) {
+                somaSimples += d;
+            }
+        }
+        System.out.printf("Uma BFS por origem:        %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        long[] somaMultipla = new long[1];
+        inicio = System.nanoTime();
+        new BFSMultiplasOrigens<>(aleatorio).calcular(sorteadas, (indice, linha) -> {
+            for (int d : linha) {
+                somaMultipla[0] += d;
+            }
+        });
+        System.out.printf("MS-BFS (64 por lote):      %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        long[] somaLarga = new long[1];
+        inicio = System.nanoTime();
+        new BFSMultiplasOrigens<>(aleatorio, 4).calcular(sorteadas, (indice, linha) -> {
+            for (int d : linha) {
+                somaLarga[0] += d;
+            }
+        });
+        System.out.printf("MS-BFS (256 por lote):     %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+        System.out.println("Distâncias iguais: " + (somaSimples == somaMultipla[0] && somaSimples == somaLarga[0]));
+    }
+
+    /** Grafo não direcionado aleatório com pesos unitários. */
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, false);
+    }
+}
@@ -0,0 +1,186 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.hashSet.HashSet;
+import util.paralelo.LacoParalelo;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * BFS paralela síncrona por nível.
+ *
+ * Cada nível da fronteira é dividido em blocos de {@link #TAMANHO_DO_BLOCO} vértices, expandidos por
+ * tarefas de um {@link ForkJoinPool}. Um vértice é reivindicado com compare-and-set no array de
+ * distâncias (-1 → nível), então apenas uma thread o coloca na próxima fronteira e define o seu pai.
+ * Cada bloco grava os vértices descobertos em um buffer próprio; no fim do nível, uma soma de
+ * prefixos dá a posição de cada buffer e eles são copiados em paralelo para a próxima fronteira,
+ * sem travas.
+ *
+ * Os vértices visitados e as distâncias são os mesmos da {@link BFS} sequencial; o pai escolhido
+ * para cada vértice pode variar entre execuções, mas está sempre no nível anterior.
+ *
+ * A instância não guarda estado entre consultas, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class BFSParalela<V> {
+
+    /** Vértices da fronteira por tarefa. Fronteiras menores que um bloco são expandidas pela própria thread. */
+    private static final int TAMANHO_DO_BLOCO = 1024;
+
+    private final GrafoCSR<V> csr;
+    private final ForkJoinPool pool;
+
+    public BFSParalela(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public BFSParalela(GrafoCSR<V> csr) {
+        this(csr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csr  Grafo a percorrer.
+     * @param pool Pool em que as fronteiras grandes são expandidas.
+     */
+    public BFSParalela(GrafoCSR<V> csr, ForkJoinPool pool) {
+        this.csr = csr;
+        this.pool = pool;
+    }
+
+    /**
+     * Executa a BFS a partir de um vértice inicial.
+     *
+     * @param inicio Vértice de partida.
+     * @return Conjunto de vértices visitados (vazio se o vértice não existir), como em {@link BFS#executar(Object)}.
+     */
+    public HashSet<V> executar(V inicio) {
+        int origem = csr.idDe(inicio);
+        if (origem < 0) {
+            return new HashSet<>();
+        }
+        return executarIds(origem).getVisitados();
+    }
+
+    /**
+     * Executa a BFS a partir de um id e retorna distâncias e pais.
+     */
+    public ResultadoBFS<V> executarIds(int origem) {
+        int n = csr.getNumeroDeVertices();
+        AtomicIntegerArray marcas = novasMarcas(n);
+        int[] pais = new int[n];
+        for (int v = 0; v < n; v++) {
+            pais[v] = ResultadoBFS.NAO_ALCANCADO;
+        }
+        marcas.set(origem, 0);
+        int visitados = percorrer(origem, marcas, -1, pais);
+
+        int[] distancias = new int[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = marcas.get(v);
+        }
+        return new ResultadoBFS<>(csr, origem, distancias, pais, visitados);
+    }
+
+    /**
+     * Mesmo contrato de {@link BFS#distanciasIds(int)}.
+     */
+    public int[] distanciasIds(int origem) {
+        return executarIds(origem).getDistancias();
+    }
+
+    /**
+     * Grava {@code marca} em todos os vértices ainda não marcados (valor -1) alcançáveis a partir da origem
+     * sem passar por vértices já marcados. Com o mesmo array em chamadas sucessivas, cada chamada rotula
+     * um componente, e o custo de cada uma é proporcional ao componente, não a n.
+     *
+     * @param marcas Array de n posições, com -1 nos vértices livres.
+     * @param marca  Valor não negativo gravado nos vértices alcançados.
+     * @return Quantidade de vértices marcados (0 se a origem já estava marcada).
+     */
+    public int marcarAlcancaveis(int origem, AtomicIntegerArray marcas, int marca) {
+        if (marca < 0) {
+            throw new IllegalArgumentException("A marca deve ser não negativa: " + marca);
+        }
+        if (!marcas.compareAndSet(origem, -1, marca)) {
+            return 0;
+        }
+        return percorrer(origem, marcas, marca, null);
+    }
+
+    /**
+     * Laço de níveis. Com {@code marcaFixa} negativa, cada vértice recebe o número do seu nível (a distância).
+     *
+     * @return Quantidade de vértices reivindicados, a origem inclusive.
+     */
+    private int percorrer(int origem, AtomicIntegerArray marcas, int marcaFixa, int[] pais) {
+        int[] fronteira = {origem};
+        int tamanho = 1;
+        int total = 1;
+
+        for (int nivel = 0; tamanho > 0; nivel++) {
+            int marca = marcaFixa >= 0 ? marcaFixa : nivel + 1;
+            int blocos = LacoParalelo.numeroDeBlocos(tamanho, TAMANHO_DO_BLOCO);
+            ListaDeInteiros[] buffers = new ListaDeInteiros[blocos];
+            int[] atual = fronteira;
+            LacoParalelo.paraCadaBloco(pool, tamanho, TAMANHO_DO_BLOCO,
+                    (bloco, inicio, fim) -> buffers[bloco] = expandir(atual, inicio, fim, marcas, marca, pais));
+
+            // Soma de prefixos: posição de cada buffer na próxima fronteira.
+            int[] posicoes = new int[blocos + 1];
+            for (int b = 0; b < blocos; b++) {
+                posicoes[b + 1] = posicoes[b] + buffers[b].size();
+            }
+            int[] proxima = new int[posicoes[blocos]];
+            // Cada buffer é copiado, em paralelo, para a posição dada pela soma de prefixos.
+            LacoParalelo.paraCadaBloco(pool, blocos, 1,
+                    (bloco, inicio, fim) -> copiar(buffers[bloco], proxima, posicoes[bloco]));
+
+            fronteira = proxima;
+            tamanho = proxima.length;
+            total += tamanho;
+        }
+        return total;
+    }
+
+    /** Expande os vértices fronteira[inicio, fim) e devolve os que esta chamada reivindicou. */
+    private ListaDeInteiros expandir(int[] fronteira, int inicio, int fim, AtomicIntegerArray marcas,
+                                     int marca, int[] pais) {
+        ListaDeInteiros descobertos = new ListaDeInteiros();
+        for (int i = inicio; i < fim; i++) {
+            int u = fronteira[i];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                // A leitura simples descarta os já visitados sem o custo do CAS.
+                if (marcas.get(v) == -1 && marcas.compareAndSet(v, -1, marca)) {
+                    if (pais != null) {
+                        pais[v] = u;
+                    }
+                    descobertos.add(v);
+                }
+            }
+        }
+        return descobertos;
+    }
+
+    private static void copiar(ListaDeInteiros origem, int[] destino, int posicao) {
+        for (int i = 0; i < origem.size(); i++) {
+            destino[posicao + i] = origem.get(i);
+        }
+    }
+
+    private static AtomicIntegerArray novasMarcas(int n) {
+        AtomicIntegerArray marcas = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            marcas.set(v, -1);
+        }
+        return marcas;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
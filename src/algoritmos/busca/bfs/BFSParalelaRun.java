@@ -0,0 +1,81 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.hashSet.HashSet;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BFSParalelaRun {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo diretamente no formato CSR ---
+        String caminhoArquivo = "src/algoritmos/busca/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        String verticeInicial = "A";
+        HashSet<String> visitados = new BFSParalela<>(grafo).executar(verticeInicial);
+        System.out.println("Vértices alcançados a partir de '" + verticeInicial + "': " + visitados.size()
+                + " (BFS sequencial: " + new BFS<>(grafo).executar(verticeInicial).size() + ")");
+
+        // --- ETAPA 2: Grafo aleatório grande ---
+        int n = 1_000_000;
+        int arestas = 5_000_000;
+        GrafoCSR<Integer> grande = gerarGrafoAleatorio(n, arestas, 7);
+        System.out.println("\n--- Grafo aleatório com " + n + " vértices e " + grande.getNumeroDeArcos() + " arcos ---");
+        System.out.println("Threads no pool: " + ForkJoinPool.commonPool().getParallelism());
+
+        BFS<Integer> sequencial = new BFS<>(grande);
+        BFSParalela<Integer> paralela = new BFSParalela<>(grande);
+        for (int aquecimento = 0; aquecimento < 3; aquecimento++) {
+            sequencial.distanciasIds(0);
+            paralela.distanciasIds(0);
+        }
+
+        long inicio = System.nanoTime();
+        int[] referencia = sequencial.distanciasIds(0);
+        double msSequencial = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ResultadoBFS<Integer> resultado = paralela.executarIds(0);
+        double msParalela = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        boolean iguais = true;
+        int profundidade = 0;
+        for (int v = 0; v < n; v++) {
+            iguais &= resultado.distanciaId(v) == referencia[v];
+            profundidade = Math.max(profundidade, referencia[v]);
+        }
+        System.out.printf("BFS sequencial: %.1f ms%n", msSequencial);
+        System.out.printf("BFS paralela:   %.1f ms%n", msParalela);
+        System.out.println("Visitados: " + resultado.getNumeroDeVisitados() + " | níveis: " + (profundidade + 1)
+                + " | distâncias iguais: " + iguais);
+    }
+
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, false);
+    }
+}
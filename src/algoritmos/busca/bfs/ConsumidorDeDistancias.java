@@ -0,0 +1,15 @@
+package algoritmos.busca.bfs;
+
+/**
+ * Recebe as distâncias em saltos calculadas a partir de uma origem por {@link BFSMultiplasOrigens}.
+ * O array pertence ao consumidor depois da chamada.
+ */
+@FunctionalInterface
+public interface ConsumidorDeDistancias {
+
+    /**
+     * @param indice     Posição da origem no array de origens passado à busca.
+     * @param distancias distancias[v] = número de arestas no caminho mais curto até v, ou -1 se inalcançável.
+     */
+    void aceitar(int indice, int[] distancias);
+}
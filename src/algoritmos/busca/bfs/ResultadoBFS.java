@@ -0,0 +1,91 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.GrafoCSR;
+import util.hashSet.HashSet;
+
+/**
+ * Resultado de uma BFS sobre ids densos: distância em número de arestas e pai na árvore de busca
+ * de cada vértice. Compartilhado pelas variantes da BFS sobre {@link GrafoCSR}, para que os
+ * resultados possam ser comparados diretamente.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ResultadoBFS<V> {
+
+    /** Valor de distância e de pai para vértices não alcançados (e de pai para a origem). */
+    public static final int NAO_ALCANCADO = -1;
+
+    private final GrafoCSR<V> csr;
+    private final int origem;
+    private final int[] distancias;
+    private final int[] pais;
+    private final int visitados;
+
+    public ResultadoBFS(GrafoCSR<V> csr, int origem, int[] distancias, int[] pais, int visitados) {
+        this.csr = csr;
+        this.origem = origem;
+        this.distancias = distancias;
+        this.pais = pais;
+        this.visitados = visitados;
+    }
+
+    public int getOrigemId() {
+        return origem;
+    }
+
+    /** Número de arestas no caminho mais curto até o vértice, ou {@link #NAO_ALCANCADO}. */
+    public int distancia(V vertice) {
+        return distancias[idObrigatorio(vertice)];
+    }
+
+    public int distanciaId(int v) {
+        return distancias[v];
+    }
+
+    public boolean alcancavel(V vertice) {
+        return distancias[idObrigatorio(vertice)] != NAO_ALCANCADO;
+    }
+
+    /** Id do pai de v na árvore da BFS, ou {@link #NAO_ALCANCADO}. */
+    public int paiId(int v) {
+        return pais[v];
+    }
+
+    /** Conjunto de vértices alcançados, o mesmo que {@link BFS#executar(Object)} retorna. */
+    public HashSet<V> getVisitados() {
+        HashSet<V> conjunto = new HashSet<>();
+        for (int v = 0; v < distancias.length; v++) {
+            if (distancias[v] != NAO_ALCANCADO) {
+                conjunto.add(csr.rotuloDe(v));
+            }
+        }
+        return conjunto;
+    }
+
+    /** Quantidade de vértices alcançados (a origem inclusive). */
+    public int getNumeroDeVisitados() {
+        return visitados;
+    }
+
+    /** Array de distâncias indexado por id (sem cópia). */
+    public int[] getDistancias() {
+        return distancias;
+    }
+
+    /** Array de pais indexado por id (sem cópia). */
+    public int[] getPais() {
+        return pais;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,60 @@
+package algoritmos.busca.bfs;
+
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+
+/**
+ * Resultado da {@link BFSDirecaoOtimizada}: além das distâncias e pais, guarda as estatísticas de
+ * cada nível, mostrando em que direção ele foi processado e quantas arestas foram examinadas.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ResultadoBFSDirecaoOtimizada<V> extends ResultadoBFS<V> {
+
+    /**
+     * Estatísticas de um nível da busca.
+     *
+     * @param nivel               Distância dos vértices da fronteira processada.
+     * @param direcao             Direção usada para expandir a fronteira.
+     * @param verticesNaFronteira Tamanho da fronteira.
+     * @param arestasExaminadas   Arestas lidas durante o passo.
+     * @param descobertos         Vértices alcançados pela primeira vez (a próxima fronteira).
+     */
+    public static record Nivel(int nivel, BFSDirecaoOtimizada.Direcao direcao, int verticesNaFronteira,
+                               long arestasExaminadas, int descobertos) {}
+
+    private final ListaEncadeada<Nivel> niveis;
+
+    ResultadoBFSDirecaoOtimizada(GrafoCSR<V> csr, int origem, int[] distancias, int[] pais, int visitados,
+                                 ListaEncadeada<Nivel> niveis) {
+        super(csr, origem, distancias, pais, visitados);
+        this.niveis = niveis;
+    }
+
+    public ListaEncadeada<Nivel> getNiveis() {
+        return niveis;
+    }
+
+    /** Soma das arestas examinadas em todos os níveis. */
+    public long getArestasExaminadas() {
+        long total = 0;
+        ListaEncadeada<Nivel>.MeuIteradorDeLista iterador = niveis.iterador();
+        while (iterador.temProximo()) {
+            total += iterador.proximo().arestasExaminadas();
+        }
+        return total;
+    }
+
+    /** Tabela com uma linha por nível. */
+    public String formatarNiveis() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%5s  %-10s %12s %18s %12s%n", "Nível", "Direção", "Fronteira", "Arestas lidas", "Descobertos"));
+        ListaEncadeada<Nivel>.MeuIteradorDeLista iterador = niveis.iterador();
+        while (iterador.temProximo()) {
+            Nivel nivel = iterador.proximo();
+            sb.append(String.format("%5d  %-10s %12d %18d %12d%n", nivel.nivel(), nivel.direcao(),
+                    nivel.verticesNaFronteira(), nivel.arestasExaminadas(), nivel.descobertos()));
+        }
+        return sb.toString();
+    }
+}
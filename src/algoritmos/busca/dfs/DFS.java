@@ -1,114 +1,112 @@
 package algoritmos.busca.dfs;
 
+import algoritmos.busca.percurso.PercursoEmProfundidade;
+import algoritmos.busca.percurso.VisitanteDeImpressao;
+import algoritmos.busca.percurso.VisitanteGrafo;
 import graph_structure.Grafo;
-import util.hashSet.HashSet;
+import graph_structure.GrafoCSR;
 import util.lista.ListaEncadeada;
-import util.pilha.Pilha;
 
 /**
- * Implementação da Busca em Profundidade (DFS) nas versões recursiva e iterativa.
+ * Implementação da Busca em Profundidade (DFS).
  * Não utiliza bibliotecas da API padrão Java.
  *
+ * A travessia é feita pelo {@link PercursoEmProfundidade}, que entrega cada evento a um
+ * {@link VisitanteGrafo}. A impressão no console é apenas um desses visitantes.
+ *
  * @param <V> Tipo dos vértices do grafo.
  */
 public class DFS<V> {
 
     private final Grafo<V> grafo;
-    private final HashSet<V> visitados; // Controla os vértices visitados na versão recursiva.
+    private final GrafoCSR<V> csr; // Representação compacta, quando a DFS é criada a partir de um GrafoCSR.
 
     /**
      * Construtor que inicializa a estrutura com o grafo alvo da busca.
+     * O grafo é congelado em CSR a cada busca, para refletir alterações feitas depois da construção.
      *
      * @param grafo Grafo a ser explorado pela DFS.
      */
     public DFS(Grafo<V> grafo) {
         this.grafo = grafo;
-        this.visitados = new HashSet<>();
+        this.csr = null;
     }
 
     /**
-     * Executa a DFS na versão recursiva a partir de um vértice inicial.
+     * Construtor que utiliza a representação compacta (CSR) do grafo.
      *
-     * @param inicio Vértice de início da busca.
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
      */
-    public void executarRecursivo(V inicio) {
-        // Verifica se o vértice inicial existe no grafo.
-        if (!grafo.getVertices().contains(inicio)) {
-            System.out.println("Vértice inicial não encontrado no grafo.");
-            return;
-        }
-
-        // Limpa o conjunto de visitados antes de iniciar a busca.
-        visitados.clear();
-        System.out.println("--- Iniciando DFS Recursiva ---");
-        dfsVisit(inicio);
+    public DFS(GrafoCSR<V> csr) {
+        this.grafo = null;
+        this.csr = csr;
     }
 
     /**
-     * Método auxiliar recursivo para visitar os vértices.
+     * Executa a DFS a partir de um vértice inicial e imprime a ordem de visitação.
+     * A ordem é a da versão recursiva: cada vizinho é explorado por completo antes do próximo.
      *
-     * @param vertice Vértice atual sendo visitado.
+     * @param inicio Vértice de início da busca.
      */
-    private void dfsVisit(V vertice) {
-        visitados.add(vertice);
-        System.out.println("Visitando: " + vertice);
-
-        ListaEncadeada<Grafo.Vizinho<V>> vizinhos = grafo.getVizinhos(vertice);
-        ListaEncadeada<Grafo.Vizinho<V>>.MeuIteradorDeLista iterador = vizinhos.iterador();
-
-        while (iterador.temProximo()) {
-            Grafo.Vizinho<V> vizinho = iterador.proximo();
-            V destino = vizinho.no();
-
-            // Visita recursivamente os vizinhos ainda não visitados.
-            if (!visitados.contains(destino)) {
-                dfsVisit(destino);
-            }
+    public void executarRecursivo(V inicio) {
+        GrafoCSR<V> alvo = grafoCSR();
+        if (alvo.idDe(inicio) < 0) {
+            System.out.println("Vértice inicial não encontrado no grafo.");
+            return;
         }
+        System.out.println("--- Iniciando DFS Recursiva ---");
+        new PercursoEmProfundidade<>(alvo).executar(inicio, new VisitanteDeImpressao<>());
     }
 
     /**
-     * Executa a DFS na versão iterativa a partir de um vértice inicial.
+     * Executa a DFS a partir de um vértice inicial e imprime a ordem de visitação.
+     * O motor usa uma pilha explícita, então grafos profundos não estouram a pilha de chamadas.
      *
      * @param inicio Vértice de início da busca.
      */
     public void executarIterativo(V inicio) {
-        // Verifica se o vértice inicial existe no grafo.
-        if (!grafo.getVertices().contains(inicio)) {
+        GrafoCSR<V> alvo = grafoCSR();
+        if (alvo.idDe(inicio) < 0) {
             System.out.println("Vértice inicial não encontrado no grafo.");
             return;
         }
+        new PercursoEmProfundidade<>(alvo).executar(inicio, new VisitanteDeImpressao<>());
+    }
 
-        HashSet<V> visitadosLocal = new HashSet<>(); // Conjunto local para controle de visitados.
-        Pilha<V> pilha = new Pilha<>();
-
-        pilha.push(inicio);
-
-        while (!pilha.isEmpty()) {
-            V atual = pilha.pop();
-
-            if (!visitadosLocal.contains(atual)) {
-                visitadosLocal.add(atual);
-                System.out.println("Visitando: " + atual);
-
-                ListaEncadeada<Grafo.Vizinho<V>> vizinhos = grafo.getVizinhos(atual);
-
-                // Empilha os vizinhos em ordem inversa para manter a ordem de visita igual à versão recursiva.
-                ListaEncadeada<V> vizinhosParaEmpilhar = new ListaEncadeada<>();
-                ListaEncadeada<Grafo.Vizinho<V>>.MeuIteradorDeLista iterador = vizinhos.iterador();
-
-                while (iterador.temProximo()) {
-                    Grafo.Vizinho<V> vizinho = iterador.proximo();
-                    if (!visitadosLocal.contains(vizinho.no())) {
-                        vizinhosParaEmpilhar.add(vizinho.no());
-                    }
-                }
+    /**
+     * Executa a DFS entregando os eventos ao visitante.
+     *
+     * @param inicio     Vértice de início da busca.
+     * @param visitante  Recebe descoberta, finalização e a classificação de cada aresta.
+     * @return true se a busca terminou, false se o visitante pediu para parar.
+     */
+    public boolean percorrer(V inicio, VisitanteGrafo<V> visitante) {
+        return new PercursoEmProfundidade<>(grafoCSR()).executar(inicio, visitante);
+    }
 
-                // Empilha os vizinhos de trás para frente.
-                for (int i = vizinhosParaEmpilhar.size() - 1; i >= 0; i--) {
-                    pilha.push(vizinhosParaEmpilhar.get(i));
-                }
-            }
+    /**
+     * Executa a DFS e retorna os vértices em ordem de descoberta (pré-ordem).
+     *
+     * @param inicio Vértice de partida.
+     * @return Lista com os vértices na ordem de visita (vazia se o vértice não existir).
+     */
+    public ListaEncadeada<V> getTravessia(V inicio) {
+        GrafoCSR<V> alvo = grafoCSR();
+        ListaEncadeada<V> ordemDeVisita = new ListaEncadeada<>();
+        if (alvo.idDe(inicio) < 0) {
+            return ordemDeVisita;
         }
+        new PercursoEmProfundidade<>(alvo).executar(inicio, new VisitanteGrafo<V>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                ordemDeVisita.add(alvo.rotuloDe(vertice));
+                return Acao.CONTINUAR;
+            }
+        });
+        return ordemDeVisita;
+    }
+
+    private GrafoCSR<V> grafoCSR() {
+        return csr != null ? csr : grafo.congelar();
     }
 }
@@ -0,0 +1,137 @@
+package algoritmos.busca.percurso;
+
+import algoritmos.busca.percurso.VisitanteGrafo.Acao;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+
+/**
+ * Motor de busca em largura sobre o {@link GrafoCSR}, com os eventos entregues a um {@link VisitanteGrafo}.
+ *
+ * Ordem dos eventos: {@code descobrir} quando o vértice entra na fila, {@code examinar} quando sai dela,
+ * uma chamada por aresta ({@code arestaDeArvore} se o destino ainda não foi descoberto,
+ * {@code arestaCruzada} caso contrário) e {@code finalizar} depois da última aresta. Em grafos não
+ * direcionados, o arco de volta para o pai não é informado.
+ *
+ * Por percurso são alocados apenas dois arrays de n inteiros (fila e pais).
+ * A instância não guarda estado entre percursos, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class PercursoEmLargura<V> {
+
+    /** Marca de pai para vértices ainda não descobertos (a raiz usa -1). */
+    private static final int NAO_DESCOBERTO = -2;
+
+    private final GrafoCSR<V> csr;
+
+    public PercursoEmLargura(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public PercursoEmLargura(GrafoCSR<V> csr) {
+        this.csr = csr;
+    }
+
+    /**
+     * Percorre os vértices alcançáveis a partir de um vértice.
+     *
+     * @return true se o percurso terminou, false se o visitante pediu {@link Acao#PARAR}.
+     */
+    public boolean executar(V inicio, VisitanteGrafo<V> visitante) {
+        int origem = csr.idDe(inicio);
+        if (origem < 0) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + inicio);
+        }
+        return executarIds(origem, visitante);
+    }
+
+    /**
+     * Versão por ids de {@link #executar(Object, VisitanteGrafo)}.
+     */
+    public boolean executarIds(int origem, VisitanteGrafo<V> visitante) {
+        visitante.iniciar(csr);
+        return visitar(origem, novosPais(csr.getNumeroDeVertices()), new int[csr.getNumeroDeVertices()], visitante);
+    }
+
+    /**
+     * Percorre o grafo inteiro, iniciando uma nova busca em cada vértice ainda não descoberto, em ordem de id.
+     *
+     * @return true se o percurso terminou, false se o visitante pediu {@link Acao#PARAR}.
+     */
+    public boolean executarTodos(VisitanteGrafo<V> visitante) {
+        visitante.iniciar(csr);
+        int n = csr.getNumeroDeVertices();
+        int[] pais = novosPais(n);
+        int[] fila = new int[n];
+        for (int v = 0; v < n; v++) {
+            if (pais[v] == NAO_DESCOBERTO && !visitar(v, pais, fila, visitante)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean visitar(int raiz, int[] pais, int[] fila, VisitanteGrafo<V> visitante) {
+        boolean direcionado = csr.isDirecionado();
+        int cabeca = 0;
+        int cauda = 0;
+
+        pais[raiz] = -1;
+        Acao acao = visitante.descobrir(raiz, -1);
+        if (acao == Acao.PARAR) {
+            return false;
+        }
+        if (acao == Acao.PODAR) {
+            return visitante.finalizar(raiz, -1) != Acao.PARAR;
+        }
+        fila[cauda++] = raiz;
+
+        while (cabeca < cauda) {
+            int u = fila[cabeca++];
+            acao = visitante.examinar(u);
+            if (acao == Acao.PARAR) {
+                return false;
+            }
+            if (acao == Acao.CONTINUAR) {
+                for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                    int v = csr.alvo(e);
+                    if (pais[v] == NAO_DESCOBERTO) {
+                        acao = visitante.arestaDeArvore(u, v, e);
+                        if (acao == Acao.CONTINUAR) {
+                            pais[v] = u;
+                            acao = visitante.descobrir(v, u);
+                            if (acao == Acao.CONTINUAR) {
+                                fila[cauda++] = v;
+                            } else if (acao == Acao.PODAR) {
+                                acao = visitante.finalizar(v, u);
+                            }
+                        }
+                    } else if (!direcionado && v == pais[u]) {
+                        continue; // Arco de volta pela própria aresta de árvore.
+                    } else {
+                        acao = visitante.arestaCruzada(u, v, e);
+                    }
+                    if (acao == Acao.PARAR) {
+                        return false;
+                    }
+                }
+            }
+            if (visitante.finalizar(u, pais[u]) == Acao.PARAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] novosPais(int n) {
+        int[] pais = new int[n];
+        for (int v = 0; v < n; v++) {
+            pais[v] = NAO_DESCOBERTO;
+        }
+        return pais;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
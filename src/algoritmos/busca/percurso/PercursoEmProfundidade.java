@@ -0,0 +1,177 @@
+package algoritmos.busca.percurso;
+
+import algoritmos.busca.percurso.VisitanteGrafo.Acao;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.primitivos.ConjuntoDeBits;
+
+/**
+ * Motor de busca em profundidade sobre o {@link GrafoCSR}, com os eventos entregues a um {@link VisitanteGrafo}.
+ *
+ * A recursão é substituída por uma pilha explícita em que cada entrada guarda o vértice e a próxima
+ * aresta a percorrer, então a ordem dos eventos é a mesma da versão recursiva, sem risco de estouro
+ * da pilha de chamadas. Por percurso são alocados apenas três arrays de n inteiros e um conjunto de
+ * bits; nenhum objeto é criado por vértice ou aresta.
+ *
+ * Em grafos não direcionados, cada aresta é informada uma vez: o arco de volta para o pai é ignorado,
+ * e o arco que chega a um descendente já finalizado é o reverso de uma aresta de retorno já informada.
+ *
+ * A instância não guarda estado entre percursos, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class PercursoEmProfundidade<V> {
+
+    private final GrafoCSR<V> csr;
+
+    public PercursoEmProfundidade(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public PercursoEmProfundidade(GrafoCSR<V> csr) {
+        this.csr = csr;
+    }
+
+    /**
+     * Percorre os vértices alcançáveis a partir de um vértice.
+     *
+     * @return true se o percurso terminou, false se o visitante pediu {@link Acao#PARAR}.
+     */
+    public boolean executar(V inicio, VisitanteGrafo<V> visitante) {
+        int origem = csr.idDe(inicio);
+        if (origem < 0) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + inicio);
+        }
+        return executarIds(origem, visitante);
+    }
+
+    /**
+     * Versão por ids de {@link #executar(Object, VisitanteGrafo)}.
+     */
+    public boolean executarIds(int origem, VisitanteGrafo<V> visitante) {
+        visitante.iniciar(csr);
+        return visitar(origem, new Estado(csr.getNumeroDeVertices()), visitante);
+    }
+
+    /**
+     * Percorre o grafo inteiro, iniciando uma nova árvore em cada vértice ainda não descoberto,
+     * em ordem de id. A raiz de cada árvore é descoberta com pai -1.
+     *
+     * @return true se o percurso terminou, false se o visitante pediu {@link Acao#PARAR}.
+     */
+    public boolean executarTodos(VisitanteGrafo<V> visitante) {
+        visitante.iniciar(csr);
+        int n = csr.getNumeroDeVertices();
+        Estado estado = new Estado(n);
+        for (int v = 0; v < n; v++) {
+            if (estado.descoberta[v] == -1 && !visitar(v, estado, visitante)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean visitar(int raiz, Estado estado, VisitanteGrafo<V> visitante) {
+        int[] descoberta = estado.descoberta;
+        int[] pilha = estado.pilha;
+        int[] cursor = estado.cursor;
+        ConjuntoDeBits finalizados = estado.finalizados;
+        boolean direcionado = csr.isDirecionado();
+
+        descoberta[raiz] = estado.tempo++;
+        if (!abrir(raiz, -1, estado, visitante)) {
+            return false;
+        }
+
+        while (estado.topo > 0) {
+            int topo = estado.topo - 1;
+            int u = pilha[topo];
+            int e = cursor[topo];
+
+            if (e == csr.fim(u)) {
+                estado.topo--;
+                finalizados.add(u);
+                if (visitante.finalizar(u, topo > 0 ? pilha[topo - 1] : -1) == Acao.PARAR) {
+                    return false;
+                }
+                continue;
+            }
+            cursor[topo] = e + 1;
+            int v = csr.alvo(e);
+
+            Acao acao;
+            if (descoberta[v] == -1) {
+                acao = visitante.arestaDeArvore(u, v, e);
+                if (acao == Acao.CONTINUAR) {
+                    descoberta[v] = estado.tempo++;
+                    if (!abrir(v, u, estado, visitante)) {
+                        return false;
+                    }
+                }
+            } else if (!finalizados.contains(v)) {
+                if (!direcionado && topo > 0 && v == pilha[topo - 1]) {
+                    continue; // Arco de volta pela própria aresta de árvore.
+                }
+                acao = visitante.arestaDeRetorno(u, v, e);
+            } else if (!direcionado) {
+                continue; // Reverso de uma aresta de retorno já informada pelo descendente.
+            } else if (descoberta[u] < descoberta[v]) {
+                acao = visitante.arestaDeAvanco(u, v, e);
+            } else {
+                acao = visitante.arestaCruzada(u, v, e);
+            }
+            if (acao == Acao.PARAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Descobre e examina o vértice; se nenhum dos dois ganchos podar, ele é empilhado.
+     * Um vértice podado é finalizado na hora.
+     *
+     * @return false se o visitante pediu {@link Acao#PARAR}.
+     */
+    private boolean abrir(int v, int pai, Estado estado, VisitanteGrafo<V> visitante) {
+        Acao acao = visitante.descobrir(v, pai);
+        if (acao == Acao.CONTINUAR) {
+            acao = visitante.examinar(v);
+        }
+        if (acao == Acao.PARAR) {
+            return false;
+        }
+        if (acao == Acao.PODAR) {
+            estado.finalizados.add(v);
+            return visitante.finalizar(v, pai) != Acao.PARAR;
+        }
+        estado.pilha[estado.topo] = v;
+        estado.cursor[estado.topo] = csr.inicio(v);
+        estado.topo++;
+        return true;
+    }
+
+    /** Arrays de um percurso. Cada vértice entra na pilha no máximo uma vez, então n posições bastam. */
+    private static final class Estado {
+        final int[] descoberta;
+        final int[] pilha;
+        final int[] cursor;
+        final ConjuntoDeBits finalizados;
+        int topo;
+        int tempo;
+
+        Estado(int n) {
+            descoberta = new int[n];
+            for (int v = 0; v < n; v++) {
+                descoberta[v] = -1;
+            }
+            pilha = new int[n];
+            cursor = new int[n];
+            finalizados = new ConjuntoDeBits(n);
+        }
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
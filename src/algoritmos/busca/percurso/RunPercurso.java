@@ -0,0 +1,127 @@
+package algoritmos.busca.percurso;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunPercurso {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Classificação de arestas em um grafo direcionado com ciclo ---
+        String arquivoCiclico = "src/algoritmos/ordenacao_topologica/dadosDeEntrada_ciclico.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + arquivoCiclico + " ---");
+        GrafoCSR<String> ciclico = LeitorDeGrafo.carregarGrafoCSR(arquivoCiclico);
+        if (ciclico == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+
+        System.out.println("Eventos da DFS a partir de '1':");
+        new PercursoEmProfundidade<>(ciclico).executar("1", new VisitanteGrafo<String>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                System.out.println("  descobrir " + ciclico.rotuloDe(vertice));
+                return Acao.CONTINUAR;
+            }
+
+            @Override
+            public Acao arestaDeArvore(int origem, int destino, int aresta) {
+                System.out.println("  árvore   " + ciclico.rotuloDe(origem) + " -> " + ciclico.rotuloDe(destino));
+                return Acao.CONTINUAR;
+            }
+
+            @Override
+            public Acao arestaDeRetorno(int origem, int destino, int aresta) {
+                System.out.println("  retorno  " + ciclico.rotuloDe(origem) + " -> " + ciclico.rotuloDe(destino) + " (ciclo)");
+                return Acao.CONTINUAR;
+            }
+
+            @Override
+            public Acao finalizar(int vertice, int pai) {
+                System.out.println("  finalizar " + ciclico.rotuloDe(vertice));
+                return Acao.CONTINUAR;
+            }
+        });
+
+        // --- ETAPA 2: Poda e parada antecipada ---
+        String arquivoBusca = "src/algoritmos/busca/dadosDeEntrada.txt";
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(arquivoBusca);
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+
+        System.out.println("\nBFS a partir de 'A' sem expandir além de 1 aresta:");
+        int[] profundidade = new int[grafo.getNumeroDeVertices()];
+        new PercursoEmLargura<>(grafo).executar("A", new VisitanteGrafo<String>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                profundidade[vertice] = pai == -1 ? 0 : profundidade[pai] + 1;
+                System.out.println("  " + grafo.rotuloDe(vertice) + " (profundidade " + profundidade[vertice] + ")");
+                return profundidade[vertice] >= 1 ? Acao.PODAR : Acao.CONTINUAR;
+            }
+        });
+
+        int alvo = grafo.idDe("F");
+        boolean terminou = new PercursoEmProfundidade<>(grafo).executar("A", new VisitanteGrafo<String>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                return vertice == alvo ? Acao.PARAR : Acao.CONTINUAR;
+            }
+        });
+        System.out.println("DFS de 'A' parou ao encontrar 'F': " + !terminou);
+
+        // --- ETAPA 3: Grafo grande, sem impressão no laço ---
+        int n = 1_000_000;
+        GrafoCSR<Integer> grande = gerarGrafoAleatorio(n, 4_000_000, 11);
+        PercursoEmProfundidade<Integer> dfs = new PercursoEmProfundidade<>(grande);
+        int[] contagem = new int[3];
+        VisitanteGrafo<Integer> contador = new VisitanteGrafo<Integer>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                if (pai == -1) contagem[0]++;
+                return Acao.CONTINUAR;
+            }
+
+            @Override
+            public Acao arestaDeArvore(int origem, int destino, int aresta) {
+                contagem[1]++;
+                return Acao.CONTINUAR;
+            }
+
+            @Override
+            public Acao arestaDeRetorno(int origem, int destino, int aresta) {
+                contagem[2]++;
+                return Acao.CONTINUAR;
+            }
+        };
+        dfs.executarTodos(contador);
+        contagem[0] = contagem[1] = contagem[2] = 0;
+
+        long inicio = System.nanoTime();
+        dfs.executarTodos(contador);
+        double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+        System.out.printf("%nDFS completa em %d vértices e %d arcos: %.1f ms%n", n, grande.getNumeroDeArcos(), ms);
+        System.out.println("Árvores: " + contagem[0] + " | arestas de árvore: " + contagem[1]
+                + " | arestas de retorno: " + contagem[2]);
+    }
+
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, true);
+    }
+}
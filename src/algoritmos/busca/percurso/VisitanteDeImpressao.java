@@ -0,0 +1,48 @@
+package algoritmos.busca.percurso;
+
+import graph_structure.GrafoCSR;
+
+/**
+ * Visitante que imprime no console a ordem de visitação ("Visitando: X") e, opcionalmente,
+ * cada vértice descoberto por uma aresta de árvore. Útil para visualização e depuração;
+ * em grafos grandes, prefira um visitante que só acumule o que for necessário.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class VisitanteDeImpressao<V> implements VisitanteGrafo<V> {
+
+    private final String prefixoDescoberta;
+    private GrafoCSR<V> grafo;
+
+    /** Imprime apenas os vértices visitados. */
+    public VisitanteDeImpressao() {
+        this(null);
+    }
+
+    /**
+     * @param prefixoDescoberta Texto impresso antes de cada vértice descoberto por uma aresta de árvore
+     *                          (por exemplo, "  -> Enfileirando: "), ou null para não imprimir.
+     */
+    public VisitanteDeImpressao(String prefixoDescoberta) {
+        this.prefixoDescoberta = prefixoDescoberta;
+    }
+
+    @Override
+    public void iniciar(GrafoCSR<V> grafo) {
+        this.grafo = grafo;
+    }
+
+    @Override
+    public Acao examinar(int vertice) {
+        System.out.println("Visitando: " + grafo.rotuloDe(vertice));
+        return Acao.CONTINUAR;
+    }
+
+    @Override
+    public Acao descobrir(int vertice, int pai) {
+        if (prefixoDescoberta != null && pai != -1) {
+            System.out.println(prefixoDescoberta + grafo.rotuloDe(vertice));
+        }
+        return Acao.CONTINUAR;
+    }
+}
@@ -0,0 +1,64 @@
+package algoritmos.busca.percurso;
+
+import graph_structure.GrafoCSR;
+
+/**
+ * Ganchos chamados pelos motores de percurso ({@link PercursoEmProfundidade} e {@link PercursoEmLargura}).
+ *
+ * Os vértices chegam como ids densos do {@link GrafoCSR}; o rótulo pode ser obtido com
+ * {@link GrafoCSR#rotuloDe(int)} a partir do grafo recebido em {@link #iniciar(GrafoCSR)}.
+ * Todos os ganchos têm implementação padrão vazia, então basta sobrescrever os necessários.
+ *
+ * O valor de retorno controla o percurso:
+ * - {@link Acao#CONTINUAR}: segue normalmente;
+ * - {@link Acao#PODAR}: em {@link #descobrir} e {@link #examinar}, as arestas do vértice não são percorridas;
+ *   em {@link #arestaDeArvore}, a aresta não é seguida e o destino continua não descoberto;
+ *   nos demais ganchos equivale a CONTINUAR;
+ * - {@link Acao#PARAR}: encerra o percurso imediatamente, sem chamar mais nenhum gancho.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public interface VisitanteGrafo<V> {
+
+    enum Acao { CONTINUAR, PODAR, PARAR }
+
+    /** Chamado uma vez, antes de qualquer outro gancho. */
+    default void iniciar(GrafoCSR<V> grafo) {}
+
+    /**
+     * O vértice foi alcançado pela primeira vez.
+     *
+     * @param pai Vértice de onde veio a aresta de árvore, ou -1 na raiz.
+     */
+    default Acao descobrir(int vertice, int pai) { return Acao.CONTINUAR; }
+
+    /** As arestas de saída do vértice vão começar a ser percorridas. */
+    default Acao examinar(int vertice) { return Acao.CONTINUAR; }
+
+    /** A aresta leva a um vértice ainda não descoberto, que será descoberto por ela. */
+    default Acao arestaDeArvore(int origem, int destino, int aresta) { return Acao.CONTINUAR; }
+
+    /** A aresta leva a um ancestral ainda aberto (só na busca em profundidade): indica um ciclo. */
+    default Acao arestaDeRetorno(int origem, int destino, int aresta) { return Acao.CONTINUAR; }
+
+    /**
+     * A aresta leva a um descendente já finalizado (só na busca em profundidade em grafos direcionados).
+     * Por padrão é tratada como aresta cruzada.
+     */
+    default Acao arestaDeAvanco(int origem, int destino, int aresta) {
+        return arestaCruzada(origem, destino, aresta);
+    }
+
+    /**
+     * Na busca em profundidade, a aresta leva a um vértice já finalizado de outra subárvore.
+     * Na busca em largura, toda aresta que não é de árvore é informada aqui.
+     */
+    default Acao arestaCruzada(int origem, int destino, int aresta) { return Acao.CONTINUAR; }
+
+    /**
+     * Todas as arestas do vértice foram tratadas (ou podadas).
+     *
+     * @param pai Pai do vértice na árvore do percurso, ou -1 na raiz.
+     */
+    default Acao finalizar(int vertice, int pai) { return Acao.CONTINUAR; }
+}
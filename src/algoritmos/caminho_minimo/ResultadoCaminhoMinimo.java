@@ -0,0 +1,169 @@
+package algoritmos.caminho_minimo;
+
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+
+/**
+ * Resultado de uma busca de caminho mínimo a partir de uma origem.
+ * Guarda, por id denso de vértice, a distância encontrada e o predecessor no caminho
+ * (a árvore de caminhos mínimos), além de quantos vértices foram assentados pela busca.
+ *
+ * Quando a busca para cedo (ao assentar um destino), apenas as distâncias dos vértices
+ * assentados são definitivas; as demais são estimativas superiores.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ResultadoCaminhoMinimo<V> {
+
+    /** Valor de predecessor para a origem e para vértices não alcançados. */
+    public static final int SEM_PREDECESSOR = -1;
+
+    private final GrafoCSR<V> csr;
+    private final int origem;
+    private final double[] distancias;
+    private final int[] predecessores;
+    private final int verticesAssentados;
+
+    /**
+     * @param csr                Grafo em que a busca foi feita (usado para traduzir ids em rótulos).
+     * @param origem             Id do vértice de origem.
+     * @param distancias         distancias[v] = distância da origem até v (infinito se não alcançado).
+     * @param predecessores      predecessores[v] = id do vértice anterior a v no caminho, ou {@link #SEM_PREDECESSOR}.
+     * @param verticesAssentados Quantos vértices tiveram a distância fechada pela busca.
+     */
+    public ResultadoCaminhoMinimo(GrafoCSR<V> csr, int origem, double[] distancias, int[] predecessores,
+                                  int verticesAssentados) {
+        this.csr = csr;
+        this.origem = origem;
+        this.distancias = distancias;
+        this.predecessores = predecessores;
+        this.verticesAssentados = verticesAssentados;
+    }
+
+    public V getOrigem() {
+        return csr.rotuloDe(origem);
+    }
+
+    public int getOrigemId() {
+        return origem;
+    }
+
+    /**
+     * Retorna a distância da origem até o vértice, ou {@code Double.POSITIVE_INFINITY} se ele não foi alcançado.
+     */
+    public double distancia(V destino) {
+        return distanciaId(idObrigatorio(destino));
+    }
+
+    public double distanciaId(int destino) {
+        return distancias[destino];
+    }
+
+    public boolean alcancavel(V destino) {
+        return distancias[idObrigatorio(destino)] != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Reconstrói o caminho da origem até o destino seguindo os predecessores.
+     *
+     * @return Lista com os vértices do caminho (origem e destino inclusive), ou lista vazia se não houver caminho.
+     */
+    public ListaEncadeada<V> caminhoAte(V destino) {
+        ListaEncadeada<V> caminho = new ListaEncadeada<>();
+        int[] ids = caminhoIds(idObrigatorio(destino));
+        for (int id : ids) {
+            caminho.addLast(csr.rotuloDe(id));
+        }
+        return caminho;
+    }
+
+    /**
+     * Versão por ids de {@link #caminhoAte(Object)}.
+     *
+     * @return Ids do caminho da origem até o destino, ou array vazio se não houver caminho.
+     */
+    public int[] caminhoIds(int destino) {
+        if (distancias[destino] == Double.POSITIVE_INFINITY) {
+            return new int[0];
+        }
+        int comprimento = 1;
+        for (int v = destino; v != origem; v = predecessores[v]) {
+            comprimento++;
+        }
+        int[] caminho = new int[comprimento];
+        int i = comprimento - 1;
+        for (int v = destino; v != origem; v = predecessores[v]) {
+            caminho[i--] = v;
+        }
+        caminho[0] = origem;
+        return caminho;
+    }
+
+    /** Id do predecessor de v no caminho mínimo, ou {@link #SEM_PREDECESSOR}. */
+    public int predecessorId(int v) {
+        return predecessores[v];
+    }
+
+    /** Array de distâncias indexado por id (sem cópia). */
+    public double[] getDistancias() {
+        return distancias;
+    }
+
+    /** Árvore de caminhos mínimos como array de predecessores indexado por id (sem cópia). */
+    public int[] getPredecessores() {
+        return predecessores;
+    }
+
+    public int getVerticesAssentados() {
+        return verticesAssentados;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    /**
+     * Monta a árvore de caminhos mínimos a partir de distâncias já calculadas, por uma busca em largura
+     * a partir da origem que só segue arestas justas (dist[u] + w == dist[v]).
+     * Serve aos algoritmos paralelos, em que gravar distância e predecessor juntos exigiria sincronização:
+     * eles calculam só as distâncias e montam a árvore no final. Toda distância finita foi gravada como
+     * dist[u] + w para algum u cuja distância não mudou depois, então cada vértice alcançado tem uma aresta
+     * justa; como cada vértice recebe predecessor uma única vez, o resultado é uma árvore mesmo com ciclos
+     * de custo zero.
+     *
+     * @return predecessores[v] = id do vértice anterior a v, ou {@link #SEM_PREDECESSOR}.
+     */
+    public static int[] arvoreDeArestasJustas(GrafoCSR<?> csr, double[] distancias, int origem) {
+        int n = csr.getNumeroDeVertices();
+        int[] predecessores = new int[n];
+        for (int v = 0; v < n; v++) {
+            predecessores[v] = SEM_PREDECESSOR;
+        }
+        boolean[] visitados = new boolean[n];
+        int[] fila = new int[n];
+        int inicio = 0;
+        int fim = 0;
+        fila[fim++] = origem;
+        visitados[origem] = true;
+        while (inicio < fim) {
+            int u = fila[inicio++];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                if (!visitados[v] && distancias[u] + csr.peso(e) == distancias[v]) {
+                    visitados[v] = true;
+                    predecessores[v] = u;
+                    fila[fim++] = v;
+                }
+            }
+        }
+        return predecessores;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,110 @@
+package algoritmos.caminho_minimo.a_estrela;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+
+/**
+ * Algoritmo A* para consultas ponto a ponto.
+ * Funciona como o Dijkstra, mas ordena a fronteira por g(v) + h(v), onde g é a distância
+ * já conhecida a partir da origem e h é a estimativa da {@link Heuristica} até o destino.
+ * Quanto mais informada a heurística, menos vértices precisam ser assentados;
+ * com {@link HeuristicaZero} o comportamento é o do Dijkstra.
+ *
+ * Se a heurística for admissível mas não consistente, um vértice já assentado pode ser
+ * reaberto quando um caminho melhor até ele aparece; o resultado continua correto.
+ * Só aceita pesos não negativos e não guarda estado entre consultas.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class AEstrela<V> {
+
+    private final GrafoCSR<V> csr;
+    private final Heuristica<V> heuristica;
+
+    public AEstrela(Grafo<V> grafo, Heuristica<V> heuristica) {
+        this(grafo.congelar(), heuristica);
+    }
+
+    public AEstrela(GrafoCSR<V> csr, Heuristica<V> heuristica) {
+        for (int e = 0; e < csr.getNumeroDeArcos(); e++) {
+            if (csr.peso(e) < 0) {
+                throw new IllegalArgumentException("A* não aceita arestas com peso negativo: "
+                        + csr.rotuloDe(csr.origem(e)) + " -> " + csr.rotuloDe(csr.alvo(e)) + " (" + csr.peso(e) + ")");
+            }
+        }
+        this.csr = csr;
+        this.heuristica = heuristica;
+    }
+
+    /**
+     * Calcula o caminho mínimo entre origem e destino.
+     * No resultado, a distância e o caminho até o destino são definitivos, e
+     * {@link ResultadoCaminhoMinimo#getVerticesAssentados()} indica o esforço da busca.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem, V destino) {
+        return calcularIds(idObrigatorio(origem), idObrigatorio(destino));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object, Object)}.
+     */
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem, int destino) {
+        int n = csr.getNumeroDeVertices();
+        double[] distancias = new double[n];
+        int[] predecessores = new int[n];
+        double[] estimativas = new double[n]; // h(v), calculada uma única vez por vértice.
+        for (int v = 0; v < n; v++) {
+            distancias[v] = Double.POSITIVE_INFINITY;
+            predecessores[v] = ResultadoCaminhoMinimo.SEM_PREDECESSOR;
+            estimativas[v] = -1.0;
+        }
+        FilaDePrioridadeIndexada fila = new FilaDePrioridadeIndexada(n);
+
+        distancias[origem] = 0.0;
+        fila.add(origem, estimativa(estimativas, origem, destino));
+        int assentados = 0;
+
+        while (!fila.isEmpty()) {
+            int u = fila.removeMin();
+            assentados++;
+            if (u == destino) {
+                break;
+            }
+
+            double du = distancias[u];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                double nova = du + csr.peso(e);
+                if (nova < distancias[v]) {
+                    distancias[v] = nova;
+                    predecessores[v] = u;
+                    // Se v já saiu da fila, volta para ela (reabertura).
+                    fila.addOuDiminuir(v, nova + estimativa(estimativas, v, destino));
+                }
+            }
+        }
+
+        return new ResultadoCaminhoMinimo<>(csr, origem, distancias, predecessores, assentados);
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private double estimativa(double[] estimativas, int v, int destino) {
+        if (estimativas[v] < 0) {
+            estimativas[v] = heuristica.estimar(v, destino);
+        }
+        return estimativas[v];
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,22 @@
+package algoritmos.caminho_minimo.a_estrela;
+
+/**
+ * Estimativa da distância restante usada pelo A* para ordenar a fronteira.
+ * Para que o A* encontre o caminho mínimo, a heurística deve ser admissível:
+ * nunca pode superestimar a distância real do vértice até o destino.
+ *
+ * Os vértices são identificados pelos ids densos do {@link graph_structure.GrafoCSR}
+ * sobre o qual a heurística foi construída, para que a estimativa não precise
+ * consultar o dicionário de rótulos a cada relaxação.
+ *
+ * @param <V> Tipo dos rótulos dos vértices do grafo associado.
+ */
+public interface Heuristica<V> {
+
+    /**
+     * @param vertice Id do vértice avaliado.
+     * @param destino Id do vértice de destino da consulta.
+     * @return Limite inferior (não negativo) para a distância de vertice até destino.
+     */
+    double estimar(int vertice, int destino);
+}
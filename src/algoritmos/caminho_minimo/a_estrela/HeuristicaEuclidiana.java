@@ -0,0 +1,111 @@
+package algoritmos.caminho_minimo.a_estrela;
+
+import graph_structure.GrafoCSR;
+import util.tabelaHash.TabelaHash;
+
+/**
+ * Heurística baseada na distância em linha reta entre as coordenadas dos vértices,
+ * multiplicada por um fator de escala que converte unidades de coordenada em unidades de peso.
+ *
+ * Ela é admissível quando todos os vértices têm coordenada e nenhuma aresta pesa menos que
+ * fator × (distância euclidiana entre seus extremos); {@link #fatorAdmissivel} calcula o maior fator
+ * que respeita essa condição. A estimativa é 0 quando o vértice ou o destino não tem coordenada, mas
+ * isso não basta: um caminho que passa por vértices sem coordenada pode custar menos que a linha reta
+ * entre as pontas, por isso {@link #fatorAdmissivel} retorna 0 quando as coordenadas estão incompletas.
+ *
+ * As coordenadas ficam em arrays primitivos indexados pelo id do vértice.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class HeuristicaEuclidiana<V> implements Heuristica<V> {
+
+    private final double[] x;
+    private final double[] y;
+    private final double fator;
+
+    /**
+     * @param x     Coordenada x de cada vértice, por id (NaN se desconhecida).
+     * @param y     Coordenada y de cada vértice, por id (NaN se desconhecida).
+     * @param fator Fator de escala aplicado à distância euclidiana.
+     */
+    public HeuristicaEuclidiana(double[] x, double[] y, double fator) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Os arrays de coordenadas devem ter o mesmo tamanho.");
+        }
+        if (fator < 0) {
+            throw new IllegalArgumentException("O fator de escala não pode ser negativo.");
+        }
+        this.x = x;
+        this.y = y;
+        this.fator = fator;
+    }
+
+    /**
+     * Monta a heurística a partir das coordenadas por rótulo, como as retornadas por
+     * {@link util.leitoDeArquivo.LeitorDeGrafo#carregarCoordenadas(String)}.
+     *
+     * @param grafo       Grafo cujos ids serão usados nas consultas.
+     * @param coordenadas Tabela rótulo → {x, y}.
+     * @param fator       Fator de escala aplicado à distância euclidiana.
+     */
+    public static <V> HeuristicaEuclidiana<V> deCoordenadas(GrafoCSR<V> grafo, TabelaHash<V, double[]> coordenadas,
+                                                            double fator) {
+        int n = grafo.getNumeroDeVertices();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int v = 0; v < n; v++) {
+            double[] c = coordenadas.get(grafo.rotuloDe(v));
+            x[v] = c == null ? Double.NaN : c[0];
+            y[v] = c == null ? Double.NaN : c[1];
+        }
+        return new HeuristicaEuclidiana<>(x, y, fator);
+    }
+
+    /**
+     * Calcula o maior fator de escala que mantém a heurística admissível no grafo:
+     * o menor valor de peso / distância euclidiana entre todas as arestas.
+     *
+     * @return O fator, ou 0 se algum vértice não tiver coordenada, se alguma aresta de peso 0 ligar
+     *         pontos distintos ou se nenhuma aresta ligar pontos distintos.
+     */
+    public static double fatorAdmissivel(GrafoCSR<?> grafo, double[] x, double[] y) {
+        for (int v = 0; v < grafo.getNumeroDeVertices(); v++) {
+            if (!temCoordenada(x, y, v)) {
+                return 0.0;
+            }
+        }
+        double fator = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < grafo.getNumeroDeVertices(); u++) {
+            for (int e = grafo.inicio(u); e < grafo.fim(u); e++) {
+                double reta = distancia(x, y, u, grafo.alvo(e));
+                if (reta > 0) {
+                    fator = Math.min(fator, grafo.peso(e) / reta);
+                }
+            }
+        }
+        return fator == Double.POSITIVE_INFINITY ? 0.0 : fator;
+    }
+
+    @Override
+    public double estimar(int vertice, int destino) {
+        if (!temCoordenada(x, y, vertice) || !temCoordenada(x, y, destino)) {
+            return 0.0;
+        }
+        return fator * distancia(x, y, vertice, destino);
+    }
+
+    public double getFator() {
+        return fator;
+    }
+
+    private static boolean temCoordenada(double[] x, double[] y, int v) {
+        return !Double.isNaN(x[v]) && !Double.isNaN(y[v]);
+    }
+
+    /** Distância euclidiana entre dois ids com coordenada. */
+    private static double distancia(double[] x, double[] y, int a, int b) {
+        double dx = x[a] - x[b];
+        double dy = y[a] - y[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
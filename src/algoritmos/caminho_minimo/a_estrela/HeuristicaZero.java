@@ -0,0 +1,15 @@
+package algoritmos.caminho_minimo.a_estrela;
+
+/**
+ * Heurística nula: estima sempre 0. Com ela o A* se comporta exatamente como o Dijkstra,
+ * o que serve de referência para medir quanto uma heurística informada poda a busca.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class HeuristicaZero<V> implements Heuristica<V> {
+
+    @Override
+    public double estimar(int vertice, int destino) {
+        return 0.0;
+    }
+}
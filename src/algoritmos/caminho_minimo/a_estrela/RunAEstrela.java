@@ -0,0 +1,125 @@
+package algoritmos.caminho_minimo.a_estrela;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+import util.tabelaHash.TabelaHash;
+
+import java.util.Random;
+
+public class RunAEstrela {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo e as coordenadas dos vértices ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/grafo_geo.txt";
+        String caminhoCoordenadas = "src/algoritmos/caminho_minimo/coordenadas_geo.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+        TabelaHash<String, double[]> coordenadas = LeitorDeGrafo.carregarCoordenadas(caminhoCoordenadas);
+
+        if (grafo == null || coordenadas == null) {
+            System.out.println("Falha ao carregar o grafo ou as coordenadas.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso (" + coordenadas.size() + " coordenadas).\n");
+
+        // --- ETAPA 2: Consulta com a heurística nula e com a euclidiana ---
+        String origem = "A";
+        String destino = "H";
+        System.out.println("--- Consulta " + origem + " -> " + destino + " ---");
+        ResultadoCaminhoMinimo<String> semHeuristica =
+                new AEstrela<>(grafo, new HeuristicaZero<>()).calcular(origem, destino);
+        ResultadoCaminhoMinimo<String> euclidiana =
+                new AEstrela<>(grafo, HeuristicaEuclidiana.deCoordenadas(grafo, coordenadas, 1.0)).calcular(origem, destino);
+        System.out.println("Heurística zero:       distância " + semHeuristica.distancia(destino)
+                + " | caminho " + semHeuristica.caminhoAte(destino)
+                + " | assentados " + semHeuristica.getVerticesAssentados());
+        System.out.println("Heurística euclidiana: distância " + euclidiana.distancia(destino)
+                + " | caminho " + euclidiana.caminhoAte(destino)
+                + " | assentados " + euclidiana.getVerticesAssentados());
+
+        // --- ETAPA 3: Malha com coordenadas, onde a poda da heurística fica evidente ---
+        int lado = 200;
+        double[] x = new double[lado * lado];
+        double[] y = new double[lado * lado];
+        GrafoCSR<String> malha = gerarMalha(lado, 42, x, y);
+        double fator = HeuristicaEuclidiana.fatorAdmissivel(malha, x, y);
+        String canto = "0,0";
+        String centro = (lado / 2) + "," + (lado / 2);
+        System.out.println("\n--- Malha " + lado + "x" + lado + ": consulta " + canto + " -> " + centro
+                + " (fator admissível " + fator + ") ---");
+        semHeuristica = new AEstrela<>(malha, new HeuristicaZero<>()).calcular(canto, centro);
+        euclidiana = new AEstrela<>(malha, new HeuristicaEuclidiana<>(x, y, fator)).calcular(canto, centro);
+        System.out.println("Heurística zero:       distância " + semHeuristica.distancia(centro)
+                + " | assentados " + semHeuristica.getVerticesAssentados());
+        System.out.println("Heurística euclidiana: distância " + euclidiana.distancia(centro)
+                + " | assentados " + euclidiana.getVerticesAssentados());
+        // --- ETAPA 4: Vértices sem coordenada ---
+        verificarCoordenadasParciais();
+    }
+
+    /**
+     * Contraexemplo com coordenadas parciais: X e Y não têm coordenada, e o caminho S-U-X-T (3) é mais
+     * curto que 10 × a linha reta de S até T. O fator precisa ser 0 para o A* não errar a distância.
+     */
+    private static void verificarCoordenadasParciais() {
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        String[] rotulos = {"S", "U", "T", "X", "Y"};
+        for (String rotulo : rotulos) {
+            dicionario.internar(rotulo);
+        }
+        // Ids: S = 0, U = 1, T = 2, X = 3, Y = 4. Arestas S-U, U-X, X-T, U-T, S-Y e Y-T.
+        int[] origens = {0, 1, 3, 1, 0, 4};
+        int[] destinos = {1, 3, 2, 2, 4, 2};
+        double[] pesos = {1, 1, 1, 100, 3, 1};
+        GrafoCSR<String> grafo = GrafoCSR.deArestas(dicionario, origens, destinos, pesos, origens.length, false);
+        double[] x = {0, 0, 10, Double.NaN, Double.NaN};
+        double[] y = {0, 0, 0, Double.NaN, Double.NaN};
+
+        double fator = HeuristicaEuclidiana.fatorAdmissivel(grafo, x, y);
+        double esperado = new AEstrela<>(grafo, new HeuristicaZero<>()).calcular("S", "T").distancia("T");
+        double obtido = new AEstrela<>(grafo, new HeuristicaEuclidiana<>(x, y, fator)).calcular("S", "T").distancia("T");
+        System.out.println("\n--- Coordenadas parciais: S -> T ---");
+        System.out.println("Fator admissível: " + fator + " | distância real " + esperado + " | A* " + obtido
+                + (obtido == esperado ? " (correto)" : " (ERRO: heurística não admissível)"));
+    }
+
+    /**
+     * Malha não direcionada lado x lado; o vértice "i,j" fica no ponto (j, i) e cada aresta
+     * pesa de 1 a 3 vezes o comprimento do segmento.
+     */
+    private static GrafoCSR<String> gerarMalha(int lado, long semente, double[] x, double[] y) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                int id = dicionario.internar(i + "," + j);
+                x[id] = j;
+                y[id] = i;
+            }
+        }
+        int maximo = 2 * lado * (lado - 1);
+        int[] origens = new int[maximo];
+        int[] destinos = new int[maximo];
+        double[] pesos = new double[maximo];
+        int quantidade = 0;
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                int u = i * lado + j;
+                if (j + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + 1;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(3);
+                }
+                if (i + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + lado;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(3);
+                }
+            }
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, false);
+    }
+}
@@ -0,0 +1,47 @@
+package algoritmos.caminho_minimo.alt;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.a_estrela.AEstrela;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+
+/**
+ * ALT (A*, Landmarks e desigualdade Triangular) para consultas ponto a ponto repetidas
+ * sobre um grafo estático. O pré-processamento ({@link TabelaDeLandmarks}) é feito uma vez;
+ * cada consulta é um A* guiado pelos limites inferiores dos landmarks.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class ALT<V> {
+
+    private final TabelaDeLandmarks tabela;
+    private final AEstrela<V> busca;
+
+    public ALT(Grafo<V> grafo, TabelaDeLandmarks tabela) {
+        this(grafo.congelar(), tabela);
+    }
+
+    /**
+     * @param csr    Grafo das consultas.
+     * @param tabela Tabela calculada para este grafo (ou carregada de arquivo).
+     */
+    public ALT(GrafoCSR<V> csr, TabelaDeLandmarks tabela) {
+        if (!tabela.compativelCom(csr)) {
+            throw new IllegalArgumentException("A tabela de landmarks não corresponde a este grafo.");
+        }
+        this.tabela = tabela;
+        this.busca = new AEstrela<>(csr, new HeuristicaLandmarks<>(tabela));
+    }
+
+    public ResultadoCaminhoMinimo<V> calcular(V origem, V destino) {
+        return busca.calcular(origem, destino);
+    }
+
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem, int destino) {
+        return busca.calcularIds(origem, destino);
+    }
+
+    public TabelaDeLandmarks getTabela() {
+        return tabela;
+    }
+}
@@ -0,0 +1,23 @@
+package algoritmos.caminho_minimo.alt;
+
+import algoritmos.caminho_minimo.a_estrela.Heuristica;
+
+/**
+ * Heurística do ALT: limite inferior pela desigualdade triangular sobre as distâncias
+ * pré-calculadas de/para os landmarks. É admissível e consistente, então o A* nunca reabre vértices.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class HeuristicaLandmarks<V> implements Heuristica<V> {
+
+    private final TabelaDeLandmarks tabela;
+
+    public HeuristicaLandmarks(TabelaDeLandmarks tabela) {
+        this.tabela = tabela;
+    }
+
+    @Override
+    public double estimar(int vertice, int destino) {
+        return tabela.limiteInferior(vertice, destino);
+    }
+}
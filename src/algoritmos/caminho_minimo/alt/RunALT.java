@@ -0,0 +1,124 @@
+package algoritmos.caminho_minimo.alt;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+public class RunALT {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo de exemplo ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/grafo_geo.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Pré-processamento e consulta ---
+        TabelaDeLandmarks tabela = TabelaDeLandmarks.construir(grafo, 2, TabelaDeLandmarks.Estrategia.MAIS_DISTANTE, 1);
+        System.out.print("Landmarks escolhidos:");
+        for (int i = 0; i < tabela.getQuantidade(); i++) {
+            System.out.print(" " + grafo.rotuloDe(tabela.getLandmark(i)));
+        }
+        System.out.println();
+
+        String origem = "A";
+        String destino = "H";
+        ResultadoCaminhoMinimo<String> resultado = new ALT<>(grafo, tabela).calcular(origem, destino);
+        System.out.println("Consulta " + origem + " -> " + destino + ": distância " + resultado.distancia(destino)
+                + " | caminho " + resultado.caminhoAte(destino) + " | assentados " + resultado.getVerticesAssentados());
+
+        // --- ETAPA 3: Gravar e reler a tabela, sem refazer o pré-processamento ---
+        try {
+            File arquivo = File.createTempFile("landmarks", ".bin");
+            arquivo.deleteOnExit();
+            tabela.salvar(arquivo.getPath());
+            TabelaDeLandmarks relida = TabelaDeLandmarks.carregar(arquivo.getPath());
+            ResultadoCaminhoMinimo<String> deNovo = new ALT<>(grafo, relida).calcular(origem, destino);
+            System.out.println("Tabela relida do arquivo: distância " + deNovo.distancia(destino));
+        } catch (IOException e) {
+            System.out.println("Erro ao gravar a tabela: " + e.getMessage());
+        }
+
+        // --- ETAPA 4: Consultas aleatórias em uma malha, por estratégia ---
+        int lado = 200;
+        int consultas = 100;
+        GrafoCSR<String> malha = gerarMalha(lado, 42);
+        Dijkstra<String> dijkstra = new Dijkstra<>(malha);
+        System.out.println("\n--- Malha " + lado + "x" + lado + ": " + consultas + " consultas aleatórias, 8 landmarks ---");
+
+        long assentadosDijkstra = 0;
+        Random sorteio = new Random(7);
+        int[] origens = new int[consultas];
+        int[] destinos = new int[consultas];
+        double[] esperadas = new double[consultas];
+        for (int q = 0; q < consultas; q++) {
+            origens[q] = sorteio.nextInt(malha.getNumeroDeVertices());
+            destinos[q] = sorteio.nextInt(malha.getNumeroDeVertices());
+            ResultadoCaminhoMinimo<String> r = dijkstra.calcularIds(origens[q], destinos[q]);
+            esperadas[q] = r.distanciaId(destinos[q]);
+            assentadosDijkstra += r.getVerticesAssentados();
+        }
+        System.out.println("Dijkstra:       média de assentados " + assentadosDijkstra / consultas);
+
+        for (TabelaDeLandmarks.Estrategia estrategia : TabelaDeLandmarks.Estrategia.values()) {
+            long inicio = System.nanoTime();
+            TabelaDeLandmarks t = TabelaDeLandmarks.construir(malha, 8, estrategia, 1);
+            long preProcessamento = (System.nanoTime() - inicio) / 1_000_000;
+
+            ALT<String> alt = new ALT<>(malha, t);
+            long assentados = 0;
+            boolean corretas = true;
+            for (int q = 0; q < consultas; q++) {
+                ResultadoCaminhoMinimo<String> r = alt.calcularIds(origens[q], destinos[q]);
+                assentados += r.getVerticesAssentados();
+                corretas &= r.distanciaId(destinos[q]) == esperadas[q];
+            }
+            System.out.println("ALT " + estrategia + ": média de assentados " + assentados / consultas
+                    + " | pré-processamento " + preProcessamento + " ms | distâncias corretas: " + corretas);
+        }
+    }
+
+    /** Malha não direcionada lado x lado com pesos inteiros aleatórios de 1 a 10. */
+    private static GrafoCSR<String> gerarMalha(int lado, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                dicionario.internar(i + "," + j);
+            }
+        }
+        int maximo = 2 * lado * (lado - 1);
+        int[] origens = new int[maximo];
+        int[] destinos = new int[maximo];
+        double[] pesos = new double[maximo];
+        int quantidade = 0;
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                int u = i * lado + j;
+                if (j + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + 1;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+                if (i + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + lado;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+            }
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, false);
+    }
+}
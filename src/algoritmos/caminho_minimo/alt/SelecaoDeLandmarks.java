@@ -0,0 +1,213 @@
+package algoritmos.caminho_minimo.alt;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.GrafoCSR;
+import util.primitivos.ConjuntoDeBits;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.Random;
+
+/**
+ * Estratégias de escolha dos landmarks usados pelo ALT.
+ * Cada estratégia devolve os ids escolhidos e, quando já as calculou, as distâncias
+ * a partir de cada landmark (reaproveitadas na montagem de {@link TabelaDeLandmarks}).
+ */
+final class SelecaoDeLandmarks {
+
+    /**
+     * Landmarks escolhidos e as distâncias já calculadas a partir deles (null quando ainda não calculadas).
+     * As escolhas "farthest" e "avoid" dependem das tabelas dos landmarks anteriores e por isso são
+     * sequenciais; a tabela do último landmark nunca é usada na escolha e fica para a etapa paralela.
+     */
+    static final class Selecao {
+        final int[] landmarks;
+        final double[][] distanciasDe;
+
+        Selecao(int[] landmarks, double[][] distanciasDe) {
+            this.landmarks = landmarks;
+            this.distanciasDe = distanciasDe;
+        }
+    }
+
+    private SelecaoDeLandmarks() {
+    }
+
+    /** Landmarks sorteados; nenhuma distância é calculada aqui. */
+    static Selecao aleatoria(GrafoCSR<?> grafo, int k, Random aleatorio) {
+        int n = grafo.getNumeroDeVertices();
+        // Embaralhamento parcial de Fisher-Yates: os k primeiros ids são os escolhidos.
+        int[] ids = new int[n];
+        for (int v = 0; v < n; v++) {
+            ids[v] = v;
+        }
+        for (int i = 0; i < k; i++) {
+            int j = i + aleatorio.nextInt(n - i);
+            int troca = ids[i];
+            ids[i] = ids[j];
+            ids[j] = troca;
+        }
+        int[] landmarks = new int[k];
+        System.arraycopy(ids, 0, landmarks, 0, k);
+        return new Selecao(landmarks, new double[k][]);
+    }
+
+    /**
+     * "Farthest": cada novo landmark é o vértice mais distante dos já escolhidos
+     * (maior distância mínima). Vértices que nenhum landmark alcança têm prioridade,
+     * pois ainda não têm nenhum limite inferior.
+     */
+    static <V> Selecao maisDistante(GrafoCSR<V> grafo, int k, Random aleatorio) {
+        int n = grafo.getNumeroDeVertices();
+        Dijkstra<V> dijkstra = new Dijkstra<>(grafo);
+        int[] landmarks = new int[k];
+        double[][] distanciasDe = new double[k][];
+        double[] menorDistancia = new double[n];
+        ConjuntoDeBits escolhidos = new ConjuntoDeBits(n);
+
+        // O primeiro landmark é o vértice mais distante de um ponto de partida sorteado.
+        double[] inicial = dijkstra.calcularIds(aleatorio.nextInt(n), -1).getDistancias();
+        System.arraycopy(inicial, 0, menorDistancia, 0, n);
+
+        for (int i = 0; i < k; i++) {
+            int escolhido = maisDistanteNaoEscolhido(menorDistancia, escolhidos);
+            landmarks[i] = escolhido;
+            escolhidos.add(escolhido);
+            if (i == k - 1) {
+                break; // A tabela do último landmark fica para a etapa paralela.
+            }
+            distanciasDe[i] = dijkstra.calcularIds(escolhido, -1).getDistancias();
+            for (int v = 0; v < n; v++) {
+                // A partida sorteada só serve para o primeiro landmark.
+                double d = distanciasDe[i][v];
+                menorDistancia[v] = i == 0 ? d : Math.min(menorDistancia[v], d);
+            }
+        }
+        return new Selecao(landmarks, distanciasDe);
+    }
+
+    /**
+     * "Avoid" (Goldberg e Werneck): a partir de uma raiz sorteada, monta a árvore de caminhos mínimos
+     * e pesa cada vértice pela folga entre a distância real e o limite inferior dos landmarks atuais.
+     * A subárvore de maior folga total sem nenhum landmark é descida até uma folha, que vira o novo landmark.
+     */
+    static <V> Selecao evitar(GrafoCSR<V> grafo, int k, Random aleatorio) {
+        int n = grafo.getNumeroDeVertices();
+        Dijkstra<V> dijkstra = new Dijkstra<>(grafo);
+        int[] landmarks = new int[k];
+        double[][] distanciasDe = new double[k][];
+        ConjuntoDeBits escolhidos = new ConjuntoDeBits(n);
+        double[] tamanho = new double[n];
+
+        for (int i = 0; i < k; i++) {
+            int raiz = aleatorio.nextInt(n);
+            ResultadoCaminhoMinimo<V> arvore = dijkstra.calcularIds(raiz, -1);
+            double[] dist = arvore.getDistancias();
+            int[] pred = arvore.getPredecessores();
+
+            // Filhos de cada vértice na árvore de caminhos mínimos, em formato CSR.
+            int[] inicioFilhos = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                if (pred[v] != ResultadoCaminhoMinimo.SEM_PREDECESSOR) inicioFilhos[pred[v] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                inicioFilhos[v + 1] += inicioFilhos[v];
+            }
+            int[] filhos = new int[inicioFilhos[n]];
+            int[] posicao = new int[n];
+            System.arraycopy(inicioFilhos, 0, posicao, 0, n);
+            for (int v = 0; v < n; v++) {
+                if (pred[v] != ResultadoCaminhoMinimo.SEM_PREDECESSOR) filhos[posicao[pred[v]]++] = v;
+            }
+
+            // Pré-ordem iterativa a partir da raiz; percorrida ao contrário, filhos vêm antes dos pais.
+            ListaDeInteiros preOrdem = new ListaDeInteiros();
+            ListaDeInteiros pilha = new ListaDeInteiros();
+            pilha.add(raiz);
+            while (!pilha.isEmpty()) {
+                int u = pilha.removeLast();
+                preOrdem.add(u);
+                for (int c = inicioFilhos[u]; c < inicioFilhos[u + 1]; c++) {
+                    pilha.add(filhos[c]);
+                }
+            }
+
+            int melhor = -1;
+            for (int p = preOrdem.size() - 1; p >= 0; p--) {
+                int v = preOrdem.get(p);
+                double folga = dist[v] - limiteInferior(distanciasDe, i, raiz, v);
+                double soma = Math.max(0.0, folga);
+                boolean temLandmark = escolhidos.contains(v);
+                for (int c = inicioFilhos[v]; c < inicioFilhos[v + 1]; c++) {
+                    int filho = filhos[c];
+                    if (tamanho[filho] < 0) {
+                        temLandmark = true; // Subárvore do filho contém um landmark.
+                    } else {
+                        soma += tamanho[filho];
+                    }
+                }
+                tamanho[v] = temLandmark ? -1.0 : soma;
+                if (!temLandmark && (melhor == -1 || tamanho[v] > tamanho[melhor])) {
+                    melhor = v;
+                }
+            }
+
+            int escolhido;
+            if (melhor == -1 || tamanho[melhor] <= 0.0) {
+                // A árvore já está toda coberta: usa qualquer vértice ainda livre.
+                escolhido = primeiroLivre(escolhidos, n);
+            } else {
+                // Desce pelo filho de maior tamanho até chegar a uma folha.
+                escolhido = melhor;
+                while (true) {
+                    int proximo = -1;
+                    for (int c = inicioFilhos[escolhido]; c < inicioFilhos[escolhido + 1]; c++) {
+                        int filho = filhos[c];
+                        if (tamanho[filho] >= 0 && (proximo == -1 || tamanho[filho] > tamanho[proximo])) {
+                            proximo = filho;
+                        }
+                    }
+                    if (proximo == -1) break;
+                    escolhido = proximo;
+                }
+            }
+
+            landmarks[i] = escolhido;
+            escolhidos.add(escolhido);
+            if (i < k - 1) {
+                distanciasDe[i] = dijkstra.calcularIds(escolhido, -1).getDistancias();
+            }
+        }
+        return new Selecao(landmarks, distanciasDe);
+    }
+
+    /** Limite inferior de d(raiz, v) pelos primeiros landmarks, usando apenas as distâncias a partir deles. */
+    private static double limiteInferior(double[][] distanciasDe, int quantidade, int raiz, int v) {
+        double limite = 0.0;
+        for (int i = 0; i < quantidade; i++) {
+            double dv = distanciasDe[i][v];
+            double dr = distanciasDe[i][raiz];
+            if (dv != Double.POSITIVE_INFINITY && dr != Double.POSITIVE_INFINITY) {
+                limite = Math.max(limite, dv - dr);
+            }
+        }
+        return limite;
+    }
+
+    private static int maisDistanteNaoEscolhido(double[] menorDistancia, ConjuntoDeBits escolhidos) {
+        int melhor = -1;
+        for (int v = 0; v < menorDistancia.length; v++) {
+            if (!escolhidos.contains(v) && (melhor == -1 || menorDistancia[v] > menorDistancia[melhor])) {
+                melhor = v;
+            }
+        }
+        return melhor;
+    }
+
+    private static int primeiroLivre(ConjuntoDeBits escolhidos, int n) {
+        for (int v = 0; v < n; v++) {
+            if (!escolhidos.contains(v)) return v;
+        }
+        throw new IllegalStateException("Todos os vértices já são landmarks.");
+    }
+}
@@ -0,0 +1,216 @@
+package algoritmos.caminho_minimo.alt;
+
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.GrafoCSR;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Tabelas de distâncias de/para os landmarks, resultado do pré-processamento do ALT.
+ *
+ * As distâncias ficam em arrays {@code double[]} planos organizados por vértice
+ * (posição v * k + i para o landmark i), de forma que o cálculo do limite inferior de um vértice
+ * lê k valores contíguos. Em grafos não direcionados as duas tabelas são o mesmo array.
+ *
+ * A tabela é {@link Serializable}: {@link #salvar(String)} e {@link #carregar(String)} evitam
+ * refazer o pré-processamento a cada reinício, desde que o grafo seja o mesmo.
+ */
+public class TabelaDeLandmarks implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Estratégia de escolha dos landmarks. */
+    public enum Estrategia {
+        /** Vértices sorteados. */
+        ALEATORIA,
+        /** Cada landmark é o vértice mais distante dos anteriores ("farthest"). */
+        MAIS_DISTANTE,
+        /** Landmarks colocados nas regiões mal cobertas pelos anteriores ("avoid"). */
+        EVITAR
+    }
+
+    private final int[] landmarks;
+    private final int numeroDeVertices;
+    private final int numeroDeArcos;
+    private final double[] distanciasDe;   // [v * k + i] = d(landmark i, v)
+    private final double[] distanciasPara; // [v * k + i] = d(v, landmark i)
+
+    private TabelaDeLandmarks(int[] landmarks, int numeroDeVertices, int numeroDeArcos,
+                              double[] distanciasDe, double[] distanciasPara) {
+        this.landmarks = landmarks;
+        this.numeroDeVertices = numeroDeVertices;
+        this.numeroDeArcos = numeroDeArcos;
+        this.distanciasDe = distanciasDe;
+        this.distanciasPara = distanciasPara;
+    }
+
+    /**
+     * Escolhe os landmarks e calcula as tabelas de distâncias.
+     * As buscas de Dijkstra que ainda faltam depois da escolha (de cada landmark e, em grafos
+     * direcionados, até cada landmark sobre o grafo transposto) rodam em paralelo no pool comum do ForkJoin.
+     *
+     * @param grafo      Grafo com pesos não negativos.
+     * @param quantidade Número de landmarks (limitado ao número de vértices).
+     * @param estrategia Estratégia de escolha.
+     * @param semente    Semente do sorteio, para que o pré-processamento seja reprodutível.
+     */
+    public static <V> TabelaDeLandmarks construir(GrafoCSR<V> grafo, int quantidade, Estrategia estrategia,
+                                                  long semente) {
+        int n = grafo.getNumeroDeVertices();
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("É necessário pelo menos um landmark.");
+        }
+        int k = Math.min(quantidade, n);
+        if (k == 0) {
+            return new TabelaDeLandmarks(new int[0], 0, grafo.getNumeroDeArcos(), new double[0], new double[0]);
+        }
+
+        Random aleatorio = new Random(semente);
+        SelecaoDeLandmarks.Selecao selecao;
+        switch (estrategia) {
+            case MAIS_DISTANTE:
+                selecao = SelecaoDeLandmarks.maisDistante(grafo, k, aleatorio);
+                break;
+            case EVITAR:
+                selecao = SelecaoDeLandmarks.evitar(grafo, k, aleatorio);
+                break;
+            default:
+                selecao = SelecaoDeLandmarks.aleatoria(grafo, k, aleatorio);
+                break;
+        }
+
+        int[] landmarks = selecao.landmarks;
+        double[][] de = selecao.distanciasDe;
+        boolean direcionado = grafo.isDirecionado();
+        double[][] para = direcionado ? new double[k][] : de;
+
+        // Dispara em paralelo as buscas que a seleção ainda não fez.
+        Dijkstra<V> frente = new Dijkstra<>(grafo);
+        Dijkstra<V> tras = direcionado ? new Dijkstra<>(grafo.transposto()) : null;
+        ForkJoinTask<?>[] tarefas = new ForkJoinTask<?>[2 * k];
+        int quantidadeDeTarefas = 0;
+        for (int i = 0; i < k; i++) {
+            final int indice = i;
+            if (de[i] == null) {
+                tarefas[quantidadeDeTarefas++] = ForkJoinTask.adapt(
+                        () -> de[indice] = frente.calcularIds(landmarks[indice], -1).getDistancias());
+            }
+            if (direcionado) {
+                tarefas[quantidadeDeTarefas++] = ForkJoinTask.adapt(
+                        () -> para[indice] = tras.calcularIds(landmarks[indice], -1).getDistancias());
+            }
+        }
+        ForkJoinTask<?>[] pendentes = new ForkJoinTask<?>[quantidadeDeTarefas];
+        System.arraycopy(tarefas, 0, pendentes, 0, quantidadeDeTarefas);
+        ForkJoinTask.invokeAll(pendentes);
+
+        double[] tabelaDe = intercalar(de, k, n);
+        double[] tabelaPara = direcionado ? intercalar(para, k, n) : tabelaDe;
+        return new TabelaDeLandmarks(landmarks, n, grafo.getNumeroDeArcos(), tabelaDe, tabelaPara);
+    }
+
+    /** Converte uma tabela por landmark ([i][v]) para o layout por vértice ([v * k + i]). */
+    private static double[] intercalar(double[][] porLandmark, int k, int n) {
+        double[] tabela = new double[n * k];
+        for (int i = 0; i < k; i++) {
+            double[] linha = porLandmark[i];
+            for (int v = 0; v < n; v++) {
+                tabela[v * k + i] = linha[v];
+            }
+        }
+        return tabela;
+    }
+
+    /**
+     * Limite inferior para d(v, destino) pela desigualdade triangular, usando todos os landmarks:
+     * d(v, t) ≥ d(L, t) − d(L, v) e d(v, t) ≥ d(v, L) − d(t, L).
+     * Termos com distâncias infinitas são ignorados.
+     */
+    public double limiteInferior(int v, int destino) {
+        int k = landmarks.length;
+        int baseV = v * k;
+        int baseT = destino * k;
+        double limite = 0.0;
+        for (int i = 0; i < k; i++) {
+            double deV = distanciasDe[baseV + i];
+            double deT = distanciasDe[baseT + i];
+            if (deV != Double.POSITIVE_INFINITY && deT != Double.POSITIVE_INFINITY && deT - deV > limite) {
+                limite = deT - deV;
+            }
+            double paraV = distanciasPara[baseV + i];
+            double paraT = distanciasPara[baseT + i];
+            if (paraV != Double.POSITIVE_INFINITY && paraT != Double.POSITIVE_INFINITY && paraV - paraT > limite) {
+                limite = paraV - paraT;
+            }
+        }
+        return limite;
+    }
+
+    /** Distância do landmark de índice i até o vértice v. */
+    public double distanciaDe(int i, int v) {
+        return distanciasDe[v * landmarks.length + i];
+    }
+
+    /** Distância do vértice v até o landmark de índice i. */
+    public double distanciaPara(int i, int v) {
+        return distanciasPara[v * landmarks.length + i];
+    }
+
+    public int getQuantidade() {
+        return landmarks.length;
+    }
+
+    /** Id do landmark de índice i. */
+    public int getLandmark(int i) {
+        return landmarks[i];
+    }
+
+    public int getNumeroDeVertices() {
+        return numeroDeVertices;
+    }
+
+    /**
+     * Verifica, de forma barata, se a tabela foi calculada para um grafo com as mesmas dimensões.
+     */
+    public boolean compativelCom(GrafoCSR<?> grafo) {
+        return grafo.getNumeroDeVertices() == numeroDeVertices && grafo.getNumeroDeArcos() == numeroDeArcos;
+    }
+
+    /**
+     * Grava a tabela em arquivo.
+     *
+     * @param caminhoArquivo Caminho do arquivo de destino.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    public void salvar(String caminhoArquivo) throws IOException {
+        try (ObjectOutputStream saida = new ObjectOutputStream(new FileOutputStream(caminhoArquivo))) {
+            saida.writeObject(this);
+        }
+    }
+
+    /**
+     * Lê uma tabela gravada por {@link #salvar(String)}.
+     *
+     * @param caminhoArquivo Caminho do arquivo.
+     * @return A tabela lida.
+     * @throws IOException Se o arquivo não puder ser lido ou não contiver uma tabela de landmarks.
+     */
+    public static TabelaDeLandmarks carregar(String caminhoArquivo) throws IOException {
+        try (ObjectInputStream entrada = new ObjectInputStream(new FileInputStream(caminhoArquivo))) {
+            Object lido = entrada.readObject();
+            if (!(lido instanceof TabelaDeLandmarks)) {
+                throw new IOException("O arquivo não contém uma tabela de landmarks: " + caminhoArquivo);
+            }
+            return (TabelaDeLandmarks) lido;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Formato de arquivo desconhecido: " + caminhoArquivo, e);
+        }
+    }
+}
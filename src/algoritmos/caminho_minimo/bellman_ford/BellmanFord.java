@@ -0,0 +1,366 @@
+package algoritmos.caminho_minimo.bellman_ford;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+import util.paralelo.LacoParalelo;
+import util.primitivos.ConjuntoDeBits;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Algoritmo de Bellman-Ford para caminhos mínimos a partir de uma única origem, com pesos quaisquer.
+ * Detecta ciclos negativos alcançáveis a partir da origem e devolve os vértices que os formam.
+ *
+ * As arestas ficam em três arrays paralelos (origem, destino, peso) montados a partir de
+ * {@link Grafo#getArestas()}; arestas não direcionadas entram nos dois sentidos, então uma aresta
+ * não direcionada de peso negativo já é, sozinha, um ciclo negativo (u -> v -> u).
+ *
+ * Três modos:
+ * - {@link #calcular(Object)}: fila FIFO (SPFA). Só os vértices cuja distância mudou são reprocessados,
+ *   então termina cedo quando as distâncias convergem;
+ * - {@link #calcularClassico(Object)}: até V-1 rodadas sobre todas as arestas, parando na primeira
+ *   rodada sem mudança;
+ * - {@link #calcularParalelo(Object, ForkJoinPool)}: cada rodada divide o array de arestas entre as
+ *   threads de um ForkJoinPool, e os mínimos são combinados com compare-and-set sobre os bits do double.
+ *
+ * A instância não guarda estado entre consultas, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class BellmanFord<V> {
+
+    /** Arestas por tarefa na rodada paralela. */
+    private static final int LIMIAR_PARALELO = 4096;
+
+    private final GrafoCSR<V> csr;
+    private final int[] origens;
+    private final int[] destinos;
+    private final double[] pesos;
+
+    public BellmanFord(Grafo<V> grafo) {
+        this.csr = grafo.congelar();
+        ListaEncadeada<Grafo.Aresta<V>> arestas = grafo.getArestas();
+        int m = arestas.size();
+        int capacidade = grafo.isDirecionado() ? m : 2 * m;
+        origens = new int[capacidade];
+        destinos = new int[capacidade];
+        pesos = new double[capacidade];
+        int i = 0;
+        ListaEncadeada<Grafo.Aresta<V>>.MeuIteradorDeLista iterador = arestas.iterador();
+        while (iterador.temProximo()) {
+            Grafo.Aresta<V> aresta = iterador.proximo();
+            int u = csr.idDe(aresta.origem());
+            int v = csr.idDe(aresta.destino());
+            origens[i] = u;
+            destinos[i] = v;
+            pesos[i++] = aresta.peso();
+            if (!grafo.isDirecionado()) {
+                origens[i] = v;
+                destinos[i] = u;
+                pesos[i++] = aresta.peso();
+            }
+        }
+    }
+
+    public BellmanFord(GrafoCSR<V> csr) {
+        this.csr = csr;
+        // Os arcos do CSR já estão agrupados por origem e incluem os dois sentidos das arestas não direcionadas.
+        int m = csr.getNumeroDeArcos();
+        origens = new int[m];
+        destinos = new int[m];
+        pesos = new double[m];
+        for (int u = 0; u < csr.getNumeroDeVertices(); u++) {
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                origens[e] = u;
+                destinos[e] = csr.alvo(e);
+                pesos[e] = csr.peso(e);
+            }
+        }
+    }
+
+    /**
+     * Calcula as distâncias a partir da origem usando a fila do SPFA.
+     * Se houver ciclo negativo alcançável, o resultado o informa em
+     * {@link ResultadoBellmanFord#getCicloNegativo()} e as distâncias não são definitivas.
+     */
+    public ResultadoBellmanFord<V> calcular(V origem) {
+        return calcularIds(idObrigatorio(origem));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object)}.
+     */
+    public ResultadoBellmanFord<V> calcularIds(int origem) {
+        int n = csr.getNumeroDeVertices();
+        double[] distancias = novasDistancias(n, origem);
+        int[] predecessores = novosPredecessores(n);
+        int[] ciclo = executarFila(distancias, predecessores, new int[]{origem});
+        return new ResultadoBellmanFord<>(csr, origem, distancias, predecessores, contarAlcancados(distancias), ciclo);
+    }
+
+    /**
+     * Calcula potenciais h[v] para a reponderação de Johnson: as distâncias a partir de uma origem
+     * virtual ligada a todos os vértices por arestas de peso zero. Com eles, w(u, v) + h[u] - h[v] ≥ 0
+     * para toda aresta. A origem virtual não é materializada: todos os vértices começam com distância
+     * zero e na fila.
+     *
+     * @return Os potenciais indexados por id, ou null se o grafo tiver algum ciclo negativo.
+     */
+    public double[] calcularPotenciais() {
+        int n = csr.getNumeroDeVertices();
+        double[] potenciais = new double[n];
+        int[] iniciais = new int[n];
+        for (int v = 0; v < n; v++) {
+            iniciais[v] = v;
+        }
+        int[] ciclo = executarFila(potenciais, novosPredecessores(n), iniciais);
+        return ciclo == null ? potenciais : null;
+    }
+
+    /**
+     * Laço do SPFA: processa a fila FIFO até ela esvaziar ou até achar um ciclo negativo.
+     *
+     * @param iniciais Vértices que começam na fila (com a distância já preenchida).
+     * @return Os ids do ciclo negativo encontrado, ou null.
+     */
+    private int[] executarFila(double[] distancias, int[] predecessores, int[] iniciais) {
+        int n = csr.getNumeroDeVertices();
+        // Número de arestas do caminho atual até cada vértice; chegar a n indica um possível ciclo negativo.
+        int[] arestasNoCaminho = new int[n];
+
+        // Cada vértice está no máximo uma vez na fila, então um buffer circular de tamanho n basta.
+        int[] fila = new int[n];
+        ConjuntoDeBits naFila = new ConjuntoDeBits(n);
+        int inicio = 0;
+        int tamanho = 0;
+        for (int v : iniciais) {
+            fila[tamanho++] = v;
+            naFila.add(v);
+        }
+
+        while (tamanho > 0) {
+            int u = fila[inicio];
+            inicio = (inicio + 1) % n;
+            tamanho--;
+            naFila.remove(u);
+
+            double du = distancias[u];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                double nova = du + csr.peso(e);
+                if (nova < distancias[v]) {
+                    distancias[v] = nova;
+                    predecessores[v] = u;
+                    arestasNoCaminho[v] = arestasNoCaminho[u] + 1;
+                    if (arestasNoCaminho[v] >= n) {
+                        int[] ciclo = cicloNosPredecessores(predecessores, v);
+                        if (ciclo != null) {
+                            return ciclo;
+                        }
+                    }
+                    if (naFila.add(v)) {
+                        fila[(inicio + tamanho) % n] = v;
+                        tamanho++;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bellman-Ford em rodadas sobre o array de arestas, parando na primeira rodada sem mudança.
+     * Se ainda houver relaxação após V-1 rodadas, existe ciclo negativo alcançável.
+     */
+    public ResultadoBellmanFord<V> calcularClassico(V origem) {
+        return calcularClassicoIds(idObrigatorio(origem));
+    }
+
+    /**
+     * Versão por ids de {@link #calcularClassico(Object)}.
+     */
+    public ResultadoBellmanFord<V> calcularClassicoIds(int origem) {
+        int n = csr.getNumeroDeVertices();
+        double[] distancias = novasDistancias(n, origem);
+        int[] predecessores = novosPredecessores(n);
+
+        // A rodada de índice n-1 (a n-ésima) só relaxa algo se houver ciclo negativo.
+        for (int rodada = 0; rodada < n; rodada++) {
+            int ultimoRelaxado = -1;
+            for (int e = 0; e < origens.length; e++) {
+                double du = distancias[origens[e]];
+                if (du == Double.POSITIVE_INFINITY) continue;
+                double nova = du + pesos[e];
+                int v = destinos[e];
+                if (nova < distancias[v]) {
+                    distancias[v] = nova;
+                    predecessores[v] = origens[e];
+                    ultimoRelaxado = v;
+                }
+            }
+            if (ultimoRelaxado == -1) {
+                break;
+            }
+            if (rodada == n - 1) {
+                int[] ciclo = cicloNosPredecessores(predecessores, ultimoRelaxado);
+                return new ResultadoBellmanFord<>(csr, origem, distancias, predecessores,
+                        contarAlcancados(distancias), ciclo);
+            }
+        }
+        return new ResultadoBellmanFord<>(csr, origem, distancias, predecessores, contarAlcancados(distancias), null);
+    }
+
+    /**
+     * Bellman-Ford em rodadas no pool comum do ForkJoin.
+     */
+    public ResultadoBellmanFord<V> calcularParalelo(V origem) {
+        return calcularParaleloIds(idObrigatorio(origem), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Bellman-Ford em rodadas, com cada rodada dividida entre as threads do pool.
+     */
+    public ResultadoBellmanFord<V> calcularParalelo(V origem, ForkJoinPool pool) {
+        return calcularParaleloIds(idObrigatorio(origem), pool);
+    }
+
+    /**
+     * Versão por ids de {@link #calcularParalelo(Object, ForkJoinPool)}.
+     *
+     * As distâncias ficam num {@link AtomicLongArray} com os bits de cada double; como a ordem dos bits
+     * de doubles não negativos e de doubles negativos não é a mesma dos longs, a atualização compara os
+     * valores como double e só usa o long para o compare-and-set.
+     * Os predecessores não são gravados durante as rodadas (duas threads poderiam gravar a distância de
+     * uma e o predecessor da outra); depois da convergência, a árvore é montada por
+     * {@link ResultadoCaminhoMinimo#arvoreDeArestasJustas}. Se houver ciclo negativo, a extração do
+     * ciclo é feita pelo modo clássico, que é sequencial.
+     */
+    public ResultadoBellmanFord<V> calcularParaleloIds(int origem, ForkJoinPool pool) {
+        int n = csr.getNumeroDeVertices();
+        AtomicLongArray bits = new AtomicLongArray(n);
+        long infinito = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < n; v++) {
+            bits.set(v, infinito);
+        }
+        bits.set(origem, Double.doubleToRawLongBits(0.0));
+
+        AtomicBoolean mudou = new AtomicBoolean();
+        boolean convergiu = false;
+        for (int rodada = 0; rodada < n; rodada++) {
+            mudou.set(false);
+            LacoParalelo.paraCadaBloco(pool, origens.length, LIMIAR_PARALELO,
+                    (bloco, inicio, fim) -> relaxarArestas(bits, mudou, inicio, fim));
+            if (!mudou.get()) {
+                convergiu = true;
+                break;
+            }
+        }
+        if (!convergiu) {
+            return calcularClassicoIds(origem);
+        }
+
+        double[] distancias = new double[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = Double.longBitsToDouble(bits.get(v));
+        }
+        int[] predecessores = ResultadoCaminhoMinimo.arvoreDeArestasJustas(csr, distancias, origem);
+        return new ResultadoBellmanFord<>(csr, origem, distancias, predecessores, contarAlcancados(distancias), null);
+    }
+
+    /**
+     * Relaxa as arestas [inicio, fim) do array de arestas e marca {@code mudou} se alguma distância diminuiu.
+     */
+    private void relaxarArestas(AtomicLongArray bits, AtomicBoolean mudou, int inicio, int fim) {
+        boolean alterou = false;
+        for (int e = inicio; e < fim; e++) {
+            double du = Double.longBitsToDouble(bits.get(origens[e]));
+            if (du == Double.POSITIVE_INFINITY) continue;
+            double nova = du + pesos[e];
+            int v = destinos[e];
+            long atual = bits.get(v);
+            // Mínimo atômico: tenta de novo enquanto o valor gravado for maior e outra thread o trocar.
+            while (nova < Double.longBitsToDouble(atual)) {
+                if (bits.compareAndSet(v, atual, Double.doubleToRawLongBits(nova))) {
+                    alterou = true;
+                    break;
+                }
+                atual = bits.get(v);
+            }
+        }
+        if (alterou) {
+            mudou.set(true);
+        }
+    }
+
+    /**
+     * Segue os predecessores a partir de v procurando um ciclo. No grafo de predecessores cada vértice
+     * tem no máximo uma aresta de saída, então basta marcar os vértices visitados nesta caminhada:
+     * o primeiro vértice repetido está no ciclo. Todo ciclo no grafo de predecessores tem custo negativo.
+     *
+     * @return Os ids do ciclo na ordem das arestas, ou null se a caminhada chegar a um vértice sem predecessor.
+     */
+    private int[] cicloNosPredecessores(int[] predecessores, int v) {
+        ConjuntoDeBits visitados = new ConjuntoDeBits(predecessores.length);
+        int x = v;
+        while (x != ResultadoCaminhoMinimo.SEM_PREDECESSOR && visitados.add(x)) {
+            x = predecessores[x];
+        }
+        if (x == ResultadoCaminhoMinimo.SEM_PREDECESSOR) {
+            return null;
+        }
+
+        int tamanho = 1;
+        for (int y = predecessores[x]; y != x; y = predecessores[y]) {
+            tamanho++;
+        }
+        // Os predecessores percorrem o ciclo ao contrário; o array é preenchido do fim para o começo.
+        int[] ciclo = new int[tamanho];
+        int y = x;
+        for (int i = tamanho - 1; i >= 0; i--) {
+            ciclo[i] = y;
+            y = predecessores[y];
+        }
+        return ciclo;
+    }
+
+    private static double[] novasDistancias(int n, int origem) {
+        double[] distancias = new double[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = Double.POSITIVE_INFINITY;
+        }
+        distancias[origem] = 0.0;
+        return distancias;
+    }
+
+    private static int[] novosPredecessores(int n) {
+        int[] predecessores = new int[n];
+        for (int v = 0; v < n; v++) {
+            predecessores[v] = ResultadoCaminhoMinimo.SEM_PREDECESSOR;
+        }
+        return predecessores;
+    }
+
+    private static int contarAlcancados(double[] distancias) {
+        int alcancados = 0;
+        for (double d : distancias) {
+            if (d != Double.POSITIVE_INFINITY) alcancados++;
+        }
+        return alcancados;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
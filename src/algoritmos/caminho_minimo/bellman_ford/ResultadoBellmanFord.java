@@ -0,0 +1,46 @@
+package algoritmos.caminho_minimo.bellman_ford;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+
+/**
+ * Resultado do Bellman-Ford: além das distâncias e predecessores, informa se um ciclo
+ * de custo negativo alcançável a partir da origem foi encontrado e quais vértices o formam.
+ * Quando há ciclo negativo, as distâncias não são definidas e não devem ser usadas.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ResultadoBellmanFord<V> extends ResultadoCaminhoMinimo<V> {
+
+    private final int[] cicloNegativo; // Ids do ciclo na ordem das arestas, ou null.
+
+    ResultadoBellmanFord(GrafoCSR<V> csr, int origem, double[] distancias, int[] predecessores,
+                         int verticesAssentados, int[] cicloNegativo) {
+        super(csr, origem, distancias, predecessores, verticesAssentados);
+        this.cicloNegativo = cicloNegativo;
+    }
+
+    public boolean temCicloNegativo() {
+        return cicloNegativo != null;
+    }
+
+    /**
+     * Retorna os vértices do ciclo negativo na ordem em que as arestas são percorridas
+     * (o primeiro vértice não é repetido no final), ou lista vazia se não houver ciclo.
+     */
+    public ListaEncadeada<V> getCicloNegativo() {
+        ListaEncadeada<V> ciclo = new ListaEncadeada<>();
+        if (cicloNegativo != null) {
+            for (int id : cicloNegativo) {
+                ciclo.addLast(getGrafo().rotuloDe(id));
+            }
+        }
+        return ciclo;
+    }
+
+    /** Versão por ids de {@link #getCicloNegativo()}; array vazio se não houver ciclo. */
+    public int[] getCicloNegativoIds() {
+        return cicloNegativo == null ? new int[0] : cicloNegativo.clone();
+    }
+}
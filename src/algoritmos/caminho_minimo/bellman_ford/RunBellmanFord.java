@@ -0,0 +1,104 @@
+package algoritmos.caminho_minimo.bellman_ford;
+
+import graph_structure.Grafo;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunBellmanFord {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Grafo com pesos negativos, sem ciclo negativo ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dados_pesos_negativos.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        Grafo<String> grafo = LeitorDeGrafo.carregarGrafoComDeteccao(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        BellmanFord<String> bellmanFord = new BellmanFord<>(grafo);
+        String origem = "S";
+        System.out.println("--- Executando Bellman-Ford (SPFA) a partir de '" + origem + "' ---");
+        ResultadoBellmanFord<String> resultado = bellmanFord.calcular(origem);
+        for (int v = 0; v < bellmanFord.getGrafo().getNumeroDeVertices(); v++) {
+            String vertice = bellmanFord.getGrafo().rotuloDe(v);
+            if (resultado.alcancavel(vertice)) {
+                System.out.println("Vértice " + vertice + ": distância " + resultado.distancia(vertice)
+                        + " | caminho " + resultado.caminhoAte(vertice));
+            } else {
+                System.out.println("Vértice " + vertice + ": inalcançável");
+            }
+        }
+        System.out.println("Ciclo negativo: " + resultado.temCicloNegativo());
+
+        // --- ETAPA 2: Grafo com ciclo negativo ---
+        caminhoArquivo = "src/algoritmos/caminho_minimo/dados_ciclo_negativo.txt";
+        System.out.println("\n--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+        Grafo<String> grafoComCiclo = LeitorDeGrafo.carregarGrafoComDeteccao(caminhoArquivo);
+        if (grafoComCiclo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        BellmanFord<String> comCiclo = new BellmanFord<>(grafoComCiclo);
+        ResultadoBellmanFord<String> spfa = comCiclo.calcular("A");
+        ResultadoBellmanFord<String> classico = comCiclo.calcularClassico("A");
+        System.out.println("SPFA:     ciclo negativo " + spfa.temCicloNegativo() + " -> " + spfa.getCicloNegativo());
+        System.out.println("Clássico: ciclo negativo " + classico.temCicloNegativo() + " -> " + classico.getCicloNegativo());
+        System.out.println("A partir de 'E' (ciclo inalcançável): " + comCiclo.calcular("E").temCicloNegativo());
+
+        // --- ETAPA 3: Grafo aleatório maior, comparando os três modos ---
+        int n = 20_000;
+        int m = 200_000;
+        Grafo<Integer> aleatorio = gerarGrafoAleatorio(n, m, 42);
+        BellmanFord<Integer> grande = new BellmanFord<>(aleatorio);
+        System.out.println("\n--- Grafo aleatório com " + n + " vértices e " + m + " arestas ---");
+
+        long inicio = System.nanoTime();
+        ResultadoBellmanFord<Integer> porFila = grande.calcular(0);
+        double msFila = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ResultadoBellmanFord<Integer> porRodadas = grande.calcularClassico(0);
+        double msClassico = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ResultadoBellmanFord<Integer> paralelo = grande.calcularParalelo(0);
+        double msParalelo = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        boolean iguais = true;
+        for (int v = 0; v < n; v++) {
+            iguais &= porFila.distanciaId(v) == porRodadas.distanciaId(v)
+                    && paralelo.distanciaId(v) == porRodadas.distanciaId(v);
+        }
+        System.out.printf("SPFA:     %.1f ms%n", msFila);
+        System.out.printf("Clássico: %.1f ms%n", msClassico);
+        System.out.printf("Paralelo: %.1f ms%n", msParalelo);
+        System.out.println("Distâncias iguais nos três modos: " + iguais);
+    }
+
+    /**
+     * Grafo direcionado aleatório sem ciclos negativos: os pesos são p(u) - p(v) + w com w em [0, 10),
+     * então todo ciclo tem custo igual à soma dos w, que não é negativa.
+     */
+    private static Grafo<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        int[] potencial = new int[n];
+        for (int v = 0; v < n; v++) {
+            potencial[v] = aleatorio.nextInt(20);
+        }
+        Grafo<Integer> grafo = new Grafo<>(true);
+        for (int v = 0; v < n; v++) {
+            grafo.adicionarVertice(v);
+        }
+        for (int i = 0; i < m; i++) {
+            int u = aleatorio.nextInt(n);
+            int v = aleatorio.nextInt(n);
+            grafo.adicionarAresta(u, v, potencial[u] - potencial[v] + aleatorio.nextInt(10));
+        }
+        return grafo;
+    }
+}
@@ -0,0 +1,296 @@
+package algoritmos.caminho_minimo.delta_stepping;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.paralelo.LacoParalelo;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Delta-stepping (Meyer e Sanders) para caminhos mínimos a partir de uma única origem, com pesos não negativos.
+ *
+ * Os vértices pendentes ficam em baldes de largura Δ: o balde i guarda os vértices com distância
+ * provisória em [iΔ, (i+1)Δ). Os baldes são processados em ordem; dentro de um balde, todos os vértices
+ * são relaxados de uma vez (em paralelo), em vez de um por vez como no Dijkstra. As arestas de cada
+ * vértice são separadas em leves (peso ≤ Δ), que podem devolver vértices ao balde atual e por isso são
+ * relaxadas repetidamente até o balde esvaziar, e pesadas (peso > Δ), que só levam a baldes posteriores
+ * e são relaxadas uma única vez, quando o balde fecha.
+ *
+ * Δ pequeno aproxima o Dijkstra (pouco paralelismo, pouco trabalho repetido); Δ grande aproxima o
+ * Bellman-Ford (muito paralelismo, muito trabalho repetido). {@link #deltaAutomatico(GrafoCSR)} escolhe
+ * um valor a partir dos pesos.
+ *
+ * As distâncias ficam num {@link AtomicLongArray} com os bits de cada double e são atualizadas com
+ * compare-and-set; a árvore de predecessores é montada no final por
+ * {@link ResultadoCaminhoMinimo#arvoreDeArestasJustas}. O resultado é o mesmo {@link ResultadoCaminhoMinimo}
+ * do {@code Dijkstra}, então os dois podem ser comparados diretamente.
+ *
+ * A instância não guarda estado entre consultas, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class DeltaStepping<V> {
+
+    /** Vértices da fronteira por tarefa. Fronteiras que cabem em um bloco são relaxadas pela própria thread. */
+    private static final int LIMIAR_PARALELO = 256;
+
+    /** Limite para a quantidade de baldes circulares (peso máximo / Δ). */
+    private static final long MAXIMO_DE_BALDES = 1 << 24;
+
+    private final GrafoCSR<V> csr;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    // Cópia da adjacência em que, para cada vértice, as arestas leves vêm antes das pesadas.
+    private final int[] offsets;
+    private final int[] inicioPesadas;
+    private final int[] alvos;
+    private final double[] pesos;
+
+    // Todas as distâncias provisórias pendentes estão em [iΔ, iΔ + Δ + peso máximo], então bastam
+    // (peso máximo / Δ) + 2 baldes, reaproveitados de forma circular.
+    private final int numeroDeBaldes;
+
+    public DeltaStepping(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public DeltaStepping(GrafoCSR<V> csr) {
+        this(csr, deltaAutomatico(csr), ForkJoinPool.commonPool());
+    }
+
+    public DeltaStepping(GrafoCSR<V> csr, double delta) {
+        this(csr, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csr   Grafo com pesos não negativos.
+     * @param delta Largura dos baldes (maior que zero).
+     * @param pool  Pool em que as fronteiras grandes são relaxadas.
+     */
+    public DeltaStepping(GrafoCSR<V> csr, double delta, ForkJoinPool pool) {
+        if (!(delta > 0) || Double.isInfinite(delta)) {
+            throw new IllegalArgumentException("Delta deve ser positivo e finito: " + delta);
+        }
+        double pesoMaximo = 0.0;
+        for (int e = 0; e < csr.getNumeroDeArcos(); e++) {
+            if (csr.peso(e) < 0) {
+                throw new IllegalArgumentException("Delta-stepping não aceita arestas com peso negativo: "
+                        + csr.rotuloDe(csr.origem(e)) + " -> " + csr.rotuloDe(csr.alvo(e)) + " (" + csr.peso(e) + ")");
+            }
+            pesoMaximo = Math.max(pesoMaximo, csr.peso(e));
+        }
+        long baldes = (long) (pesoMaximo / delta) + 2;
+        if (baldes > MAXIMO_DE_BALDES) {
+            throw new IllegalArgumentException("Delta muito pequeno para o peso máximo " + pesoMaximo + ": " + delta);
+        }
+        this.csr = csr;
+        this.delta = delta;
+        this.pool = pool;
+        this.numeroDeBaldes = (int) baldes;
+
+        int n = csr.getNumeroDeVertices();
+        offsets = new int[n + 1];
+        inicioPesadas = new int[n];
+        alvos = new int[csr.getNumeroDeArcos()];
+        pesos = new double[csr.getNumeroDeArcos()];
+        for (int u = 0; u < n; u++) {
+            int leve = csr.inicio(u);
+            int pesada = csr.fim(u) - 1;
+            // Leves preenchidas do começo do intervalo e pesadas do fim.
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int p = csr.peso(e) <= delta ? leve++ : pesada--;
+                alvos[p] = csr.alvo(e);
+                pesos[p] = csr.peso(e);
+            }
+            offsets[u + 1] = csr.fim(u);
+            inicioPesadas[u] = leve;
+        }
+    }
+
+    /**
+     * Escolhe Δ = peso máximo / grau médio, a escolha de Meyer e Sanders para pesos aleatórios:
+     * cada vértice tem em média cerca de uma aresta leve, o que mantém baixo o trabalho repetido
+     * dentro de um balde sem deixar os baldes vazios demais. Grafos sem arestas ou só com pesos
+     * zero usam Δ = 1.
+     */
+    public static double deltaAutomatico(GrafoCSR<?> csr) {
+        int n = csr.getNumeroDeVertices();
+        int m = csr.getNumeroDeArcos();
+        double pesoMaximo = 0.0;
+        for (int e = 0; e < m; e++) {
+            pesoMaximo = Math.max(pesoMaximo, csr.peso(e));
+        }
+        if (m == 0 || pesoMaximo <= 0) {
+            return 1.0;
+        }
+        double grauMedio = Math.max(1.0, (double) m / n);
+        return pesoMaximo / grauMedio;
+    }
+
+    /**
+     * Calcula as distâncias e a árvore de caminhos mínimos da origem até todos os vértices alcançáveis.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem) {
+        return calcularIds(idObrigatorio(origem));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object)}.
+     * {@link ResultadoCaminhoMinimo#getVerticesAssentados()} conta os vértices retirados dos baldes,
+     * incluindo os que voltam ao balde atual e são processados mais de uma vez.
+     */
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem) {
+        int n = csr.getNumeroDeVertices();
+        AtomicLongArray bits = new AtomicLongArray(n);
+        long infinito = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < n; v++) {
+            bits.set(v, infinito);
+        }
+        bits.set(origem, Double.doubleToRawLongBits(0.0));
+
+        // baldeDe[v] = balde em que v está pendente, ou -1. Entradas de um balde que não batem com
+        // baldeDe são restos de quando v estava em um balde maior e são ignoradas.
+        long[] baldeDe = new long[n];
+        long[] removidoNoBalde = new long[n];
+        for (int v = 0; v < n; v++) {
+            baldeDe[v] = -1;
+            removidoNoBalde[v] = -1;
+        }
+        ListaDeInteiros[] baldes = new ListaDeInteiros[numeroDeBaldes];
+        for (int i = 0; i < numeroDeBaldes; i++) {
+            baldes[i] = new ListaDeInteiros();
+        }
+
+        baldeDe[origem] = 0;
+        baldes[0].add(origem);
+        int pendentes = 1;
+        int processados = 0;
+        long atual = 0;
+        ListaDeInteiros fronteira = new ListaDeInteiros();
+        ListaDeInteiros removidos = new ListaDeInteiros();
+
+        while (pendentes > 0) {
+            while (baldes[(int) (atual % numeroDeBaldes)].isEmpty()) {
+                atual++;
+            }
+            ListaDeInteiros balde = baldes[(int) (atual % numeroDeBaldes)];
+            removidos.clear();
+
+            // Fase leve: repete enquanto as arestas leves devolverem vértices ao balde atual.
+            while (!balde.isEmpty()) {
+                fronteira.clear();
+                for (int i = 0; i < balde.size(); i++) {
+                    int v = balde.get(i);
+                    if (baldeDe[v] != atual) continue;
+                    baldeDe[v] = -1;
+                    pendentes--;
+                    fronteira.add(v);
+                    if (removidoNoBalde[v] != atual) {
+                        removidoNoBalde[v] = atual;
+                        removidos.add(v);
+                    }
+                }
+                balde.clear();
+                processados += fronteira.size();
+                pendentes += distribuir(relaxar(fronteira, bits, true), bits, baldeDe, baldes);
+            }
+
+            // Fase pesada: as arestas pesadas dos vértices fechados levam só a baldes posteriores.
+            pendentes += distribuir(relaxar(removidos, bits, false), bits, baldeDe, baldes);
+            atual++;
+        }
+
+        double[] distancias = new double[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = Double.longBitsToDouble(bits.get(v));
+        }
+        int[] predecessores = ResultadoCaminhoMinimo.arvoreDeArestasJustas(csr, distancias, origem);
+        return new ResultadoCaminhoMinimo<>(csr, origem, distancias, predecessores, processados);
+    }
+
+    /**
+     * Coloca cada vértice melhorado no balde da sua nova distância.
+     *
+     * @return Quantos vértices passaram a ficar pendentes (os que já estavam só mudam de balde).
+     */
+    private int distribuir(ListaDeInteiros alterados, AtomicLongArray bits, long[] baldeDe, ListaDeInteiros[] baldes) {
+        int novos = 0;
+        for (int i = 0; i < alterados.size(); i++) {
+            int v = alterados.get(i);
+            long b = (long) (Double.longBitsToDouble(bits.get(v)) / delta);
+            if (baldeDe[v] == b) continue;
+            if (baldeDe[v] == -1) novos++;
+            baldeDe[v] = b;
+            baldes[(int) (b % numeroDeBaldes)].add(v);
+        }
+        return novos;
+    }
+
+    /**
+     * Relaxa as arestas leves (ou pesadas) de todos os vértices da lista.
+     *
+     * @return Os vértices cuja distância diminuiu (com possíveis repetições).
+     */
+    private ListaDeInteiros relaxar(ListaDeInteiros vertices, AtomicLongArray bits, boolean leves) {
+        // Cada bloco junta os vértices que melhorou em uma lista própria, concatenada no fim.
+        ListaDeInteiros[] buffers = new ListaDeInteiros[LacoParalelo.numeroDeBlocos(vertices.size(), LIMIAR_PARALELO)];
+        LacoParalelo.paraCadaBloco(pool, vertices.size(), LIMIAR_PARALELO, (bloco, inicio, fim) -> {
+            ListaDeInteiros alterados = new ListaDeInteiros();
+            relaxarIntervalo(vertices, inicio, fim, bits, leves, alterados);
+            buffers[bloco] = alterados;
+        });
+        if (buffers.length == 1) {
+            return buffers[0];
+        }
+        ListaDeInteiros alterados = new ListaDeInteiros();
+        for (ListaDeInteiros buffer : buffers) {
+            for (int i = 0; i < buffer.size(); i++) {
+                alterados.add(buffer.get(i));
+            }
+        }
+        return alterados;
+    }
+
+    private void relaxarIntervalo(ListaDeInteiros vertices, int inicio, int fim, AtomicLongArray bits,
+                                  boolean leves, ListaDeInteiros alterados) {
+        for (int i = inicio; i < fim; i++) {
+            int u = vertices.get(i);
+            double du = Double.longBitsToDouble(bits.get(u));
+            int primeira = leves ? offsets[u] : inicioPesadas[u];
+            int ultima = leves ? inicioPesadas[u] : offsets[u + 1];
+            for (int p = primeira; p < ultima; p++) {
+                int v = alvos[p];
+                double nova = du + pesos[p];
+                long atual = bits.get(v);
+                // Mínimo atômico: tenta de novo enquanto o valor gravado for maior e outra thread o trocar.
+                while (nova < Double.longBitsToDouble(atual)) {
+                    if (bits.compareAndSet(v, atual, Double.doubleToRawLongBits(nova))) {
+                        alterados.add(v);
+                        break;
+                    }
+                    atual = bits.get(v);
+                }
+            }
+        }
+    }
+
+    public double getDelta() {
+        return delta;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,89 @@
+package algoritmos.caminho_minimo.delta_stepping;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunDeltaStepping {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo diretamente no formato CSR ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Distâncias a partir da origem ---
+        DeltaStepping<String> deltaStepping = new DeltaStepping<>(grafo);
+        String origem = "S";
+        System.out.println("--- Executando Delta-stepping a partir de '" + origem + "' (Δ = "
+                + deltaStepping.getDelta() + ") ---");
+        ResultadoCaminhoMinimo<String> resultado = deltaStepping.calcular(origem);
+        for (int v = 0; v < grafo.getNumeroDeVertices(); v++) {
+            String vertice = grafo.rotuloDe(v);
+            if (resultado.alcancavel(vertice)) {
+                System.out.println("Vértice " + vertice + ": distância " + resultado.distancia(vertice)
+                        + " | caminho " + resultado.caminhoAte(vertice));
+            } else {
+                System.out.println("Vértice " + vertice + ": inalcançável");
+            }
+        }
+
+        // --- ETAPA 3: Grafo aleatório maior, comparando com o Dijkstra sequencial ---
+        int n = 200_000;
+        int m = 2_000_000;
+        GrafoCSR<Integer> aleatorio = gerarGrafoAleatorio(n, m, 42);
+        System.out.println("\n--- Grafo aleatório com " + n + " vértices e " + m + " arestas | threads disponíveis: "
+                + Runtime.getRuntime().availableProcessors() + " ---");
+
+        Dijkstra<Integer> dijkstra = new Dijkstra<>(aleatorio);
+        dijkstra.calcularIds(0, -1); // Aquecimento do JIT.
+        long inicio = System.nanoTime();
+        ResultadoCaminhoMinimo<Integer> referencia = dijkstra.calcularIds(0, -1);
+        System.out.printf("Dijkstra:                 %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        double automatico = DeltaStepping.deltaAutomatico(aleatorio);
+        double[] deltas = {automatico / 4, automatico, automatico * 4};
+        for (double delta : deltas) {
+            DeltaStepping<Integer> paralelo = new DeltaStepping<>(aleatorio, delta);
+            paralelo.calcularIds(0); // Aquecimento do JIT.
+            inicio = System.nanoTime();
+            ResultadoCaminhoMinimo<Integer> obtido = paralelo.calcularIds(0);
+            double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+            boolean iguais = true;
+            for (int v = 0; v < n; v++) {
+                iguais &= obtido.distanciaId(v) == referencia.distanciaId(v);
+            }
+            System.out.printf("Delta-stepping (Δ = %6.1f): %.1f ms | vértices processados %d | distâncias iguais: %b%n",
+                    delta, ms, obtido.getVerticesAssentados(), iguais);
+        }
+    }
+
+    /** Grafo direcionado aleatório com pesos inteiros de 1 a 100. */
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1 + aleatorio.nextInt(100);
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, true);
+    }
+}
@@ -0,0 +1,106 @@
+package algoritmos.caminho_minimo.dijkstra;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+
+/**
+ * Algoritmo de Dijkstra para caminhos mínimos a partir de uma única origem.
+ * Trabalha sobre o {@link GrafoCSR} (ids densos e adjacência contígua) com uma
+ * {@link FilaDePrioridadeIndexada}: cada vértice ocupa no máximo uma posição no heap
+ * e uma relaxação bem-sucedida vira um decrease-key, sem alocação por aresta.
+ *
+ * Só aceita pesos não negativos. A instância não guarda estado entre consultas,
+ * então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class Dijkstra<V> {
+
+    private final GrafoCSR<V> csr;
+
+    public Dijkstra(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public Dijkstra(GrafoCSR<V> csr) {
+        // Dijkstra assume que, ao sair do heap, a distância de um vértice não melhora mais.
+        for (int e = 0; e < csr.getNumeroDeArcos(); e++) {
+            if (csr.peso(e) < 0) {
+                throw new IllegalArgumentException("Dijkstra não aceita arestas com peso negativo: "
+                        + csr.rotuloDe(csr.origem(e)) + " -> " + csr.rotuloDe(csr.alvo(e)) + " (" + csr.peso(e) + ")");
+            }
+        }
+        this.csr = csr;
+    }
+
+    /**
+     * Calcula as distâncias e a árvore de caminhos mínimos da origem até todos os vértices alcançáveis.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem) {
+        return calcularIds(idObrigatorio(origem), -1);
+    }
+
+    /**
+     * Calcula o caminho mínimo da origem até o destino, parando assim que o destino é assentado.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem, V destino) {
+        return calcularIds(idObrigatorio(origem), idObrigatorio(destino));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object, Object)}.
+     *
+     * @param origem  Id do vértice de origem.
+     * @param destino Id do vértice de destino, ou -1 para calcular todas as distâncias.
+     */
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem, int destino) {
+        int n = csr.getNumeroDeVertices();
+        double[] distancias = new double[n];
+        int[] predecessores = new int[n];
+        for (int v = 0; v < n; v++) {
+            distancias[v] = Double.POSITIVE_INFINITY;
+            predecessores[v] = ResultadoCaminhoMinimo.SEM_PREDECESSOR;
+        }
+        FilaDePrioridadeIndexada fila = new FilaDePrioridadeIndexada(n);
+
+        distancias[origem] = 0.0;
+        fila.add(origem, 0.0);
+        int assentados = 0;
+
+        while (!fila.isEmpty()) {
+            int u = fila.removeMin();
+            assentados++;
+            // Parada antecipada: a distância do destino já é definitiva.
+            if (u == destino) {
+                break;
+            }
+
+            double du = distancias[u];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                double nova = du + csr.peso(e);
+                if (nova < distancias[v]) {
+                    distancias[v] = nova;
+                    predecessores[v] = u;
+                    fila.addOuDiminuir(v, nova);
+                }
+            }
+        }
+
+        return new ResultadoCaminhoMinimo<>(csr, origem, distancias, predecessores, assentados);
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,150 @@
+package algoritmos.caminho_minimo.dijkstra;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+import util.primitivos.ConjuntoDeBits;
+
+/**
+ * Dijkstra bidirecional para consultas ponto a ponto.
+ * Uma busca parte da origem sobre o grafo e outra parte do destino sobre o grafo transposto
+ * (em grafos não direcionados, o próprio grafo). Sempre que uma aresta liga as duas buscas,
+ * o melhor caminho conhecido μ é atualizado; a consulta termina quando
+ * μ ≤ topo_frente + topo_trás, pois nenhum caminho ainda não visto pode ser mais curto.
+ *
+ * Em grafos parecidos com malhas viárias, assenta muito menos vértices que o Dijkstra
+ * unidirecional. Só aceita pesos não negativos e não guarda estado entre consultas.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class DijkstraBidirecional<V> {
+
+    private final GrafoCSR<V> csr;
+    private final GrafoCSR<V> reverso;
+
+    public DijkstraBidirecional(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public DijkstraBidirecional(GrafoCSR<V> csr) {
+        for (int e = 0; e < csr.getNumeroDeArcos(); e++) {
+            if (csr.peso(e) < 0) {
+                throw new IllegalArgumentException("Dijkstra não aceita arestas com peso negativo: "
+                        + csr.rotuloDe(csr.origem(e)) + " -> " + csr.rotuloDe(csr.alvo(e)) + " (" + csr.peso(e) + ")");
+            }
+        }
+        this.csr = csr;
+        this.reverso = csr.transposto();
+    }
+
+    /**
+     * Calcula o caminho mínimo entre origem e destino.
+     * No resultado, a distância e o caminho até o destino são definitivos; o número de vértices
+     * assentados soma as duas buscas.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem, V destino) {
+        return calcularIds(idObrigatorio(origem), idObrigatorio(destino));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object, Object)}.
+     */
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem, int destino) {
+        int n = csr.getNumeroDeVertices();
+        double[] distFrente = new double[n];
+        double[] distTras = new double[n];
+        int[] predFrente = new int[n];
+        int[] proximoTras = new int[n]; // proximoTras[v] = vértice seguinte a v no caminho até o destino.
+        for (int v = 0; v < n; v++) {
+            distFrente[v] = Double.POSITIVE_INFINITY;
+            distTras[v] = Double.POSITIVE_INFINITY;
+            predFrente[v] = ResultadoCaminhoMinimo.SEM_PREDECESSOR;
+            proximoTras[v] = ResultadoCaminhoMinimo.SEM_PREDECESSOR;
+        }
+        FilaDePrioridadeIndexada filaFrente = new FilaDePrioridadeIndexada(n);
+        FilaDePrioridadeIndexada filaTras = new FilaDePrioridadeIndexada(n);
+
+        distFrente[origem] = 0.0;
+        distTras[destino] = 0.0;
+        filaFrente.add(origem, 0.0);
+        filaTras.add(destino, 0.0);
+
+        // μ: custo do melhor caminho completo já visto, e o vértice onde as buscas se encontraram nele.
+        double mu = origem == destino ? 0.0 : Double.POSITIVE_INFINITY;
+        int encontro = origem == destino ? origem : -1;
+        int assentados = 0;
+
+        while (!filaFrente.isEmpty() && !filaTras.isEmpty()) {
+            // Critério de parada: nenhum caminho ainda não visto pode ser menor que μ.
+            if (filaFrente.minPrioridade() + filaTras.minPrioridade() >= mu) {
+                break;
+            }
+
+            // Expande o lado com menos vértices na fronteira, mantendo as buscas equilibradas.
+            boolean frente = filaFrente.size() <= filaTras.size();
+            GrafoCSR<V> g = frente ? csr : reverso;
+            FilaDePrioridadeIndexada fila = frente ? filaFrente : filaTras;
+            double[] dist = frente ? distFrente : distTras;
+            double[] distOposta = frente ? distTras : distFrente;
+            int[] pred = frente ? predFrente : proximoTras;
+
+            int u = fila.removeMin();
+            assentados++;
+            double du = dist[u];
+            for (int e = g.inicio(u); e < g.fim(u); e++) {
+                int v = g.alvo(e);
+                double nova = du + g.peso(e);
+                if (nova < dist[v]) {
+                    dist[v] = nova;
+                    pred[v] = u;
+                    fila.addOuDiminuir(v, nova);
+                    // Se o outro lado já alcançou v, há um caminho completo passando por ele.
+                    double total = nova + distOposta[v];
+                    if (total < mu) {
+                        mu = total;
+                        encontro = v;
+                    }
+                }
+            }
+        }
+
+        // Costura o trecho de trás (encontro -> destino) na árvore da busca de frente.
+        double[] distancias = distFrente;
+        int[] predecessores = predFrente;
+        if (encontro != -1 && encontro != destino) {
+            // Vértices que já estão no caminho de frente até o encontro não são reescritos,
+            // o que evita ciclos nos predecessores quando há arestas de peso zero.
+            ConjuntoDeBits caminhoFrente = new ConjuntoDeBits(n);
+            for (int v = encontro; v != origem; v = predFrente[v]) {
+                caminhoFrente.add(v);
+            }
+            caminhoFrente.add(origem);
+
+            int atual = encontro;
+            while (atual != destino) {
+                int seguinte = proximoTras[atual];
+                if (!caminhoFrente.contains(seguinte)) {
+                    predecessores[seguinte] = atual;
+                    distancias[seguinte] = distancias[atual] + (distTras[atual] - distTras[seguinte]);
+                }
+                atual = seguinte;
+            }
+            distancias[destino] = mu;
+        }
+
+        return new ResultadoCaminhoMinimo<>(csr, origem, distancias, predecessores, assentados);
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,47 @@
+package algoritmos.caminho_minimo.dijkstra;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+public class RunDijkstra {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo diretamente no formato CSR ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        Dijkstra<String> dijkstra = new Dijkstra<>(grafo);
+
+        // --- ETAPA 2: Distâncias da origem para todos os vértices ---
+        String origem = "S";
+        System.out.println("--- Executando Dijkstra a partir de '" + origem + "' ---");
+        ResultadoCaminhoMinimo<String> resultado = dijkstra.calcular(origem);
+
+        for (int v = 0; v < grafo.getNumeroDeVertices(); v++) {
+            String vertice = grafo.rotuloDe(v);
+            if (resultado.alcancavel(vertice)) {
+                System.out.println("Vértice " + vertice + ": distância " + resultado.distancia(vertice)
+                        + " | caminho " + resultado.caminhoAte(vertice));
+            } else {
+                System.out.println("Vértice " + vertice + ": inalcançável");
+            }
+        }
+        System.out.println("Vértices assentados: " + resultado.getVerticesAssentados());
+
+        // --- ETAPA 3: Consulta ponto a ponto com parada antecipada ---
+        String destino = "Y";
+        System.out.println("\n--- Consulta " + origem + " -> " + destino + " (parada antecipada) ---");
+        ResultadoCaminhoMinimo<String> consulta = dijkstra.calcular(origem, destino);
+        System.out.println("Distância: " + consulta.distancia(destino) + " | caminho " + consulta.caminhoAte(destino));
+        System.out.println("Vértices assentados: " + consulta.getVerticesAssentados());
+    }
+}
@@ -0,0 +1,77 @@
+package algoritmos.caminho_minimo.dijkstra;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunDijkstraBidirecional {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo de exemplo (direcionado) ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Consulta ponto a ponto nas duas versões ---
+        String origem = "S";
+        String destino = "X";
+        System.out.println("--- Consulta " + origem + " -> " + destino + " ---");
+        ResultadoCaminhoMinimo<String> uni = new Dijkstra<>(grafo).calcular(origem, destino);
+        ResultadoCaminhoMinimo<String> bi = new DijkstraBidirecional<>(grafo).calcular(origem, destino);
+        System.out.println("Dijkstra:      distância " + uni.distancia(destino) + " | caminho " + uni.caminhoAte(destino));
+        System.out.println("Bidirecional:  distância " + bi.distancia(destino) + " | caminho " + bi.caminhoAte(destino));
+
+        // --- ETAPA 3: Comparar o número de vértices assentados em uma malha ---
+        int lado = 200;
+        GrafoCSR<String> malha = gerarMalha(lado, 42);
+        String canto = "0,0";
+        String centro = (lado / 2) + "," + (lado / 2);
+        System.out.println("\n--- Malha " + lado + "x" + lado + ": consulta " + canto + " -> " + centro + " ---");
+        uni = new Dijkstra<>(malha).calcular(canto, centro);
+        bi = new DijkstraBidirecional<>(malha).calcular(canto, centro);
+        System.out.println("Dijkstra:      distância " + uni.distancia(centro) + " | assentados " + uni.getVerticesAssentados());
+        System.out.println("Bidirecional:  distância " + bi.distancia(centro) + " | assentados " + bi.getVerticesAssentados());
+    }
+
+    /** Malha não direcionada lado x lado com pesos inteiros aleatórios de 1 a 10. */
+    private static GrafoCSR<String> gerarMalha(int lado, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                dicionario.internar(i + "," + j);
+            }
+        }
+        int maximo = 2 * lado * (lado - 1);
+        int[] origens = new int[maximo];
+        int[] destinos = new int[maximo];
+        double[] pesos = new double[maximo];
+        int quantidade = 0;
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                int u = i * lado + j;
+                if (j + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + 1;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+                if (i + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + lado;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+            }
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, false);
+    }
+}
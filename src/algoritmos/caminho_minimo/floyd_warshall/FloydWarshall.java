@@ -0,0 +1,279 @@
+package algoritmos.caminho_minimo.floyd_warshall;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Floyd-Warshall em blocos para caminhos mínimos entre todos os pares, com pesos quaisquer.
+ *
+ * A matriz de distâncias é um único array em ordem de linhas (d[i * n + j]) dividido em blocos de
+ * B x B. Para cada bloco de pivôs k, a atualização é feita em três fases:
+ * 1. o bloco diagonal (k, k), que só depende de si mesmo;
+ * 2. os blocos da linha k e da coluna k, que dependem só do bloco diagonal e são independentes entre si;
+ * 3. todos os demais blocos, que dependem só da linha e da coluna k e também são independentes entre si.
+ * Cada bloco cabe no cache durante os B pivôs, e as fases 2 e 3 são divididas entre as threads do pool.
+ *
+ * Os ids dos vértices são os do {@link GrafoCSR}, atribuídos na ordem de {@link Grafo#getVertices()}
+ * por {@link Grafo#congelar()}.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class FloydWarshall<V> {
+
+    public static final int TAMANHO_DO_BLOCO_PADRAO = 64;
+
+    private final GrafoCSR<V> csr;
+    private final int tamanhoDoBloco;
+    private final ForkJoinPool pool;
+
+    public FloydWarshall(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public FloydWarshall(GrafoCSR<V> csr) {
+        this(csr, TAMANHO_DO_BLOCO_PADRAO, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csr            Grafo de entrada.
+     * @param tamanhoDoBloco Lado dos blocos da matriz (um bloco do tamanho do grafo equivale ao algoritmo sem blocos).
+     * @param pool           Pool em que os blocos independentes de cada fase são processados.
+     */
+    public FloydWarshall(GrafoCSR<V> csr, int tamanhoDoBloco, ForkJoinPool pool) {
+        if (tamanhoDoBloco <= 0) {
+            throw new IllegalArgumentException("O tamanho do bloco deve ser positivo: " + tamanhoDoBloco);
+        }
+        long celulas = (long) csr.getNumeroDeVertices() * csr.getNumeroDeVertices();
+        if (celulas > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grafo grande demais para uma matriz de distâncias: "
+                    + csr.getNumeroDeVertices() + " vértices.");
+        }
+        this.csr = csr;
+        this.tamanhoDoBloco = tamanhoDoBloco;
+        this.pool = pool;
+    }
+
+    /**
+     * Calcula as distâncias entre todos os pares em precisão dupla.
+     */
+    public MatrizDeDistancias<V> calcular() {
+        int n = csr.getNumeroDeVertices();
+        double[] d = new double[n * n];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = Double.POSITIVE_INFINITY;
+        }
+        int[] proximo = inicializarProximos(n);
+        for (int u = 0; u < n; u++) {
+            d[u * n + u] = 0.0;
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int i = u * n + csr.alvo(e);
+                if (csr.peso(e) < d[i]) {
+                    d[i] = csr.peso(e);
+                    proximo[i] = csr.alvo(e);
+                }
+            }
+        }
+        executarFases(n, (bi, bj, bk) -> atualizarBloco(d, proximo, n, bi, bj, bk));
+        return corrigirLacos(new MatrizDeDistancias<>(csr, d, null, proximo), proximo);
+    }
+
+    /**
+     * Calcula as distâncias entre todos os pares em precisão simples ({@code float}), usando metade
+     * da memória da matriz de distâncias. Os pesos são arredondados para float antes do cálculo.
+     */
+    public MatrizDeDistancias<V> calcularPrecisaoSimples() {
+        int n = csr.getNumeroDeVertices();
+        float[] d = new float[n * n];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = Float.POSITIVE_INFINITY;
+        }
+        int[] proximo = inicializarProximos(n);
+        for (int u = 0; u < n; u++) {
+            d[u * n + u] = 0.0f;
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int i = u * n + csr.alvo(e);
+                if ((float) csr.peso(e) < d[i]) {
+                    d[i] = (float) csr.peso(e);
+                    proximo[i] = csr.alvo(e);
+                }
+            }
+        }
+        executarFases(n, (bi, bj, bk) -> atualizarBloco(d, proximo, n, bi, bj, bk));
+        return corrigirLacos(new MatrizDeDistancias<>(csr, null, d, proximo), proximo);
+    }
+
+    /** Atualização de um bloco (bi, bj) usando os pivôs do bloco bk. */
+    private interface AtualizacaoDeBloco {
+        void atualizar(int bi, int bj, int bk);
+    }
+
+    private void executarFases(int n, AtualizacaoDeBloco atualizacao) {
+        int blocos = (n + tamanhoDoBloco - 1) / tamanhoDoBloco;
+        ForkJoinTask<?>[] fase2 = new ForkJoinTask<?>[2 * Math.max(0, blocos - 1)];
+        ForkJoinTask<?>[] fase3 = new ForkJoinTask<?>[Math.max(0, blocos - 1) * Math.max(0, blocos - 1)];
+        for (int bk = 0; bk < blocos; bk++) {
+            final int k = bk;
+            // Fase 1: bloco diagonal.
+            atualizacao.atualizar(k, k, k);
+            if (blocos == 1) {
+                continue;
+            }
+
+            // Fase 2: linha e coluna do pivô.
+            int t = 0;
+            for (int b = 0; b < blocos; b++) {
+                if (b == k) continue;
+                final int outro = b;
+                fase2[t++] = ForkJoinTask.adapt(() -> atualizacao.atualizar(k, outro, k));
+                fase2[t++] = ForkJoinTask.adapt(() -> atualizacao.atualizar(outro, k, k));
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(fase2)));
+
+            // Fase 3: blocos restantes.
+            t = 0;
+            for (int bi = 0; bi < blocos; bi++) {
+                if (bi == k) continue;
+                for (int bj = 0; bj < blocos; bj++) {
+                    if (bj == k) continue;
+                    final int i = bi;
+                    final int j = bj;
+                    fase3[t++] = ForkJoinTask.adapt(() -> atualizacao.atualizar(i, j, k));
+                }
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(fase3)));
+        }
+    }
+
+    private void atualizarBloco(double[] d, int[] proximo, int n, int bi, int bj, int bk) {
+        int i0 = bi * tamanhoDoBloco, i1 = Math.min(n, i0 + tamanhoDoBloco);
+        int j0 = bj * tamanhoDoBloco, j1 = Math.min(n, j0 + tamanhoDoBloco);
+        int k0 = bk * tamanhoDoBloco, k1 = Math.min(n, k0 + tamanhoDoBloco);
+        for (int k = k0; k < k1; k++) {
+            int linhaK = k * n;
+            for (int i = i0; i < i1; i++) {
+                int linhaI = i * n;
+                double dik = d[linhaI + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                int proximoIK = proximo[linhaI + k];
+                for (int j = j0; j < j1; j++) {
+                    double nova = dik + d[linhaK + j];
+                    if (nova < d[linhaI + j]) {
+                        d[linhaI + j] = nova;
+                        proximo[linhaI + j] = proximoIK;
+                    }
+                }
+            }
+        }
+    }
+
+    private void atualizarBloco(float[] d, int[] proximo, int n, int bi, int bj, int bk) {
+        int i0 = bi * tamanhoDoBloco, i1 = Math.min(n, i0 + tamanhoDoBloco);
+        int j0 = bj * tamanhoDoBloco, j1 = Math.min(n, j0 + tamanhoDoBloco);
+        int k0 = bk * tamanhoDoBloco, k1 = Math.min(n, k0 + tamanhoDoBloco);
+        for (int k = k0; k < k1; k++) {
+            int linhaK = k * n;
+            for (int i = i0; i < i1; i++) {
+                int linhaI = i * n;
+                float dik = d[linhaI + k];
+                if (dik == Float.POSITIVE_INFINITY) continue;
+                int proximoIK = proximo[linhaI + k];
+                for (int j = j0; j < j1; j++) {
+                    float nova = dik + d[linhaK + j];
+                    if (nova < d[linhaI + j]) {
+                        d[linhaI + j] = nova;
+                        proximo[linhaI + j] = proximoIK;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Nas fases 2 e 3, um bloco usa valores da linha e da coluna do pivô que já incluem os pivôs seguintes
+     * do mesmo bloco. As distâncias continuam corretas, mas, quando há ciclos de custo zero, um empate pode
+     * fazer os próximos saltos até um destino formarem um laço. Para cada destino, verifica em O(n) se toda
+     * cadeia de próximos saltos chega até ele; se não chegar, refaz a coluna com uma busca reversa a partir
+     * do destino que só segue arestas justas (peso(x, y) + d[y][v] == d[x][v]).
+     */
+    private MatrizDeDistancias<V> corrigirLacos(MatrizDeDistancias<V> matriz, int[] proximo) {
+        if (matriz.temCicloNegativo()) {
+            return matriz;
+        }
+        int n = csr.getNumeroDeVertices();
+        // marca[x] == 2v + 1: x está na cadeia sendo percorrida; 2v + 2: a cadeia de x chega a v.
+        int[] marca = new int[n];
+        ListaDeInteiros cadeia = new ListaDeInteiros();
+        GrafoCSR<V> transposto = null;
+        for (int v = 0; v < n; v++) {
+            int visitando = 2 * v + 1;
+            int chega = 2 * v + 2;
+            marca[v] = chega;
+            boolean laco = false;
+            for (int x = 0; x < n && !laco; x++) {
+                cadeia.clear();
+                int y = x;
+                while (proximo[y * n + v] != MatrizDeDistancias.SEM_CAMINHO && marca[y] != chega) {
+                    if (marca[y] == visitando) {
+                        laco = true;
+                        break;
+                    }
+                    marca[y] = visitando;
+                    cadeia.add(y);
+                    y = proximo[y * n + v];
+                }
+                for (int i = 0; i < cadeia.size(); i++) {
+                    marca[cadeia.get(i)] = chega;
+                }
+            }
+            if (laco) {
+                if (transposto == null) {
+                    transposto = csr.transposto();
+                }
+                refazerColuna(matriz, proximo, transposto, v);
+            }
+        }
+        return matriz;
+    }
+
+    private void refazerColuna(MatrizDeDistancias<V> matriz, int[] proximo, GrafoCSR<V> transposto, int v) {
+        int n = csr.getNumeroDeVertices();
+        boolean[] visitados = new boolean[n];
+        int[] fila = new int[n];
+        int inicio = 0;
+        int fim = 0;
+        fila[fim++] = v;
+        visitados[v] = true;
+        while (inicio < fim) {
+            int y = fila[inicio++];
+            // No transposto, os arcos que saem de y são os arcos x -> y do grafo original.
+            for (int e = transposto.inicio(y); e < transposto.fim(y); e++) {
+                int x = transposto.alvo(e);
+                if (!visitados[x] && matriz.arestaJusta(x, y, transposto.peso(e), v)) {
+                    visitados[x] = true;
+                    proximo[x * n + v] = y;
+                    fila[fim++] = x;
+                }
+            }
+        }
+    }
+
+    /** proximo[u * n + v] = vértice seguinte a u no caminho até v; cada vértice chega a si mesmo. */
+    private static int[] inicializarProximos(int n) {
+        int[] proximo = new int[n * n];
+        for (int i = 0; i < proximo.length; i++) {
+            proximo[i] = MatrizDeDistancias.SEM_CAMINHO;
+        }
+        for (int u = 0; u < n; u++) {
+            proximo[u * n + u] = u;
+        }
+        return proximo;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
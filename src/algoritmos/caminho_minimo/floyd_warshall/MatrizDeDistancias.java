@@ -0,0 +1,133 @@
+package algoritmos.caminho_minimo.floyd_warshall;
+
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+
+/**
+ * Resultado de um cálculo de caminhos mínimos entre todos os pares.
+ * Guarda a matriz de distâncias em um array único em ordem de linhas, em precisão dupla ou simples,
+ * e a matriz de próximos saltos: proximo[u * n + v] é o vértice seguinte a u no caminho mínimo até v.
+ *
+ * Se algum vértice tem distância negativa até si mesmo, o grafo tem ciclo negativo e as distâncias
+ * que passam por ele não são definidas; nesse caso a reconstrução de caminhos não é permitida.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class MatrizDeDistancias<V> {
+
+    /** Valor de próximo salto quando não há caminho. */
+    public static final int SEM_CAMINHO = -1;
+
+    private final GrafoCSR<V> csr;
+    private final int n;
+    private final double[] distancias;       // null no modo de precisão simples.
+    private final float[] distanciasSimples; // null no modo de precisão dupla.
+    private final int[] proximo;
+    private final boolean cicloNegativo;
+
+    MatrizDeDistancias(GrafoCSR<V> csr, double[] distancias, float[] distanciasSimples, int[] proximo) {
+        this.csr = csr;
+        this.n = csr.getNumeroDeVertices();
+        this.distancias = distancias;
+        this.distanciasSimples = distanciasSimples;
+        this.proximo = proximo;
+        boolean negativo = false;
+        for (int v = 0; v < n && !negativo; v++) {
+            negativo = distanciaIds(v, v) < 0;
+        }
+        this.cicloNegativo = negativo;
+    }
+
+    /**
+     * Retorna a distância de u até v, ou {@code Double.POSITIVE_INFINITY} se v não for alcançável.
+     */
+    public double distancia(V u, V v) {
+        return distanciaIds(idObrigatorio(u), idObrigatorio(v));
+    }
+
+    public double distanciaIds(int u, int v) {
+        int i = u * n + v;
+        return distancias != null ? distancias[i] : distanciasSimples[i];
+    }
+
+    /**
+     * Reconstrói o caminho mínimo de u até v seguindo os próximos saltos.
+     *
+     * @return Os vértices do caminho (u e v inclusive), ou lista vazia se não houver caminho.
+     * @throws IllegalStateException se o grafo tiver ciclo negativo.
+     */
+    public ListaEncadeada<V> caminho(V u, V v) {
+        ListaEncadeada<V> caminho = new ListaEncadeada<>();
+        for (int id : caminhoIds(idObrigatorio(u), idObrigatorio(v))) {
+            caminho.addLast(csr.rotuloDe(id));
+        }
+        return caminho;
+    }
+
+    /**
+     * Versão por ids de {@link #caminho(Object, Object)}.
+     */
+    public int[] caminhoIds(int u, int v) {
+        if (cicloNegativo) {
+            throw new IllegalStateException("O grafo tem ciclo negativo; os caminhos mínimos não são definidos.");
+        }
+        if (proximo[u * n + v] == SEM_CAMINHO) {
+            return new int[0];
+        }
+        int comprimento = 1;
+        for (int x = u; x != v; x = proximo[x * n + v]) {
+            if (++comprimento > n) {
+                throw new IllegalStateException("Os próximos saltos de " + u + " até " + v + " formam um laço.");
+            }
+        }
+        int[] caminho = new int[comprimento];
+        int i = 0;
+        for (int x = u; x != v; x = proximo[x * n + v]) {
+            caminho[i++] = x;
+        }
+        caminho[i] = v;
+        return caminho;
+    }
+
+    /**
+     * Indica se a aresta x -> y com o peso dado está num caminho mínimo de x até v,
+     * fazendo a conta na mesma precisão da matriz.
+     */
+    boolean arestaJusta(int x, int y, double peso, int v) {
+        if (distancias != null) {
+            return distancias[x * n + v] != Double.POSITIVE_INFINITY && peso + distancias[y * n + v] == distancias[x * n + v];
+        }
+        return distanciasSimples[x * n + v] != Float.POSITIVE_INFINITY
+                && (float) peso + distanciasSimples[y * n + v] == distanciasSimples[x * n + v];
+    }
+
+    /** Id do vértice seguinte a u no caminho mínimo até v, ou {@link #SEM_CAMINHO}. */
+    public int proximoSaltoIds(int u, int v) {
+        return proximo[u * n + v];
+    }
+
+    public boolean temCicloNegativo() {
+        return cicloNegativo;
+    }
+
+    /** Indica se as distâncias foram calculadas em {@code float}. */
+    public boolean isPrecisaoSimples() {
+        return distanciasSimples != null;
+    }
+
+    public int getNumeroDeVertices() {
+        return n;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
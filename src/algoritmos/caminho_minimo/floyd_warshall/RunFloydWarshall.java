@@ -0,0 +1,104 @@
+package algoritmos.caminho_minimo.floyd_warshall;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.Random;
+
+public class RunFloydWarshall {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo com pesos negativos ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dados_pesos_negativos.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        Grafo<String> grafo = LeitorDeGrafo.carregarGrafoComDeteccao(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Matriz de distâncias entre todos os pares ---
+        FloydWarshall<String> floydWarshall = new FloydWarshall<>(grafo);
+        MatrizDeDistancias<String> matriz = floydWarshall.calcular();
+        GrafoCSR<String> csr = matriz.getGrafo();
+        System.out.println("--- Matriz de distâncias (Floyd-Warshall) ---");
+        StringBuilder cabecalho = new StringBuilder("     ");
+        for (int v = 0; v < csr.getNumeroDeVertices(); v++) {
+            cabecalho.append(String.format("%6s", csr.rotuloDe(v)));
+        }
+        System.out.println(cabecalho);
+        for (int u = 0; u < csr.getNumeroDeVertices(); u++) {
+            StringBuilder linha = new StringBuilder(String.format("%5s", csr.rotuloDe(u)));
+            for (int v = 0; v < csr.getNumeroDeVertices(); v++) {
+                double d = matriz.distanciaIds(u, v);
+                linha.append(d == Double.POSITIVE_INFINITY ? "     ∞" : String.format("%6.1f", d));
+            }
+            System.out.println(linha);
+        }
+        System.out.println("Caminho S -> T: " + matriz.caminho("S", "T") + " (distância " + matriz.distancia("S", "T") + ")");
+        System.out.println("Ciclo negativo: " + matriz.temCicloNegativo());
+
+        // --- ETAPA 3: Grafo denso aleatório, com e sem blocos ---
+        int n = 1000;
+        GrafoCSR<Integer> denso = gerarGrafoDenso(n, 0.2, 42);
+        System.out.println("\n--- Grafo denso com " + n + " vértices e " + denso.getNumeroDeArcos() + " arcos ---");
+
+        long inicio = System.nanoTime();
+        MatrizDeDistancias<Integer> semBlocos = new FloydWarshall<>(denso, n, ForkJoinPool.commonPool()).calcular();
+        System.out.printf("Sem blocos:               %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        inicio = System.nanoTime();
+        MatrizDeDistancias<Integer> emBlocos = new FloydWarshall<>(denso).calcular();
+        System.out.printf("Blocos de %d:             %.1f ms%n", FloydWarshall.TAMANHO_DO_BLOCO_PADRAO,
+                (System.nanoTime() - inicio) / 1_000_000.0);
+
+        inicio = System.nanoTime();
+        MatrizDeDistancias<Integer> simples = new FloydWarshall<>(denso).calcularPrecisaoSimples();
+        System.out.printf("Blocos, precisão simples: %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        // Conferência contra o Dijkstra a partir de algumas origens.
+        Dijkstra<Integer> dijkstra = new Dijkstra<>(denso);
+        boolean iguais = true;
+        for (int origem = 0; origem < n; origem += 97) {
+            ResultadoCaminhoMinimo<Integer> referencia = dijkstra.calcularIds(origem, -1);
+            for (int v = 0; v < n; v++) {
+                iguais &= semBlocos.distanciaIds(origem, v) == referencia.distanciaId(v)
+                        && emBlocos.distanciaIds(origem, v) == referencia.distanciaId(v)
+                        && simples.distanciaIds(origem, v) == referencia.distanciaId(v);
+            }
+        }
+        System.out.println("Distâncias iguais às do Dijkstra: " + iguais);
+    }
+
+    /** Grafo direcionado em que cada par ordenado tem uma aresta com a probabilidade dada, pesos de 1 a 100. */
+    private static GrafoCSR<Integer> gerarGrafoDenso(int n, double densidade, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int maximo = (int) (n * (long) n * densidade * 1.1) + n;
+        int[] origens = new int[maximo];
+        int[] destinos = new int[maximo];
+        double[] pesos = new double[maximo];
+        int quantidade = 0;
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                if (u != v && quantidade < maximo && aleatorio.nextDouble() < densidade) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = v;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(100);
+                }
+            }
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, true);
+    }
+}
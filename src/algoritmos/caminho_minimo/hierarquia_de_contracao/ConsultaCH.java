@@ -0,0 +1,238 @@
+package algoritmos.caminho_minimo.hierarquia_de_contracao;
+
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+import util.lista.ListaEncadeada;
+import util.primitivos.ListaDeInteiros;
+
+/**
+ * Consulta ponto a ponto sobre uma {@link HierarquiaDeContracao}.
+ * Dijkstra bidirecional em que a busca de frente só usa o grafo de subida e a de trás só usa
+ * o grafo de descida (as duas sobem na hierarquia). Cada lado para quando o topo da sua fila
+ * alcança o melhor custo μ encontrado; vértices que podem ser alcançados mais barato por um
+ * vizinho de rank maior não são expandidos ("stall-on-demand").
+ *
+ * As áreas de trabalho (distâncias, predecessores e filas) são reaproveitadas entre consultas e
+ * limpas apenas nas posições tocadas, então uma consulta não custa O(V).
+ * Por isso a instância não é thread-safe: cada thread deve obter a sua com
+ * {@link HierarquiaDeContracao#novaConsulta()}.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ConsultaCH<V> {
+
+    private final HierarquiaDeContracao<V> ch;
+
+    private final double[] distFrente;
+    private final double[] distTras;
+    private final int[] arestaFrente; // Aresta do overlay que chegou a v na busca de frente.
+    private final int[] arestaTras;   // Aresta do overlay que sai de v rumo ao destino na busca de trás.
+    private final FilaDePrioridadeIndexada filaFrente;
+    private final FilaDePrioridadeIndexada filaTras;
+    private final ListaDeInteiros tocadosFrente = new ListaDeInteiros();
+    private final ListaDeInteiros tocadosTras = new ListaDeInteiros();
+    private final ListaDeInteiros pilha = new ListaDeInteiros();
+
+    private int origem = -1;
+    private int encontro = -1;
+    private double distancia = Double.POSITIVE_INFINITY;
+    private int verticesAssentados;
+
+    ConsultaCH(HierarquiaDeContracao<V> ch) {
+        this.ch = ch;
+        int n = ch.getGrafo().getNumeroDeVertices();
+        distFrente = new double[n];
+        distTras = new double[n];
+        arestaFrente = new int[n];
+        arestaTras = new int[n];
+        for (int v = 0; v < n; v++) {
+            distFrente[v] = Double.POSITIVE_INFINITY;
+            distTras[v] = Double.POSITIVE_INFINITY;
+            arestaFrente[v] = -1;
+            arestaTras[v] = -1;
+        }
+        filaFrente = new FilaDePrioridadeIndexada(n);
+        filaTras = new FilaDePrioridadeIndexada(n);
+    }
+
+    /**
+     * Calcula a distância mínima entre origem e destino.
+     *
+     * @return A distância, ou {@code Double.POSITIVE_INFINITY} se o destino não for alcançável.
+     */
+    public double distancia(V origem, V destino) {
+        return distanciaIds(idObrigatorio(origem), idObrigatorio(destino));
+    }
+
+    /**
+     * Calcula o caminho mínimo entre origem e destino, já desempacotado em vértices do grafo original.
+     *
+     * @return Os vértices do caminho (origem e destino inclusive), ou lista vazia se não houver caminho.
+     */
+    public ListaEncadeada<V> caminho(V origem, V destino) {
+        int[] ids = caminhoIds(idObrigatorio(origem), idObrigatorio(destino));
+        ListaEncadeada<V> caminho = new ListaEncadeada<>();
+        for (int id : ids) {
+            caminho.addLast(ch.getGrafo().rotuloDe(id));
+        }
+        return caminho;
+    }
+
+    public double distanciaIds(int s, int t) {
+        limpar();
+        origem = s;
+        verticesAssentados = 0;
+        double mu = Double.POSITIVE_INFINITY;
+        int meio = -1;
+
+        distFrente[s] = 0.0;
+        tocadosFrente.add(s);
+        filaFrente.add(s, 0.0);
+        distTras[t] = 0.0;
+        tocadosTras.add(t);
+        filaTras.add(t, 0.0);
+        if (s == t) {
+            mu = 0.0;
+            meio = s;
+        }
+
+        boolean frente = true;
+        while (true) {
+            boolean frenteAtiva = !filaFrente.isEmpty() && filaFrente.minPrioridade() < mu;
+            boolean trasAtiva = !filaTras.isEmpty() && filaTras.minPrioridade() < mu;
+            if (!frenteAtiva && !trasAtiva) break;
+            // Alterna os lados enquanto os dois estiverem ativos.
+            if (!frenteAtiva) frente = false;
+            else if (!trasAtiva) frente = true;
+
+            if (frente) {
+                int u = filaFrente.removeMin();
+                verticesAssentados++;
+                double du = distFrente[u];
+                if (!estagnadoFrente(u, du)) {
+                    for (int p = ch.inicioSubida(u); p < ch.fimSubida(u); p++) {
+                        int v = ch.alvoSubida(p);
+                        double nova = du + ch.pesoSubida(p);
+                        if (nova < distFrente[v]) {
+                            if (distFrente[v] == Double.POSITIVE_INFINITY) tocadosFrente.add(v);
+                            distFrente[v] = nova;
+                            arestaFrente[v] = ch.arestaSubida(p);
+                            filaFrente.addOuDiminuir(v, nova);
+                            if (nova + distTras[v] < mu) {
+                                mu = nova + distTras[v];
+                                meio = v;
+                            }
+                        }
+                    }
+                }
+            } else {
+                int u = filaTras.removeMin();
+                verticesAssentados++;
+                double du = distTras[u];
+                if (!estagnadoTras(u, du)) {
+                    for (int p = ch.inicioDescida(u); p < ch.fimDescida(u); p++) {
+                        int v = ch.alvoDescida(p);
+                        double nova = du + ch.pesoDescida(p);
+                        if (nova < distTras[v]) {
+                            if (distTras[v] == Double.POSITIVE_INFINITY) tocadosTras.add(v);
+                            distTras[v] = nova;
+                            arestaTras[v] = ch.arestaDescida(p);
+                            filaTras.addOuDiminuir(v, nova);
+                            if (nova + distFrente[v] < mu) {
+                                mu = nova + distFrente[v];
+                                meio = v;
+                            }
+                        }
+                    }
+                }
+            }
+            frente = !frente;
+        }
+
+        encontro = meio;
+        distancia = mu;
+        return mu;
+    }
+
+    /**
+     * Versão por ids de {@link #caminho(Object, Object)}.
+     */
+    public int[] caminhoIds(int s, int t) {
+        distanciaIds(s, t);
+        if (encontro == -1) {
+            return new int[0];
+        }
+
+        // Trecho de frente: arestas do overlay da origem até o encontro, recolhidas de trás para frente.
+        ListaDeInteiros arestasFrente = new ListaDeInteiros();
+        for (int v = encontro; v != origem; v = ch.deAresta(arestaFrente[v])) {
+            arestasFrente.add(arestaFrente[v]);
+        }
+
+        ListaDeInteiros caminho = new ListaDeInteiros();
+        caminho.add(origem);
+        for (int i = arestasFrente.size() - 1; i >= 0; i--) {
+            ch.desempacotar(arestasFrente.get(i), caminho, pilha);
+        }
+        // Trecho de trás: do encontro até o destino.
+        for (int v = encontro; v != t; v = ch.paraAresta(arestaTras[v])) {
+            ch.desempacotar(arestaTras[v], caminho, pilha);
+        }
+        return caminho.toArray();
+    }
+
+    /** Distância calculada pela última consulta. */
+    public double getDistancia() {
+        return distancia;
+    }
+
+    /** Vértices assentados (nas duas direções) pela última consulta. */
+    public int getVerticesAssentados() {
+        return verticesAssentados;
+    }
+
+    /**
+     * Stall-on-demand: se algum vértice de rank maior, já alcançado, chega a u por uma aresta
+     * de descida com custo menor que du, então du não é a distância correta e u não precisa ser expandido.
+     */
+    private boolean estagnadoFrente(int u, double du) {
+        for (int p = ch.inicioDescida(u); p < ch.fimDescida(u); p++) {
+            if (distFrente[ch.alvoDescida(p)] + ch.pesoDescida(p) < du) return true;
+        }
+        return false;
+    }
+
+    private boolean estagnadoTras(int u, double du) {
+        for (int p = ch.inicioSubida(u); p < ch.fimSubida(u); p++) {
+            if (distTras[ch.alvoSubida(p)] + ch.pesoSubida(p) < du) return true;
+        }
+        return false;
+    }
+
+    /** Restaura as áreas de trabalho apenas nas posições usadas pela consulta anterior. */
+    private void limpar() {
+        for (int i = 0; i < tocadosFrente.size(); i++) {
+            int v = tocadosFrente.get(i);
+            distFrente[v] = Double.POSITIVE_INFINITY;
+            arestaFrente[v] = -1;
+        }
+        for (int i = 0; i < tocadosTras.size(); i++) {
+            int v = tocadosTras.get(i);
+            distTras[v] = Double.POSITIVE_INFINITY;
+            arestaTras[v] = -1;
+        }
+        tocadosFrente.clear();
+        tocadosTras.clear();
+        filaFrente.clear();
+        filaTras.clear();
+        encontro = -1;
+        distancia = Double.POSITIVE_INFINITY;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = ch.getGrafo().idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,353 @@
+package algoritmos.caminho_minimo.hierarquia_de_contracao;
+
+import graph_structure.GrafoCSR;
+import util.filaDePrioridade.FilaDePrioridadeIndexada;
+import util.primitivos.ConjuntoDeBits;
+import util.primitivos.ListaDeInteiros;
+
+/**
+ * Pré-processamento das Contraction Hierarchies: ordena e contrai os vértices,
+ * inserindo atalhos quando a busca de testemunha não encontra um caminho alternativo.
+ *
+ * O grafo de trabalho ("overlay") guarda todas as arestas em arrays globais indexados pelo
+ * id da aresta; cada vértice tem listas com os ids das suas arestas de saída e de entrada
+ * que ainda apontam para vértices não contraídos. Um atalho u → w via v guarda os ids das
+ * duas arestas que ele substitui, para que o caminho possa ser desempacotado depois.
+ */
+final class ContratorCH {
+
+    /** Máximo de vértices assentados por busca de testemunha; além disso, o atalho é inserido por segurança. */
+    private static final int LIMITE_TESTEMUNHA = 500;
+    /** Limite menor para a simulação usada no cálculo das prioridades, que só precisa de uma estimativa. */
+    private static final int LIMITE_TESTEMUNHA_SIMULACAO = 50;
+
+    private final int n;
+
+    // Arestas do overlay (originais e atalhos).
+    private int[] de;
+    private int[] para;
+    private double[] peso;
+    private int[] filho1; // Primeira metade de um atalho, ou -1 para arestas originais.
+    private int[] filho2;
+    private int arestas;
+    private int atalhos;
+
+    private final ListaDeInteiros[] saida;
+    private final ListaDeInteiros[] entrada;
+    private final ConjuntoDeBits contraidos;
+    private final int[] vizinhosContraidos;
+    private final int[] atualizadoEm; // atualizadoEm[x] == v + 1 indica que x já foi atualizado após a contração de v.
+    private final int[] nivel; // Profundidade de v na hierarquia: 1 + o maior nível dos vizinhos contraídos antes dele.
+
+    // Área de trabalho da busca de testemunha, reaproveitada entre buscas.
+    private final double[] distTestemunha;
+    private final ListaDeInteiros tocados = new ListaDeInteiros();
+    private final FilaDePrioridadeIndexada filaTestemunha;
+    private final int[] marcaAlvo; // marcaAlvo[w] == carimbo indica que w é alvo da busca atual.
+    private int carimbo;
+    private long buscasDeTestemunha;
+
+    ContratorCH(GrafoCSR<?> grafo) {
+        this.n = grafo.getNumeroDeVertices();
+        int capacidade = Math.max(16, grafo.getNumeroDeArcos() * 2);
+        this.de = new int[capacidade];
+        this.para = new int[capacidade];
+        this.peso = new double[capacidade];
+        this.filho1 = new int[capacidade];
+        this.filho2 = new int[capacidade];
+        this.saida = new ListaDeInteiros[n];
+        this.entrada = new ListaDeInteiros[n];
+        for (int v = 0; v < n; v++) {
+            saida[v] = new ListaDeInteiros(grafo.grau(v));
+            entrada[v] = new ListaDeInteiros();
+        }
+        this.contraidos = new ConjuntoDeBits(n);
+        this.vizinhosContraidos = new int[n];
+        this.nivel = new int[n];
+        this.atualizadoEm = new int[n];
+        this.distTestemunha = new double[n];
+        for (int v = 0; v < n; v++) {
+            distTestemunha[v] = Double.POSITIVE_INFINITY;
+        }
+        this.filaTestemunha = new FilaDePrioridadeIndexada(n);
+        this.marcaAlvo = new int[n];
+
+        // Copia as arestas originais: laços são descartados e, entre arestas paralelas, fica a mais leve.
+        int[] marca = new int[n];
+        int[] arestaPara = new int[n];
+        for (int v = 0; v < n; v++) {
+            marca[v] = -1;
+        }
+        for (int u = 0; u < n; u++) {
+            for (int e = grafo.inicio(u); e < grafo.fim(u); e++) {
+                int v = grafo.alvo(e);
+                if (v == u) continue;
+                if (marca[v] == u) {
+                    int existente = arestaPara[v];
+                    if (grafo.peso(e) < peso[existente]) peso[existente] = grafo.peso(e);
+                } else {
+                    marca[v] = u;
+                    arestaPara[v] = novaAresta(u, v, grafo.peso(e), -1, -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Contrai todos os vértices e devolve a ordem (rank) de cada um.
+     */
+    int[] contrair(EstatisticasCH estatisticas) {
+        int[] rank = new int[n];
+        estatisticas.arestasOriginais = arestas;
+
+        // Prioridades iniciais.
+        long inicio = System.nanoTime();
+        FilaDePrioridadeIndexada fila = new FilaDePrioridadeIndexada(n);
+        for (int v = 0; v < n; v++) {
+            fila.add(v, prioridade(v));
+        }
+        estatisticas.tempoOrdenacaoMs = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        // Contração com atualização preguiçosa: a prioridade do topo é recalculada antes de contraí-lo.
+        inicio = System.nanoTime();
+        int ordem = 0;
+        while (!fila.isEmpty()) {
+            int v = fila.removeMin();
+            double atual = prioridade(v);
+            if (!fila.isEmpty() && atual > fila.minPrioridade()) {
+                fila.add(v, atual);
+                continue;
+            }
+
+            contrairVertice(v);
+            rank[v] = ordem++;
+
+            // Os vizinhos perdem uma aresta e podem ganhar atalhos: suas prioridades mudam.
+            atualizarVizinhos(v, saida[v], true, fila);
+            atualizarVizinhos(v, entrada[v], false, fila);
+        }
+        estatisticas.tempoContracaoMs = (System.nanoTime() - inicio) / 1_000_000.0;
+        estatisticas.atalhosAdicionados = atalhos;
+        estatisticas.buscasDeTestemunha = buscasDeTestemunha;
+        return rank;
+    }
+
+    private void atualizarVizinhos(int v, ListaDeInteiros lista, boolean saidas, FilaDePrioridadeIndexada fila) {
+        for (int i = 0; i < lista.size(); i++) {
+            int e = lista.get(i);
+            int x = saidas ? para[e] : de[e];
+            // Em grafos não direcionados o mesmo vizinho aparece nas duas listas: atualiza uma vez só.
+            if (contraidos.contains(x) || atualizadoEm[x] == v + 1) continue;
+            atualizadoEm[x] = v + 1;
+            vizinhosContraidos[x]++;
+            nivel[x] = Math.max(nivel[x], nivel[v] + 1);
+            compactar(x);
+            fila.alterarPrioridade(x, prioridade(x));
+        }
+    }
+
+    /**
+     * Prioridade de contração: diferença de arestas (atalhos necessários menos arestas removidas),
+     * somada ao número de vizinhos já contraídos e ao nível do vértice na hierarquia. Os dois últimos
+     * termos espalham a contração pelo grafo e evitam hierarquias profundas e núcleos densos.
+     */
+    private double prioridade(int v) {
+        int removidas = 0;
+        for (int i = 0; i < saida[v].size(); i++) {
+            if (!contraidos.contains(para[saida[v].get(i)])) removidas++;
+        }
+        for (int i = 0; i < entrada[v].size(); i++) {
+            if (!contraidos.contains(de[entrada[v].get(i)])) removidas++;
+        }
+        int necessarios = processarAtalhos(v, true);
+        return (necessarios - removidas) + vizinhosContraidos[v] + nivel[v];
+    }
+
+    private void contrairVertice(int v) {
+        processarAtalhos(v, false);
+        contraidos.add(v);
+    }
+
+    /**
+     * Para cada par u → v → w de vizinhos não contraídos, verifica se existe um caminho testemunha
+     * de u a w, sem passar por v, com custo menor ou igual a c(u, v) + c(v, w).
+     * Se não existir, o atalho u → w é necessário.
+     *
+     * @param simular Se true, apenas conta os atalhos; se false, insere-os no overlay.
+     * @return O número de atalhos necessários.
+     */
+    private int processarAtalhos(int v, boolean simular) {
+        int necessarios = 0;
+        ListaDeInteiros entradas = entrada[v];
+        ListaDeInteiros saidas = saida[v];
+        for (int i = 0; i < entradas.size(); i++) {
+            int eEntrada = entradas.get(i);
+            int u = de[eEntrada];
+            if (contraidos.contains(u)) continue;
+            double pesoEntrada = peso[eEntrada];
+
+            // Limite da busca: o maior custo de atalho que poderia sair de u. Os alvos são marcados
+            // para que a busca pare assim que todos forem assentados.
+            double limite = Double.NEGATIVE_INFINITY;
+            int alvos = 0;
+            carimbo++;
+            for (int j = 0; j < saidas.size(); j++) {
+                int w = para[saidas.get(j)];
+                if (w != u && !contraidos.contains(w)) {
+                    limite = Math.max(limite, pesoEntrada + peso[saidas.get(j)]);
+                    if (marcaAlvo[w] != carimbo) {
+                        marcaAlvo[w] = carimbo;
+                        alvos++;
+                    }
+                }
+            }
+            if (limite == Double.NEGATIVE_INFINITY) continue;
+
+            buscaDeTestemunha(u, v, limite, alvos, simular ? LIMITE_TESTEMUNHA_SIMULACAO : LIMITE_TESTEMUNHA);
+
+            for (int j = 0; j < saidas.size(); j++) {
+                int eSaida = saidas.get(j);
+                int w = para[eSaida];
+                if (w == u || contraidos.contains(w)) continue;
+                double custo = pesoEntrada + peso[eSaida];
+                if (distTestemunha[w] > custo) {
+                    necessarios++;
+                    if (!simular) {
+                        adicionarAtalho(u, w, custo, eEntrada, eSaida);
+                    }
+                }
+            }
+            limparTestemunha();
+        }
+        return necessarios;
+    }
+
+    /**
+     * Dijkstra local a partir de u, ignorando v e os vértices contraídos. Para ao ultrapassar o limite de custo,
+     * ao assentar todos os alvos marcados ou ao atingir o máximo de vértices assentados.
+     */
+    private void buscaDeTestemunha(int u, int ignorado, double limite, int alvos, int maximoAssentados) {
+        buscasDeTestemunha++;
+        distTestemunha[u] = 0.0;
+        tocados.add(u);
+        filaTestemunha.add(u, 0.0);
+        int assentados = 0;
+        while (!filaTestemunha.isEmpty() && assentados < maximoAssentados && alvos > 0) {
+            if (filaTestemunha.minPrioridade() > limite) break;
+            int x = filaTestemunha.removeMin();
+            assentados++;
+            if (marcaAlvo[x] == carimbo) alvos--;
+            double dx = distTestemunha[x];
+            ListaDeInteiros lista = saida[x];
+            for (int i = 0; i < lista.size(); i++) {
+                int e = lista.get(i);
+                int y = para[e];
+                if (y == ignorado || contraidos.contains(y)) continue;
+                double nova = dx + peso[e];
+                if (nova < distTestemunha[y]) {
+                    if (distTestemunha[y] == Double.POSITIVE_INFINITY) tocados.add(y);
+                    distTestemunha[y] = nova;
+                    filaTestemunha.addOuDiminuir(y, nova);
+                }
+            }
+        }
+    }
+
+    private void limparTestemunha() {
+        for (int i = 0; i < tocados.size(); i++) {
+            distTestemunha[tocados.get(i)] = Double.POSITIVE_INFINITY;
+        }
+        tocados.clear();
+        filaTestemunha.clear();
+    }
+
+    /** Insere o atalho u → w ou, se já houver aresta u → w mais pesada, substitui-a. */
+    private void adicionarAtalho(int u, int w, double custo, int eEntrada, int eSaida) {
+        ListaDeInteiros lista = saida[u];
+        for (int i = 0; i < lista.size(); i++) {
+            int e = lista.get(i);
+            if (para[e] == w) {
+                if (custo < peso[e]) {
+                    peso[e] = custo;
+                    filho1[e] = eEntrada;
+                    filho2[e] = eSaida;
+                }
+                return;
+            }
+        }
+        novaAresta(u, w, custo, eEntrada, eSaida);
+        atalhos++;
+    }
+
+    private int novaAresta(int u, int v, double p, int primeira, int segunda) {
+        if (arestas == de.length) {
+            int nova = de.length * 2;
+            de = copiar(de, nova);
+            para = copiar(para, nova);
+            filho1 = copiar(filho1, nova);
+            filho2 = copiar(filho2, nova);
+            double[] pesos = new double[nova];
+            System.arraycopy(peso, 0, pesos, 0, arestas);
+            peso = pesos;
+        }
+        int e = arestas++;
+        de[e] = u;
+        para[e] = v;
+        peso[e] = p;
+        filho1[e] = primeira;
+        filho2[e] = segunda;
+        saida[u].add(e);
+        entrada[v].add(e);
+        return e;
+    }
+
+    /** Remove das listas de x as arestas que levam a vértices já contraídos. */
+    private void compactar(int x) {
+        compactar(saida[x], true);
+        compactar(entrada[x], false);
+    }
+
+    private void compactar(ListaDeInteiros lista, boolean saidas) {
+        int escrita = 0;
+        for (int i = 0; i < lista.size(); i++) {
+            int e = lista.get(i);
+            int outro = saidas ? para[e] : de[e];
+            if (!contraidos.contains(outro)) {
+                lista.set(escrita++, e);
+            }
+        }
+        while (lista.size() > escrita) {
+            lista.removeLast();
+        }
+    }
+
+    private static int[] copiar(int[] array, int tamanho) {
+        int[] novo = new int[tamanho];
+        System.arraycopy(array, 0, novo, 0, array.length);
+        return novo;
+    }
+
+    int getNumeroDeArestas() {
+        return arestas;
+    }
+
+    int[] getDe() {
+        return de;
+    }
+
+    int[] getPara() {
+        return para;
+    }
+
+    double[] getPeso() {
+        return peso;
+    }
+
+    int[] getFilho1() {
+        return filho1;
+    }
+
+    int[] getFilho2() {
+        return filho2;
+    }
+}
@@ -0,0 +1,54 @@
+package algoritmos.caminho_minimo.hierarquia_de_contracao;
+
+/**
+ * Números do pré-processamento de uma {@link HierarquiaDeContracao}.
+ */
+public class EstatisticasCH {
+
+    int arestasOriginais;
+    int atalhosAdicionados;
+    long buscasDeTestemunha;
+    double tempoOrdenacaoMs;
+    double tempoContracaoMs;
+    double tempoMontagemMs;
+
+    /** Arestas do grafo de entrada, sem laços e sem arestas paralelas. */
+    public int getArestasOriginais() {
+        return arestasOriginais;
+    }
+
+    public int getAtalhosAdicionados() {
+        return atalhosAdicionados;
+    }
+
+    public long getBuscasDeTestemunha() {
+        return buscasDeTestemunha;
+    }
+
+    /** Tempo do cálculo das prioridades iniciais (diferença de arestas de cada vértice). */
+    public double getTempoOrdenacaoMs() {
+        return tempoOrdenacaoMs;
+    }
+
+    /** Tempo da contração, incluindo as buscas de testemunha e a atualização das prioridades. */
+    public double getTempoContracaoMs() {
+        return tempoContracaoMs;
+    }
+
+    /** Tempo da montagem dos grafos de subida e descida em formato CSR. */
+    public double getTempoMontagemMs() {
+        return tempoMontagemMs;
+    }
+
+    public double getTempoTotalMs() {
+        return tempoOrdenacaoMs + tempoContracaoMs + tempoMontagemMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Arestas originais: %d | Atalhos adicionados: %d | Buscas de testemunha: %d%n"
+                        + "Tempo por fase: ordenação %.1f ms, contração %.1f ms, montagem %.1f ms (total %.1f ms)",
+                arestasOriginais, atalhosAdicionados, buscasDeTestemunha,
+                tempoOrdenacaoMs, tempoContracaoMs, tempoMontagemMs, getTempoTotalMs());
+    }
+}
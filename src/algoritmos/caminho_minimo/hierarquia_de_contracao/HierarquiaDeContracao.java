@@ -0,0 +1,219 @@
+package algoritmos.caminho_minimo.hierarquia_de_contracao;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.primitivos.ListaDeInteiros;
+
+/**
+ * Contraction Hierarchies (CH) para consultas ponto a ponto em grafos estáticos.
+ *
+ * O pré-processamento ({@link #construir(GrafoCSR)}) contrai os vértices em ordem de importância,
+ * inserindo atalhos que preservam as distâncias. O resultado são dois grafos de busca em formato CSR:
+ * - subida: para cada vértice, as arestas que levam a vértices de rank maior;
+ * - descida: para cada vértice, as arestas que chegam vindas de vértices de rank maior, invertidas.
+ * Uma consulta ({@link ConsultaCH}) é um Dijkstra bidirecional que só sobe na hierarquia,
+ * o que restringe a busca a poucas centenas de vértices mesmo em grafos grandes.
+ *
+ * A hierarquia é imutável e pode ser compartilhada entre threads; cada thread usa a sua {@link ConsultaCH}.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class HierarquiaDeContracao<V> {
+
+    private final GrafoCSR<V> grafo;
+    private final int[] rank;
+
+    // Grafo de subida em CSR: arestas u -> v com rank[v] > rank[u].
+    private final int[] offsetsSubida;
+    private final int[] alvosSubida;
+    private final double[] pesosSubida;
+    private final int[] arestaSubida;   // Id da aresta no overlay, para desempacotar atalhos.
+
+    // Grafo de descida em CSR: para cada v, arestas u -> v com rank[u] > rank[v], guardadas como v -> u.
+    private final int[] offsetsDescida;
+    private final int[] alvosDescida;
+    private final double[] pesosDescida;
+    private final int[] arestaDescida;
+
+    // Arestas do overlay (originais e atalhos).
+    private final int[] deAresta;
+    private final int[] paraAresta;
+    private final int[] filho1;
+    private final int[] filho2;
+
+    private final EstatisticasCH estatisticas;
+
+    private HierarquiaDeContracao(GrafoCSR<V> grafo, int[] rank, ContratorCH contrator, EstatisticasCH estatisticas) {
+        long inicio = System.nanoTime();
+        this.grafo = grafo;
+        this.rank = rank;
+        int n = grafo.getNumeroDeVertices();
+        int m = contrator.getNumeroDeArestas();
+        int[] de = contrator.getDe();
+        int[] para = contrator.getPara();
+        double[] peso = contrator.getPeso();
+
+        // Conta quantas arestas cada vértice terá em cada grafo de busca.
+        offsetsSubida = new int[n + 1];
+        offsetsDescida = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (rank[de[e]] < rank[para[e]]) {
+                offsetsSubida[de[e] + 1]++;
+            } else {
+                offsetsDescida[para[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsetsSubida[v + 1] += offsetsSubida[v];
+            offsetsDescida[v + 1] += offsetsDescida[v];
+        }
+
+        alvosSubida = new int[offsetsSubida[n]];
+        pesosSubida = new double[offsetsSubida[n]];
+        arestaSubida = new int[offsetsSubida[n]];
+        alvosDescida = new int[offsetsDescida[n]];
+        pesosDescida = new double[offsetsDescida[n]];
+        arestaDescida = new int[offsetsDescida[n]];
+        int[] posSubida = new int[n];
+        int[] posDescida = new int[n];
+        System.arraycopy(offsetsSubida, 0, posSubida, 0, n);
+        System.arraycopy(offsetsDescida, 0, posDescida, 0, n);
+        for (int e = 0; e < m; e++) {
+            int u = de[e];
+            int v = para[e];
+            if (rank[u] < rank[v]) {
+                int p = posSubida[u]++;
+                alvosSubida[p] = v;
+                pesosSubida[p] = peso[e];
+                arestaSubida[p] = e;
+            } else {
+                int p = posDescida[v]++;
+                alvosDescida[p] = u;
+                pesosDescida[p] = peso[e];
+                arestaDescida[p] = e;
+            }
+        }
+
+        deAresta = copiar(de, m);
+        paraAresta = copiar(para, m);
+        filho1 = copiar(contrator.getFilho1(), m);
+        filho2 = copiar(contrator.getFilho2(), m);
+
+        estatisticas.tempoMontagemMs = (System.nanoTime() - inicio) / 1_000_000.0;
+        this.estatisticas = estatisticas;
+    }
+
+    public static <V> HierarquiaDeContracao<V> construir(Grafo<V> grafo) {
+        return construir(grafo.congelar());
+    }
+
+    /**
+     * Executa o pré-processamento completo: ordenação dos vértices pela diferença de arestas,
+     * contração com buscas de testemunha e montagem dos grafos de subida e descida.
+     *
+     * @param grafo Grafo com pesos não negativos.
+     * @return A hierarquia pronta para consultas.
+     */
+    public static <V> HierarquiaDeContracao<V> construir(GrafoCSR<V> grafo) {
+        for (int e = 0; e < grafo.getNumeroDeArcos(); e++) {
+            if (grafo.peso(e) < 0) {
+                throw new IllegalArgumentException("Contraction Hierarchies não aceitam arestas com peso negativo.");
+            }
+        }
+        EstatisticasCH estatisticas = new EstatisticasCH();
+        ContratorCH contrator = new ContratorCH(grafo);
+        int[] rank = contrator.contrair(estatisticas);
+        return new HierarquiaDeContracao<>(grafo, rank, contrator, estatisticas);
+    }
+
+    /** Cria uma nova área de consulta. Cada thread deve usar a sua. */
+    public ConsultaCH<V> novaConsulta() {
+        return new ConsultaCH<>(this);
+    }
+
+    /**
+     * Desempacota uma aresta do overlay, acrescentando à lista os vértices do caminho original
+     * depois da origem da aresta (a origem não é incluída).
+     */
+    void desempacotar(int aresta, ListaDeInteiros caminho, ListaDeInteiros pilha) {
+        pilha.clear();
+        pilha.add(aresta);
+        while (!pilha.isEmpty()) {
+            int e = pilha.removeLast();
+            if (filho1[e] == -1) {
+                caminho.add(paraAresta[e]);
+            } else {
+                // A segunda metade é empilhada primeiro para que a primeira seja desempacotada antes.
+                pilha.add(filho2[e]);
+                pilha.add(filho1[e]);
+            }
+        }
+    }
+
+    int deAresta(int e) {
+        return deAresta[e];
+    }
+
+    int paraAresta(int e) {
+        return paraAresta[e];
+    }
+
+    int inicioSubida(int u) {
+        return offsetsSubida[u];
+    }
+
+    int fimSubida(int u) {
+        return offsetsSubida[u + 1];
+    }
+
+    int alvoSubida(int p) {
+        return alvosSubida[p];
+    }
+
+    double pesoSubida(int p) {
+        return pesosSubida[p];
+    }
+
+    int arestaSubida(int p) {
+        return arestaSubida[p];
+    }
+
+    int inicioDescida(int v) {
+        return offsetsDescida[v];
+    }
+
+    int fimDescida(int v) {
+        return offsetsDescida[v + 1];
+    }
+
+    int alvoDescida(int p) {
+        return alvosDescida[p];
+    }
+
+    double pesoDescida(int p) {
+        return pesosDescida[p];
+    }
+
+    int arestaDescida(int p) {
+        return arestaDescida[p];
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return grafo;
+    }
+
+    /** Posição do vértice na ordem de contração (0 = o primeiro contraído, o menos importante). */
+    public int rankDe(int v) {
+        return rank[v];
+    }
+
+    public EstatisticasCH getEstatisticas() {
+        return estatisticas;
+    }
+
+    private static int[] copiar(int[] array, int tamanho) {
+        int[] novo = new int[tamanho];
+        System.arraycopy(array, 0, novo, 0, tamanho);
+        return novo;
+    }
+}
@@ -0,0 +1,111 @@
+package algoritmos.caminho_minimo.hierarquia_de_contracao;
+
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunHierarquiaDeContracao {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo de exemplo ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dadosDeEntrada.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Pré-processamento e consulta ---
+        HierarquiaDeContracao<String> ch = HierarquiaDeContracao.construir(grafo);
+        System.out.println(ch.getEstatisticas());
+        ConsultaCH<String> consulta = ch.novaConsulta();
+        String origem = "S";
+        String destino = "X";
+        System.out.println("Consulta " + origem + " -> " + destino + ": distância " + consulta.distancia(origem, destino)
+                + " | caminho " + consulta.caminho(origem, destino));
+
+        // --- ETAPA 3: Malha maior, comparando a latência com o Dijkstra ---
+        int lado = 100;
+        int consultas = 1000;
+        GrafoCSR<String> malha = gerarMalha(lado, 42);
+        System.out.println("\n--- Malha " + lado + "x" + lado + ": pré-processamento ---");
+        HierarquiaDeContracao<String> chMalha = HierarquiaDeContracao.construir(malha);
+        System.out.println(chMalha.getEstatisticas());
+
+        Random sorteio = new Random(7);
+        int[] origens = new int[consultas];
+        int[] destinos = new int[consultas];
+        for (int q = 0; q < consultas; q++) {
+            origens[q] = sorteio.nextInt(malha.getNumeroDeVertices());
+            destinos[q] = sorteio.nextInt(malha.getNumeroDeVertices());
+        }
+
+        Dijkstra<String> dijkstra = new Dijkstra<>(malha);
+        double[] esperadas = new double[consultas];
+        long inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            esperadas[q] = dijkstra.calcularIds(origens[q], destinos[q]).distanciaId(destinos[q]);
+        }
+        double microsDijkstra = (System.nanoTime() - inicio) / 1000.0 / consultas;
+
+        ConsultaCH<String> consultaMalha = chMalha.novaConsulta();
+        // Aquecimento do JIT antes de medir a latência das consultas.
+        for (int rodada = 0; rodada < 10; rodada++) {
+            for (int q = 0; q < consultas; q++) {
+                consultaMalha.distanciaIds(origens[q], destinos[q]);
+            }
+        }
+        boolean corretas = true;
+        long assentados = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            corretas &= consultaMalha.distanciaIds(origens[q], destinos[q]) == esperadas[q];
+            assentados += consultaMalha.getVerticesAssentados();
+        }
+        double microsCH = (System.nanoTime() - inicio) / 1000.0 / consultas;
+
+        System.out.println("\n--- " + consultas + " consultas aleatórias ---");
+        System.out.printf("Dijkstra: %.1f µs por consulta%n", microsDijkstra);
+        System.out.printf("CH:       %.1f µs por consulta | média de assentados %d | distâncias corretas: %b%n",
+                microsCH, assentados / consultas, corretas);
+    }
+
+    /** Malha não direcionada lado x lado com pesos inteiros aleatórios de 1 a 10. */
+    private static GrafoCSR<String> gerarMalha(int lado, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                dicionario.internar(i + "," + j);
+            }
+        }
+        int maximo = 2 * lado * (lado - 1);
+        int[] origens = new int[maximo];
+        int[] destinos = new int[maximo];
+        double[] pesos = new double[maximo];
+        int quantidade = 0;
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                int u = i * lado + j;
+                if (j + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + 1;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+                if (i + 1 < lado) {
+                    origens[quantidade] = u;
+                    destinos[quantidade] = u + lado;
+                    pesos[quantidade++] = 1 + aleatorio.nextInt(10);
+                }
+            }
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, false);
+    }
+}
@@ -0,0 +1,19 @@
+package algoritmos.caminho_minimo.johnson;
+
+/**
+ * Recebe as linhas da matriz de distâncias calculadas por {@link Johnson#calcularTodos(ConsumidorDeLinha)},
+ * uma origem por vez. As linhas chegam na ordem em que terminam, não na ordem dos ids.
+ *
+ * Os arrays pertencem ao consumidor depois da chamada: ele pode gravá-los e descartá-los, e o Johnson
+ * não os guarda, então a memória usada não cresce com V².
+ */
+@FunctionalInterface
+public interface ConsumidorDeLinha {
+
+    /**
+     * @param origem        Id do vértice de origem da linha.
+     * @param distancias    distancias[v] = distância da origem até v (infinito se não alcançável).
+     * @param predecessores predecessores[v] = id do vértice anterior a v no caminho, ou -1.
+     */
+    void aceitar(int origem, double[] distancias, int[] predecessores);
+}
@@ -0,0 +1,135 @@
+package algoritmos.caminho_minimo.johnson;
+
+import algoritmos.caminho_minimo.ResultadoCaminhoMinimo;
+import algoritmos.caminho_minimo.bellman_ford.BellmanFord;
+import algoritmos.caminho_minimo.dijkstra.Dijkstra;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Algoritmo de Johnson para caminhos mínimos entre todos os pares em grafos esparsos com pesos negativos.
+ *
+ * 1. Um Bellman-Ford a partir de uma origem virtual calcula potenciais h (ver {@link BellmanFord#calcularPotenciais()}).
+ * 2. Cada aresta é reponderada para w'(u, v) = w(u, v) + h[u] - h[v], que é não negativo e preserva
+ *    os caminhos mínimos (todo caminho de s a t muda pelo mesmo valor h[s] - h[t]).
+ * 3. Um Dijkstra por origem no grafo reponderado, com as origens distribuídas entre as threads do pool;
+ *    a distância original é d'(s, t) - h[s] + h[t].
+ *
+ * O pré-processamento (passos 1 e 2) é feito no construtor. As linhas são entregues a um
+ * {@link ConsumidorDeLinha} assim que ficam prontas, então só as linhas em andamento (uma por thread)
+ * ficam na memória: O(V · threads) em vez de O(V²) doubles.
+ *
+ * @param <V> Tipo dos dados armazenados nos vértices.
+ */
+public class Johnson<V> {
+
+    private final GrafoCSR<V> csr;
+    private final double[] potenciais;
+    private final Dijkstra<V> dijkstra; // Sobre o grafo reponderado.
+    private final ForkJoinPool pool;
+
+    public Johnson(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public Johnson(GrafoCSR<V> csr) {
+        this(csr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @throws IllegalArgumentException se o grafo tiver ciclo negativo.
+     */
+    public Johnson(GrafoCSR<V> csr, ForkJoinPool pool) {
+        double[] h = new BellmanFord<>(csr).calcularPotenciais();
+        if (h == null) {
+            throw new IllegalArgumentException("O grafo tem ciclo negativo; os caminhos mínimos não são definidos.");
+        }
+        this.csr = csr;
+        this.potenciais = h;
+        this.pool = pool;
+
+        // O grafo reponderado é sempre direcionado: w'(u, v) e w'(v, u) diferem quando h[u] != h[v].
+        int m = csr.getNumeroDeArcos();
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int u = 0; u < csr.getNumeroDeVertices(); u++) {
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                origens[e] = u;
+                destinos[e] = v;
+                // O arredondamento pode deixar uma aresta justa ligeiramente negativa.
+                pesos[e] = Math.max(0.0, csr.peso(e) + h[u] - h[v]);
+            }
+        }
+        this.dijkstra = new Dijkstra<>(GrafoCSR.deArestas(csr.getDicionario(), origens, destinos, pesos, m, true));
+    }
+
+    /**
+     * Calcula as distâncias e a árvore de caminhos mínimos a partir de uma origem no grafo original.
+     */
+    public ResultadoCaminhoMinimo<V> calcular(V origem) {
+        return calcularIds(idObrigatorio(origem));
+    }
+
+    /**
+     * Versão por ids de {@link #calcular(Object)}.
+     */
+    public ResultadoCaminhoMinimo<V> calcularIds(int origem) {
+        ResultadoCaminhoMinimo<V> reponderado = dijkstra.calcularIds(origem, -1);
+        double[] distancias = reponderado.getDistancias();
+        restaurarPesos(origem, distancias);
+        return new ResultadoCaminhoMinimo<>(csr, origem, distancias, reponderado.getPredecessores(),
+                reponderado.getVerticesAssentados());
+    }
+
+    /**
+     * Calcula todas as linhas da matriz de distâncias, distribuindo as origens entre as threads do pool.
+     * O consumidor é chamado uma vez por origem, por uma thread de cada vez, na ordem em que as linhas
+     * terminam. O método só retorna depois que todas as linhas foram entregues.
+     */
+    public void calcularTodos(ConsumidorDeLinha consumidor) {
+        int n = csr.getNumeroDeVertices();
+        Object trava = new Object();
+        ForkJoinTask<?>[] tarefas = new ForkJoinTask<?>[n];
+        for (int s = 0; s < n; s++) {
+            final int origem = s;
+            tarefas[s] = ForkJoinTask.adapt(() -> {
+                ResultadoCaminhoMinimo<V> linha = calcularIds(origem);
+                synchronized (trava) {
+                    consumidor.aceitar(origem, linha.getDistancias(), linha.getPredecessores());
+                }
+            });
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tarefas)));
+    }
+
+    /** Converte as distâncias reponderadas a partir da origem de volta para os pesos originais. */
+    private void restaurarPesos(int origem, double[] distancias) {
+        for (int v = 0; v < distancias.length; v++) {
+            if (distancias[v] != Double.POSITIVE_INFINITY) {
+                distancias[v] = distancias[v] - potenciais[origem] + potenciais[v];
+            }
+        }
+    }
+
+    /** Potencial h[v] usado na reponderação (array sem cópia). */
+    public double[] getPotenciais() {
+        return potenciais;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,108 @@
+package algoritmos.caminho_minimo.johnson;
+
+import algoritmos.caminho_minimo.bellman_ford.BellmanFord;
+import algoritmos.caminho_minimo.bellman_ford.ResultadoBellmanFord;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+
+public class RunJohnson {
+    public static void main(String[] args) {
+
+        // --- ETAPA 1: Carregar o grafo com pesos negativos ---
+        String caminhoArquivo = "src/algoritmos/caminho_minimo/dados_pesos_negativos.txt";
+        System.out.println("--- Carregando Grafo do Arquivo: " + caminhoArquivo + " ---");
+
+        Grafo<String> grafo = LeitorDeGrafo.carregarGrafoComDeteccao(caminhoArquivo);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o grafo.");
+            return;
+        }
+        System.out.println("Grafo carregado com sucesso.\n");
+
+        // --- ETAPA 2: Potenciais e linhas da matriz de distâncias ---
+        Johnson<String> johnson = new Johnson<>(grafo);
+        GrafoCSR<String> csr = johnson.getGrafo();
+        StringBuilder potenciais = new StringBuilder();
+        for (int v = 0; v < csr.getNumeroDeVertices(); v++) {
+            potenciais.append(csr.rotuloDe(v)).append('=').append(johnson.getPotenciais()[v]).append(' ');
+        }
+        System.out.println("Potenciais: " + potenciais);
+
+        System.out.println("--- Linhas entregues pelo Johnson ---");
+        johnson.calcularTodos((origem, distancias, predecessores) -> {
+            StringBuilder linha = new StringBuilder(String.format("%5s", csr.rotuloDe(origem)));
+            for (double d : distancias) {
+                linha.append(d == Double.POSITIVE_INFINITY ? "     ∞" : String.format("%6.1f", d));
+            }
+            System.out.println(linha);
+        });
+        System.out.println("Caminho S -> T: " + johnson.calcular("S").caminhoAte("T"));
+
+        // --- ETAPA 3: Grafo esparso aleatório, consumindo as linhas sem guardar a matriz ---
+        int n = 3000;
+        int m = 15_000;
+        GrafoCSR<Integer> esparso = gerarGrafoAleatorio(n, m, 42);
+        System.out.println("\n--- Grafo esparso com " + n + " vértices e " + m + " arestas ---");
+
+        long inicio = System.nanoTime();
+        Johnson<Integer> johnsonGrande = new Johnson<>(esparso);
+        System.out.printf("Bellman-Ford e reponderação: %.1f ms%n", (System.nanoTime() - inicio) / 1_000_000.0);
+
+        // O consumidor só acumula um resumo de cada linha; um caller real gravaria a linha em disco.
+        double[] soma = new double[1];
+        long[] alcancaveis = new long[1];
+        inicio = System.nanoTime();
+        johnsonGrande.calcularTodos((origem, distancias, predecessores) -> {
+            for (double d : distancias) {
+                if (d != Double.POSITIVE_INFINITY) {
+                    soma[0] += d;
+                    alcancaveis[0]++;
+                }
+            }
+        });
+        System.out.printf("%d Dijkstras em paralelo: %.1f ms | pares alcançáveis %d | soma das distâncias %.1f%n",
+                n, (System.nanoTime() - inicio) / 1_000_000.0, alcancaveis[0], soma[0]);
+
+        // Conferência contra o Bellman-Ford a partir de algumas origens.
+        BellmanFord<Integer> bellmanFord = new BellmanFord<>(esparso);
+        boolean iguais = true;
+        for (int origem = 0; origem < n; origem += 301) {
+            ResultadoBellmanFord<Integer> referencia = bellmanFord.calcularIds(origem);
+            double[] obtidas = johnsonGrande.calcularIds(origem).getDistancias();
+            for (int v = 0; v < n; v++) {
+                iguais &= obtidas[v] == referencia.distanciaId(v);
+            }
+        }
+        System.out.println("Distâncias iguais às do Bellman-Ford: " + iguais);
+    }
+
+    /**
+     * Grafo direcionado aleatório sem ciclos negativos: os pesos são p(u) - p(v) + w com w em [0, 10),
+     * então todo ciclo tem custo igual à soma dos w, que não é negativa.
+     */
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        int[] potencial = new int[n];
+        for (int v = 0; v < n; v++) {
+            potencial[v] = aleatorio.nextInt(20);
+        }
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = potencial[origens[i]] - potencial[destinos[i]] + aleatorio.nextInt(10);
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, true);
+    }
+}
@@ -1,8 +1,10 @@
 package algoritmos.coloracao_de_grafos;
 
 import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
+import util.primitivos.ConjuntoDeBits;
 import util.tabelaHash.TabelaHash;
 
 /**
@@ -14,9 +16,22 @@ import util.tabelaHash.TabelaHash;
 public class ColoracaoGreedy<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr; // Representação compacta, quando criado a partir de um GrafoCSR.
 
     public ColoracaoGreedy(Grafo<V> grafo) {
         this.grafo = grafo;
+        this.csr = null;
+    }
+
+    /**
+     * Cria o algoritmo sobre a representação compacta (CSR) do grafo.
+     * As cores ficam em um array indexado pelo id do vértice, sem boxing.
+     *
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
+     */
+    public ColoracaoGreedy(GrafoCSR<V> csr) {
+        this.grafo = null;
+        this.csr = csr;
     }
 
     /**
@@ -26,6 +41,15 @@ public class ColoracaoGreedy<V> {
      * @return TabelaHash mapeando cada vértice para sua cor (inteiro).
      */
     public TabelaHash<V, Integer> colorir() {
+        if (csr != null) {
+            int[] cores = colorirIds();
+            TabelaHash<V, Integer> resultadoCores = new TabelaHash<>();
+            for (int v = 0; v < cores.length; v++) {
+                resultadoCores.put(csr.rotuloDe(v), cores[v]);
+            }
+            return resultadoCores;
+        }
+
         TabelaHash<V, Integer> resultadoCores = new TabelaHash<>();
 
         // Percorre todos os vértices do grafo.
@@ -60,4 +84,52 @@ public class ColoracaoGreedy<V> {
         // Retorna o mapa de cores de cada vértice.
         return resultadoCores;
     }
+
+    /**
+     * Coloração gulosa sobre o CSR.
+     * Disponível apenas quando o algoritmo foi criado a partir de um {@link GrafoCSR}.
+     *
+     * @return Array com a cor (1, 2, 3, ...) de cada vértice, indexado pelo id.
+     */
+    public int[] colorirIds() {
+        if (csr == null) {
+            throw new IllegalStateException("colorirIds() requer um algoritmo criado a partir de um GrafoCSR.");
+        }
+
+        int n = csr.getNumeroDeVertices();
+        int[] cores = new int[n]; // 0 = ainda sem cor.
+
+        // Um vértice de grau g nunca precisa de cor maior que g + 1.
+        int grauMaximo = 0;
+        for (int v = 0; v < n; v++) {
+            grauMaximo = Math.max(grauMaximo, csr.grau(v));
+        }
+        ConjuntoDeBits coresVizinhas = new ConjuntoDeBits(grauMaximo + 2);
+
+        for (int v = 0; v < n; v++) {
+            // Marca as cores já usadas pelos vizinhos (cores acima de grau + 1 são irrelevantes).
+            for (int e = csr.inicio(v); e < csr.fim(v); e++) {
+                int cor = cores[csr.alvo(e)];
+                if (cor != 0 && cor < coresVizinhas.capacidade()) {
+                    coresVizinhas.add(cor);
+                }
+            }
+
+            int proximaCor = 1;
+            while (coresVizinhas.contains(proximaCor)) {
+                proximaCor++;
+            }
+            cores[v] = proximaCor;
+
+            // Desmarca apenas o que foi marcado, em vez de limpar todo o conjunto.
+            for (int e = csr.inicio(v); e < csr.fim(v); e++) {
+                int cor = cores[csr.alvo(e)];
+                if (cor != 0 && cor < coresVizinhas.capacidade()) {
+                    coresVizinhas.remove(cor);
+                }
+            }
+        }
+
+        return cores;
+    }
 }
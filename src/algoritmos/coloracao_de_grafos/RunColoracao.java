@@ -2,7 +2,6 @@ package algoritmos.coloracao_de_grafos;
 
 import graph_structure.Grafo;
 import util.leitoDeArquivo.LeitorDeGrafo; // 1. Importar a classe
-import util.lista.ListaEncadeada;
 import util.tabelaHash.TabelaHash;
 
 public class RunColoracao {
@@ -31,8 +30,7 @@ public class RunColoracao {
         System.out.println("Cores atribuídas aos vértices:");
 
         // Imprimir o resultado
-        ListaEncadeada<String> vertices = cores.keySet();
-        ListaEncadeada<String>.MeuIteradorDeLista iterador = vertices.iterador();
+        TabelaHash<String, Integer>.IteradorDeChaves iterador = cores.keySet().iterador();
         int maxCor = 0;
 
         while (iterador.temProximo()) {
@@ -0,0 +1,101 @@
+package algoritmos.conectividade;
+
+import graph_structure.GrafoCSR;
+import util.hashSet.HashSet;
+import util.lista.ListaEncadeada;
+
+/**
+ * Partição dos vértices em componentes conexos, em formato plano sobre ids densos.
+ *
+ * - {@code componenteDe[v]}: índice do componente do vértice v, em [0, quantidade);
+ * - {@code tamanhos[c]}: quantidade de vértices do componente c.
+ *
+ * Os componentes são numerados na ordem do menor id de cada um, a mesma ordem em que
+ * {@link VerificadorConectividade#encontrarComponentesConexos()} os lista.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ComponentesConexos<V> {
+
+    private final GrafoCSR<V> csr;
+    private final int[] componenteDe;
+    private final int[] tamanhos;
+
+    public ComponentesConexos(GrafoCSR<V> csr, int[] componenteDe, int[] tamanhos) {
+        this.csr = csr;
+        this.componenteDe = componenteDe;
+        this.tamanhos = tamanhos;
+    }
+
+    public int getQuantidade() {
+        return tamanhos.length;
+    }
+
+    public int componenteDe(int v) {
+        return componenteDe[v];
+    }
+
+    /** Índice do componente do vértice. */
+    public int componenteDe(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return componenteDe[id];
+    }
+
+    public int tamanho(int componente) {
+        return tamanhos[componente];
+    }
+
+    public boolean mesmoComponente(int u, int v) {
+        return componenteDe[u] == componenteDe[v];
+    }
+
+    /** Índice do maior componente (o primeiro deles, em caso de empate), ou -1 se o grafo for vazio. */
+    public int getMaiorComponente() {
+        int maior = -1;
+        for (int c = 0; c < tamanhos.length; c++) {
+            if (maior == -1 || tamanhos[c] > tamanhos[maior]) {
+                maior = c;
+            }
+        }
+        return maior;
+    }
+
+    /** Array de componentes indexado por id (sem cópia). */
+    public int[] getComponenteDe() {
+        return componenteDe;
+    }
+
+    /** Tamanho de cada componente (sem cópia). */
+    public int[] getTamanhos() {
+        return tamanhos;
+    }
+
+    /**
+     * Converte para o formato de {@link VerificadorConectividade#encontrarComponentesConexos()}:
+     * um conjunto de rótulos por componente, na ordem dos índices.
+     */
+    public ListaEncadeada<HashSet<V>> paraConjuntos() {
+        ListaEncadeada<HashSet<V>> componentes = new ListaEncadeada<>();
+        HashSet<V>[] porComponente = novoArrayDeConjuntos(tamanhos.length);
+        for (int c = 0; c < tamanhos.length; c++) {
+            porComponente[c] = new HashSet<>();
+            componentes.add(porComponente[c]);
+        }
+        for (int v = 0; v < componenteDe.length; v++) {
+            porComponente[componenteDe[v]].add(csr.rotuloDe(v));
+        }
+        return componentes;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> HashSet<T>[] novoArrayDeConjuntos(int tamanho) {
+        return (HashSet<T>[]) new HashSet[tamanho];
+    }
+}
@@ -0,0 +1,141 @@
+package algoritmos.conectividade;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.paralelo.LacoParalelo;
+import util.primitivos.MapaIntInt;
+import util.union_find.UnionFindConcorrente;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Componentes conexos em paralelo por union-find sobre as arestas (Afforest, de Sutton, Ben-Nun e
+ * Barak, uma variante do Shiloach–Vishkin).
+ *
+ * As pontas de cada aresta são unidas em um {@link UnionFindConcorrente}, que pendura a raiz de id
+ * maior na de id menor com compare-and-set e refaz a tentativa se outra thread mudou a raiz no meio
+ * do caminho. Assim, a raiz de cada árvore é o menor id do componente.
+ *
+ * O trabalho é dividido em três fases, todas paralelas sobre blocos de vértices:
+ * 1. Amostragem de vizinhos: em {@link #RODADAS_DE_VIZINHOS} rodadas, cada vértice se liga apenas ao
+ *    seu r-ésimo vizinho, seguido de uma compressão. Isso já forma quase todo o componente gigante.
+ * 2. Identificação do gigante: a raiz mais frequente em {@link #AMOSTRAS} vértices sorteados.
+ * 3. Fase final: os vértices fora do gigante se ligam aos vizinhos restantes. Os vértices do gigante
+ *    são pulados por inteiro, e as arestas deles são cobertas pela outra ponta. Em grafos direcionados,
+ *    esses vértices também se ligam às arestas de entrada, então o resultado são os componentes fracamente conexos.
+ *
+ * Uma compressão final faz cada vértice apontar direto para a raiz, e os componentes são numerados
+ * na ordem do menor id.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class ComponentesConexosParalelo<V> {
+
+    /** Vizinhos de cada vértice ligados na fase de amostragem. */
+    public static final int RODADAS_DE_VIZINHOS = 2;
+
+    /** Vértices sorteados para identificar o componente gigante. */
+    private static final int AMOSTRAS = 1024;
+
+    /** Vértices por tarefa. */
+    private static final int TAMANHO_DO_BLOCO = 4096;
+
+    private final GrafoCSR<V> csr;
+    private final GrafoCSR<V> entrada;
+    private final ForkJoinPool pool;
+
+    public ComponentesConexosParalelo(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public ComponentesConexosParalelo(GrafoCSR<V> csr) {
+        this(csr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csr  Grafo a decompor.
+     * @param pool Pool em que os blocos de vértices são processados.
+     */
+    public ComponentesConexosParalelo(GrafoCSR<V> csr, ForkJoinPool pool) {
+        this.csr = csr;
+        this.entrada = csr.isDirecionado() ? csr.transposto() : null;
+        this.pool = pool;
+    }
+
+    /**
+     * Calcula os componentes conexos (fracamente conexos, em grafos direcionados).
+     */
+    public ComponentesConexos<V> calcular() {
+        int n = csr.getNumeroDeVertices();
+        UnionFindConcorrente uf = new UnionFindConcorrente(n);
+
+        // Fase 1: o r-ésimo vizinho de cada vértice.
+        for (int r = 0; r < RODADAS_DE_VIZINHOS; r++) {
+            int rodada = r;
+            LacoParalelo.paraCadaBloco(pool, n, TAMANHO_DO_BLOCO, (bloco, inicio, fim) -> {
+                for (int u = inicio; u < fim; u++) {
+                    int e = csr.inicio(u) + rodada;
+                    if (e < csr.fim(u)) {
+                        uf.union(u, csr.alvo(e));
+                    }
+                }
+            });
+            LacoParalelo.paraCadaBloco(pool, n, TAMANHO_DO_BLOCO, (bloco, inicio, fim) -> uf.comprimir(inicio, fim));
+        }
+
+        // Fase 2 e 3: tudo o que sobrou, exceto o componente gigante.
+        int gigante = raizMaisFrequente(uf);
+        LacoParalelo.paraCadaBloco(pool, n, TAMANHO_DO_BLOCO, (bloco, inicio, fim) -> {
+            for (int u = inicio; u < fim; u++) {
+                if (uf.paiDe(u) == gigante) continue;
+                for (int e = csr.inicio(u) + RODADAS_DE_VIZINHOS; e < csr.fim(u); e++) {
+                    uf.union(u, csr.alvo(e));
+                }
+                if (entrada != null) {
+                    for (int e = entrada.inicio(u); e < entrada.fim(u); e++) {
+                        uf.union(u, entrada.alvo(e));
+                    }
+                }
+            }
+        });
+        LacoParalelo.paraCadaBloco(pool, n, TAMANHO_DO_BLOCO, (bloco, inicio, fim) -> uf.comprimir(inicio, fim));
+
+        // A raiz é o menor id do componente, então já foi numerada quando os demais vértices chegam nela.
+        int[] componenteDe = new int[n];
+        int quantidade = 0;
+        for (int v = 0; v < n; v++) {
+            int raiz = uf.paiDe(v);
+            componenteDe[v] = raiz == v ? quantidade++ : componenteDe[raiz];
+        }
+        int[] tamanhos = new int[quantidade];
+        for (int v = 0; v < n; v++) {
+            tamanhos[componenteDe[v]]++;
+        }
+        return new ComponentesConexos<>(csr, componenteDe, tamanhos);
+    }
+
+    private static int raizMaisFrequente(UnionFindConcorrente uf) {
+        int n = uf.size();
+        if (n == 0) {
+            return -1;
+        }
+        Random aleatorio = new Random(n);
+        MapaIntInt contagem = new MapaIntInt();
+        int maisFrequente = -1;
+        int maiorContagem = 0;
+        for (int i = 0; i < AMOSTRAS; i++) {
+            int raiz = uf.paiDe(aleatorio.nextInt(n));
+            int vezes = contagem.adicionar(raiz, 1);
+            if (vezes > maiorContagem) {
+                maiorContagem = vezes;
+                maisFrequente = raiz;
+            }
+        }
+        return maisFrequente;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
@@ -0,0 +1,91 @@
+package algoritmos.conectividade;
+
+import algoritmos.busca.bfs.BFSParalela;
+import graph_structure.DicionarioDeVertices;
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RunComponentesConexosParalelo {
+    public static void main(String[] args) {
+
+        // --- Cenário 1: grafo desconectado do arquivo ---
+        String arquivo = "src/algoritmos/conectividade/grafo_desconectado.txt";
+        System.out.println("Carregando grafo de: " + arquivo);
+        Grafo<String> grafo = LeitorDeGrafo.carregarGrafoComDeteccao(arquivo);
+        if (grafo == null) {
+            System.out.println("Falha ao carregar " + arquivo);
+            return;
+        }
+        GrafoCSR<String> csr = grafo.congelar();
+        ComponentesConexos<String> componentes = new ComponentesConexosParalelo<>(csr).calcular();
+        System.out.println("Número de componentes: " + componentes.getQuantidade());
+        for (int v = 0; v < csr.getNumeroDeVertices(); v++) {
+            int c = componentes.componenteDe(v);
+            System.out.println("  " + csr.rotuloDe(v) + " → componente " + c + " (tamanho " + componentes.tamanho(c) + ")");
+        }
+
+        // --- Cenário 2: grafo aleatório grande, com um componente gigante e muitos vértices soltos ---
+        int n = 2_000_000;
+        int arestas = 3_000_000;
+        GrafoCSR<Integer> grande = gerarGrafoAleatorio(n, arestas, 11);
+        System.out.println("\n--- Grafo aleatório com " + n + " vértices e " + grande.getNumeroDeArcos() + " arcos ---");
+        System.out.println("Threads no pool: " + ForkJoinPool.commonPool().getParallelism());
+
+        ComponentesConexosParalelo<Integer> afforest = new ComponentesConexosParalelo<>(grande);
+        BFSParalela<Integer> bfs = new BFSParalela<>(grande);
+        for (int aquecimento = 0; aquecimento < 3; aquecimento++) {
+            afforest.calcular();
+            rotularComBuscas(bfs, n);
+        }
+
+        long inicio = System.nanoTime();
+        int quantidadePorBusca = rotularComBuscas(bfs, n);
+        double msBuscas = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ComponentesConexos<Integer> resultado = afforest.calcular();
+        double msAfforest = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        int maior = resultado.getMaiorComponente();
+        System.out.printf("Uma BFS paralela por componente: %.1f ms (%d componentes)%n", msBuscas, quantidadePorBusca);
+        System.out.printf("Union-find paralelo (Afforest):  %.1f ms (%d componentes)%n", msAfforest, resultado.getQuantidade());
+        System.out.println("Maior componente: " + resultado.tamanho(maior) + " vértices");
+    }
+
+    /** Referência: rotula os componentes como o VerificadorConectividade fazia, uma busca por componente. */
+    private static int rotularComBuscas(BFSParalela<Integer> bfs, int n) {
+        AtomicIntegerArray rotulos = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            rotulos.set(v, -1);
+        }
+        int quantidade = 0;
+        for (int v = 0; v < n; v++) {
+            if (rotulos.get(v) == -1) {
+                bfs.marcarAlcancaveis(v, rotulos, quantidade++);
+            }
+        }
+        return quantidade;
+    }
+
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, false);
+    }
+}
@@ -74,5 +74,15 @@ public class RunConectividade {
             System.out.println("Falha ao carregar " + arquivoDesconexo);
         }
         System.out.println("---------------------------------------------");
+
+        // --- Cenário 3: mesmo grafo desconectado, no modo CSR com BFS paralela ---
+        System.out.println("\n--- INICIANDO TESTE NO MODO CSR (BFS PARALELA) ---");
+        if (grafoDesconectado != null) {
+            VerificadorConectividade<String> verificadorCSR = new VerificadorConectividade<>(grafoDesconectado.congelar());
+            System.out.println("É conexo? " + verificadorCSR.isConexo());
+            ListaEncadeada<HashSet<String>> componentesCSR = verificadorCSR.encontrarComponentesConexos();
+            System.out.println("Número de componentes encontrados: " + componentesCSR.size());
+        }
+        System.out.println("---------------------------------------------");
     }
-}
\ No newline at end of file
+}
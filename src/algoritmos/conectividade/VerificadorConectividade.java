@@ -1,22 +1,57 @@
 package algoritmos.conectividade;
 
-import algoritmos.busca.bfs.BFS;
+import algoritmos.busca.bfs.BFSParalela;
+import algoritmos.busca.percurso.PercursoEmLargura;
+import algoritmos.busca.percurso.VisitanteGrafo;
 import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Algoritmos para verificar a conectividade de um grafo
  * e para identificar seus componentes conexos.
  *
+ * Em grafos não direcionados, os componentes vêm do {@link ComponentesConexosParalelo}. Em grafos
+ * direcionados, as buscas seguem o sentido das arestas e cada vértice entra no primeiro componente
+ * cuja busca o alcança, então os componentes não se sobrepõem.
+ *
  * @param <V> Tipo dos dados armazenados nos vértices.
  */
 public class VerificadorConectividade<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr; // Modo CSR: buscas pela BFSParalela; componentes não direcionados pelo ComponentesConexosParalelo.
+    private final BFSParalela<V> bfsParalela;
+    private final ForkJoinPool pool;
 
     public VerificadorConectividade(Grafo<V> grafo) {
         this.grafo = grafo;
+        this.csr = null;
+        this.bfsParalela = null;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    public VerificadorConectividade(GrafoCSR<V> csr) {
+        this(csr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verificador sobre a representação compacta, com as buscas feitas pela {@link BFSParalela} e os
+     * componentes de grafos não direcionados pelo {@link ComponentesConexosParalelo}.
+     *
+     * @param csr  Grafo congelado por {@link Grafo#congelar()}.
+     * @param pool Pool em que as fronteiras grandes e os componentes paralelos são processados.
+     */
+    public VerificadorConectividade(GrafoCSR<V> csr, ForkJoinPool pool) {
+        this.grafo = null;
+        this.csr = csr;
+        this.bfsParalela = new BFSParalela<>(csr, pool);
+        this.pool = pool;
     }
 
     /**
@@ -26,22 +61,28 @@ public class VerificadorConectividade<V> {
      * @return true se o grafo for conectado, false caso contrário.
      */
     public boolean isConexo() {
+        if (csr != null) {
+            return csr.getNumeroDeVertices() <= 1
+                    || bfsParalela.executarIds(0).getNumeroDeVisitados() == csr.getNumeroDeVertices();
+        }
+
         // Grafos vazios ou com apenas um vértice são considerados conectados.
         if (grafo.getNumeroDeVertices() <= 1) {
             return true;
         }
 
-        // Seleciona um vértice inicial arbitrário.
-        HashSet<V> todosOsVertices = grafo.getVertices();
-        HashSet<V>.MeuIteradorDeHashSet iterador = todosOsVertices.iterator();
-        V inicio = iterador.next();
-
-        // Executa uma BFS a partir do vértice inicial.
-        BFS<V> bfs = new BFS<>(grafo);
-        HashSet<V> visitados = bfs.executar(inicio);
+        // Executa uma BFS a partir do vértice de id 0 contando os vértices descobertos.
+        int[] visitados = new int[1];
+        new PercursoEmLargura<>(grafo.congelar()).executarIds(0, new VisitanteGrafo<V>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                visitados[0]++;
+                return Acao.CONTINUAR;
+            }
+        });
 
         // Se todos os vértices foram visitados, o grafo é conectado.
-        return visitados.size() == grafo.getNumeroDeVertices();
+        return visitados[0] == grafo.getNumeroDeVertices();
     }
 
     /**
@@ -51,32 +92,66 @@ public class VerificadorConectividade<V> {
      * @return Lista onde cada elemento é um HashSet representando um componente conexo.
      */
     public ListaEncadeada<HashSet<V>> encontrarComponentesConexos() {
-        ListaEncadeada<HashSet<V>> componentes = new ListaEncadeada<>();
-        HashSet<V> visitadosGlobalmente = new HashSet<>();
-        BFS<V> bfs = new BFS<>(grafo);
-
-        // Percorre todos os vértices do grafo.
-        HashSet<V> todosOsVertices = grafo.getVertices();
-        HashSet<V>.MeuIteradorDeHashSet iteradorVertices = todosOsVertices.iterator();
-
-        while (iteradorVertices.hasNext()) {
-            V vertice = iteradorVertices.next();
-
-            // Se o vértice ainda não foi visitado por buscas anteriores.
-            if (!visitadosGlobalmente.contains(vertice)) {
-                // Executa uma BFS para encontrar o componente conexo deste vértice.
-                HashSet<V> novoComponente = bfs.executar(vertice);
-                componentes.add(novoComponente);
-
-                // Marca todos os vértices do novo componente como visitados.
-                HashSet<V>.MeuIteradorDeHashSet iteradorComponente = novoComponente.iterator();
-                while (iteradorComponente.hasNext()) {
-                    visitadosGlobalmente.add(iteradorComponente.next());
-                }
+        return rotularComponentes().paraConjuntos();
+    }
+
+    /**
+     * Rotula os componentes em arrays indexados por id, sem montar um conjunto por componente.
+     *
+     * Em grafos não direcionados, usa o {@link ComponentesConexosParalelo}. Em grafos direcionados,
+     * mantém a semântica das buscas: uma BFS a partir de cada vértice ainda sem rótulo.
+     */
+    public ComponentesConexos<V> rotularComponentes() {
+        GrafoCSR<V> alvo = csr != null ? csr : grafo.congelar();
+        if (!alvo.isDirecionado()) {
+            return new ComponentesConexosParalelo<>(alvo, pool).calcular();
+        }
+        return csr != null ? rotularComBFSParalela() : rotularComPercurso(alvo);
+    }
+
+    /**
+     * Uma busca paralela por componente, sobre um único array de marcas: cada busca só percorre os
+     * vértices ainda sem rótulo.
+     */
+    private ComponentesConexos<V> rotularComBFSParalela() {
+        int n = csr.getNumeroDeVertices();
+        AtomicIntegerArray rotulos = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            rotulos.set(v, -1);
+        }
+        int quantidade = 0;
+        for (int v = 0; v < n; v++) {
+            if (rotulos.get(v) == -1) {
+                bfsParalela.marcarAlcancaveis(v, rotulos, quantidade++);
             }
         }
 
-        // Retorna a lista contendo todos os componentes conexos encontrados.
-        return componentes;
+        int[] componenteDe = new int[n];
+        int[] tamanhos = new int[quantidade];
+        for (int v = 0; v < n; v++) {
+            componenteDe[v] = rotulos.get(v);
+            tamanhos[componenteDe[v]]++;
+        }
+        return new ComponentesConexos<>(csr, componenteDe, tamanhos);
+    }
+
+    /** Uma BFS por vértice ainda não descoberto; cada raiz (pai -1) abre um novo componente. */
+    private ComponentesConexos<V> rotularComPercurso(GrafoCSR<V> congelado) {
+        int n = congelado.getNumeroDeVertices();
+        int[] componenteDe = new int[n];
+        ListaDeInteiros tamanhos = new ListaDeInteiros();
+        new PercursoEmLargura<>(congelado).executarTodos(new VisitanteGrafo<V>() {
+            @Override
+            public Acao descobrir(int vertice, int pai) {
+                if (pai == -1) {
+                    tamanhos.add(0);
+                }
+                int atual = tamanhos.size() - 1;
+                componenteDe[vertice] = atual;
+                tamanhos.set(atual, tamanhos.get(atual) + 1);
+                return Acao.CONTINUAR;
+            }
+        });
+        return new ComponentesConexos<>(congelado, componenteDe, tamanhos.toArray());
     }
 }
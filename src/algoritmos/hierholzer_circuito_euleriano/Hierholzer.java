@@ -48,11 +48,13 @@ public class Hierholzer<V> {
         ListaEncadeada<HashSet<V>> componentes = conector.encontrarComponentesConexos();
 
         int componentesRelevantes = 0;
-        for (int i = 0; i < componentes.size(); i++) {
-            if (componentes.get(i).size() > 1) {
+        ListaEncadeada<HashSet<V>>.MeuIteradorDeLista iteradorComponentes = componentes.iterador();
+        while (iteradorComponentes.temProximo()) {
+            HashSet<V> componente = iteradorComponentes.proximo();
+            if (componente.size() > 1) {
                 componentesRelevantes++;
-            } else if (componentes.get(i).size() == 1) {
-                V verticeUnico = componentes.get(i).iterator().next();
+            } else if (componente.size() == 1) {
+                V verticeUnico = componente.iterator().next();
                 if (grafo.getVizinhos(verticeUnico).size() > 0) {
                     componentesRelevantes++;
                 }
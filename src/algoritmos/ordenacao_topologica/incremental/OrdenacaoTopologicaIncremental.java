@@ -0,0 +1,412 @@
+package algoritmos.ordenacao_topologica.incremental;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.Grafo;
+import util.hashSet.HashSet;
+import util.lista.ListaEncadeada;
+import util.primitivos.ListaDeInteiros;
+
+/**
+ * Ordem topológica mantida a cada inserção de aresta (Pearce e Kelly), com junção incremental de
+ * componentes fortemente conexos.
+ *
+ * A ordem é mantida sobre os componentes: cada componente ocupa uma posição, e toda aresta entre
+ * componentes diferentes vai de uma posição menor para uma maior. Ao inserir u → v com
+ * pos(v) < pos(u), só os componentes com posição em [pos(v), pos(u)] podem ser afetados:
+ * - δF: alcançáveis a partir de v sem passar de pos(u);
+ * - δB: que alcançam u sem passar abaixo de pos(v).
+ * Se u não está em δF, as posições antigas de δB ∪ δF são redistribuídas com δB antes de δF,
+ * cada grupo na ordem relativa que já tinha. Se u está em δF, a aresta fechou um ciclo: os
+ * componentes de δF ∩ δB viram um só, que fica entre δB e δF.
+ *
+ * O custo de cada inserção é proporcional às arestas dos componentes da região afetada, e não a V + E.
+ * Na junção, os membros do componente menor são rerrotulados para o maior.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class OrdenacaoTopologicaIncremental<V> {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+    private static final int VAZIA = -1;
+
+    private final DicionarioDeVertices<V> dicionario;
+    private int numeroDeVertices;
+    private int numeroDeComponentes;
+
+    // Indexados pelo id do vértice.
+    private int[] componenteDe;              // Representante do componente do vértice.
+    private ListaDeInteiros[] saida;
+    private ListaDeInteiros[] entrada;
+
+    // Indexados pelo representante do componente.
+    private int[] posicao;
+    private ListaDeInteiros[] membros;
+    private int[] marcaFrente;
+    private int[] marcaTras;
+    private int geracao;
+
+    // Posição → representante, com VAZIA nas posições liberadas por junções.
+    private int[] componenteNaPosicao;
+    private int proximaPosicao;
+
+    private int origemDoPrimeiroCiclo = -1;
+    private int destinoDoPrimeiroCiclo = -1;
+
+    public OrdenacaoTopologicaIncremental() {
+        this.dicionario = new DicionarioDeVertices<>();
+        this.componenteDe = new int[CAPACIDADE_INICIAL];
+        this.saida = new ListaDeInteiros[CAPACIDADE_INICIAL];
+        this.entrada = new ListaDeInteiros[CAPACIDADE_INICIAL];
+        this.posicao = new int[CAPACIDADE_INICIAL];
+        this.membros = new ListaDeInteiros[CAPACIDADE_INICIAL];
+        this.marcaFrente = new int[CAPACIDADE_INICIAL];
+        this.marcaTras = new int[CAPACIDADE_INICIAL];
+        this.componenteNaPosicao = new int[CAPACIDADE_INICIAL];
+    }
+
+    /**
+     * Cria a estrutura com os vértices e as arestas de um grafo direcionado, inseridos um a um.
+     */
+    public OrdenacaoTopologicaIncremental(Grafo<V> grafo) {
+        this();
+        if (!grafo.isDirecionado()) {
+            throw new IllegalArgumentException("Ordenação topológica só é válida para grafos direcionados.");
+        }
+        HashSet<V>.MeuIteradorDeHashSet iteradorVertices = grafo.getVertices().iterator();
+        while (iteradorVertices.hasNext()) {
+            adicionarVertice(iteradorVertices.next());
+        }
+        iteradorVertices = grafo.getVertices().iterator();
+        while (iteradorVertices.hasNext()) {
+            V origem = iteradorVertices.next();
+            ListaEncadeada<Grafo.Vizinho<V>>.MeuIteradorDeLista iteradorVizinhos = grafo.getVizinhos(origem).iterador();
+            while (iteradorVizinhos.temProximo()) {
+                adicionarAresta(origem, iteradorVizinhos.proximo().no());
+            }
+        }
+    }
+
+    /**
+     * Adiciona um vértice isolado no fim da ordem (sem efeito se ele já existir).
+     *
+     * @return O id do vértice.
+     */
+    public int adicionarVertice(V vertice) {
+        int id = dicionario.internar(vertice);
+        if (id < numeroDeVertices) {
+            return id;
+        }
+        garantirCapacidade(id + 1);
+        componenteDe[id] = id;
+        saida[id] = new ListaDeInteiros(2);
+        entrada[id] = new ListaDeInteiros(2);
+        membros[id] = new ListaDeInteiros(1);
+        membros[id].add(id);
+        posicao[id] = proximaPosicao;
+        componenteNaPosicao[proximaPosicao++] = id;
+        numeroDeVertices++;
+        numeroDeComponentes++;
+        return id;
+    }
+
+    /**
+     * Insere a aresta origem → destino (criando os vértices que ainda não existirem) e atualiza a ordem.
+     *
+     * @return true se, depois da inserção, a aresta faz parte de um ciclo (origem e destino no mesmo componente).
+     */
+    public boolean adicionarAresta(V origem, V destino) {
+        return adicionarArestaIds(adicionarVertice(origem), adicionarVertice(destino));
+    }
+
+    /**
+     * Versão por ids de {@link #adicionarAresta(Object, Object)}.
+     */
+    public boolean adicionarArestaIds(int u, int v) {
+        if (u < 0 || u >= numeroDeVertices || v < 0 || v >= numeroDeVertices) {
+            throw new IllegalArgumentException("Id de vértice inválido: " + u + " -> " + v);
+        }
+        saida[u].add(v);
+        entrada[v].add(u);
+
+        int cu = componenteDe[u];
+        int cv = componenteDe[v];
+        if (cu != cv && posicao[cu] > posicao[cv]) {
+            reordenar(cu, cv);
+        }
+        boolean emCiclo = componenteDe[u] == componenteDe[v];
+        if (emCiclo && origemDoPrimeiroCiclo == -1) {
+            origemDoPrimeiroCiclo = u;
+            destinoDoPrimeiroCiclo = v;
+        }
+        return emCiclo;
+    }
+
+    /**
+     * Trata a inserção cu → cv com pos(cv) < pos(cu).
+     */
+    private void reordenar(int cu, int cv) {
+        int limiteInferior = posicao[cv];
+        int limiteSuperior = posicao[cu];
+        geracao++;
+
+        ListaDeInteiros frente = buscar(cv, limiteSuperior, true);
+        ListaDeInteiros tras = buscar(cu, limiteInferior, false);
+        boolean ciclo = marcaFrente[cu] == geracao;
+
+        // Posições antigas da região, em ordem crescente.
+        ListaDeInteiros posicoes = new ListaDeInteiros(frente.size() + tras.size());
+        for (int i = 0; i < tras.size(); i++) {
+            posicoes.add(posicao[tras.get(i)]);
+        }
+        for (int i = 0; i < frente.size(); i++) {
+            int c = frente.get(i);
+            if (marcaTras[c] != geracao) {
+                posicoes.add(posicao[c]);
+            }
+        }
+        int[] livres = posicoes.toArray();
+        ordenarInteiros(livres);
+        int[] somenteTras = filtrarPorPosicao(tras, false);
+        int[] somenteFrente = filtrarPorPosicao(frente, true);
+
+        int proxima = 0;
+        for (int c : somenteTras) {
+            mover(c, livres[proxima++]);
+        }
+        if (ciclo) {
+            // δF ∩ δB vira um componente, colocado logo depois de δB \ δF; as posições que sobram ficam vazias.
+            int representante = juntar(frente);
+            mover(representante, livres[proxima++]);
+            int ultimaVazia = livres.length - somenteFrente.length;
+            while (proxima < ultimaVazia) {
+                componenteNaPosicao[livres[proxima++]] = VAZIA;
+            }
+        }
+        for (int c : somenteFrente) {
+            mover(c, livres[proxima++]);
+        }
+    }
+
+    /**
+     * DFS sobre os componentes, para frente (arestas de saída, posição ≤ limite) ou para trás
+     * (arestas de entrada, posição ≥ limite). Os visitados recebem a marca da geração atual.
+     */
+    private ListaDeInteiros buscar(int inicio, int limite, boolean paraFrente) {
+        int[] marca = paraFrente ? marcaFrente : marcaTras;
+        ListaDeInteiros[] arestas = paraFrente ? saida : entrada;
+        ListaDeInteiros visitados = new ListaDeInteiros();
+        ListaDeInteiros pilha = new ListaDeInteiros();
+        marca[inicio] = geracao;
+        visitados.add(inicio);
+        pilha.add(inicio);
+
+        while (!pilha.isEmpty()) {
+            int c = pilha.removeLast();
+            ListaDeInteiros doComponente = membros[c];
+            for (int i = 0; i < doComponente.size(); i++) {
+                ListaDeInteiros vizinhos = arestas[doComponente.get(i)];
+                for (int j = 0; j < vizinhos.size(); j++) {
+                    int d = componenteDe[vizinhos.get(j)];
+                    if (marca[d] == geracao) continue;
+                    boolean dentro = paraFrente ? posicao[d] <= limite : posicao[d] >= limite;
+                    if (dentro) {
+                        marca[d] = geracao;
+                        visitados.add(d);
+                        pilha.add(d);
+                    }
+                }
+            }
+        }
+        return visitados;
+    }
+
+    /**
+     * Componentes de um lado da busca que não estão no outro, em ordem de posição.
+     *
+     * @param frente true para δF \ δB, false para δB \ δF.
+     */
+    private int[] filtrarPorPosicao(ListaDeInteiros componentes, boolean frente) {
+        int[] outra = frente ? marcaTras : marcaFrente;
+        ListaDeInteiros posicoes = new ListaDeInteiros(componentes.size());
+        for (int i = 0; i < componentes.size(); i++) {
+            int c = componentes.get(i);
+            if (outra[c] != geracao) {
+                posicoes.add(posicao[c]);
+            }
+        }
+        int[] ordenadas = posicoes.toArray();
+        ordenarInteiros(ordenadas);
+        for (int i = 0; i < ordenadas.length; i++) {
+            ordenadas[i] = componenteNaPosicao[ordenadas[i]];
+        }
+        return ordenadas;
+    }
+
+    /**
+     * Junta em um componente todos os componentes de δF que também estão em δB.
+     * Os membros dos menores são rerrotulados para o maior, que continua como representante.
+     *
+     * @return O representante do componente resultante.
+     */
+    private int juntar(ListaDeInteiros frente) {
+        int representante = -1;
+        for (int i = 0; i < frente.size(); i++) {
+            int c = frente.get(i);
+            if (marcaTras[c] == geracao && (representante == -1 || membros[c].size() > membros[representante].size())) {
+                representante = c;
+            }
+        }
+        ListaDeInteiros destino = membros[representante];
+        for (int i = 0; i < frente.size(); i++) {
+            int c = frente.get(i);
+            if (marcaTras[c] != geracao || c == representante) continue;
+            ListaDeInteiros origem = membros[c];
+            for (int j = 0; j < origem.size(); j++) {
+                int x = origem.get(j);
+                componenteDe[x] = representante;
+                destino.add(x);
+            }
+            membros[c] = null;
+            numeroDeComponentes--;
+        }
+        return representante;
+    }
+
+    private void mover(int componente, int novaPosicao) {
+        posicao[componente] = novaPosicao;
+        componenteNaPosicao[novaPosicao] = componente;
+    }
+
+    /**
+     * Retorna os vértices em ordem topológica; os vértices de um mesmo componente ficam contíguos.
+     */
+    public ListaEncadeada<V> getOrdem() {
+        ListaEncadeada<V> ordem = new ListaEncadeada<>();
+        for (int p = 0; p < proximaPosicao; p++) {
+            int c = componenteNaPosicao[p];
+            if (c == VAZIA) continue;
+            ListaDeInteiros doComponente = membros[c];
+            for (int i = 0; i < doComponente.size(); i++) {
+                ordem.add(dicionario.rotuloDe(doComponente.get(i)));
+            }
+        }
+        return ordem;
+    }
+
+    /**
+     * Retorna os componentes fortemente conexos em ordem topológica, no formato de {@code Tarjan.encontrarSccs()}.
+     */
+    public ListaEncadeada<HashSet<V>> getComponentes() {
+        ListaEncadeada<HashSet<V>> componentes = new ListaEncadeada<>();
+        for (int p = 0; p < proximaPosicao; p++) {
+            int c = componenteNaPosicao[p];
+            if (c == VAZIA) continue;
+            HashSet<V> conjunto = new HashSet<>();
+            ListaDeInteiros doComponente = membros[c];
+            for (int i = 0; i < doComponente.size(); i++) {
+                conjunto.add(dicionario.rotuloDe(doComponente.get(i)));
+            }
+            componentes.add(conjunto);
+        }
+        return componentes;
+    }
+
+    /** true se a vem antes de b na ordem atual (vértices do mesmo componente não se precedem). */
+    public boolean precede(V a, V b) {
+        return posicao[componenteDe[idObrigatorio(a)]] < posicao[componenteDe[idObrigatorio(b)]];
+    }
+
+    public boolean mesmoComponente(V a, V b) {
+        return componenteDe[idObrigatorio(a)] == componenteDe[idObrigatorio(b)];
+    }
+
+    /** true se alguma inserção já formou um ciclo. */
+    public boolean temCiclo() {
+        return origemDoPrimeiroCiclo != -1;
+    }
+
+    /** Origem da primeira aresta inserida que ficou em um ciclo, ou null se o grafo ainda é acíclico. */
+    public V getOrigemDoPrimeiroCiclo() {
+        return origemDoPrimeiroCiclo == -1 ? null : dicionario.rotuloDe(origemDoPrimeiroCiclo);
+    }
+
+    /** Destino da primeira aresta inserida que ficou em um ciclo, ou null se o grafo ainda é acíclico. */
+    public V getDestinoDoPrimeiroCiclo() {
+        return destinoDoPrimeiroCiclo == -1 ? null : dicionario.rotuloDe(destinoDoPrimeiroCiclo);
+    }
+
+    public int getNumeroDeVertices() {
+        return numeroDeVertices;
+    }
+
+    public int getNumeroDeComponentes() {
+        return numeroDeComponentes;
+    }
+
+    public DicionarioDeVertices<V> getDicionario() {
+        return dicionario;
+    }
+
+    private int idObrigatorio(V vertice) {
+        int id = dicionario.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado: " + vertice);
+        }
+        return id;
+    }
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo <= componenteDe.length) {
+            return;
+        }
+        int capacidade = componenteDe.length * 2;
+        componenteDe = copiar(componenteDe, capacidade);
+        posicao = copiar(posicao, capacidade);
+        marcaFrente = copiar(marcaFrente, capacidade);
+        marcaTras = copiar(marcaTras, capacidade);
+        componenteNaPosicao = copiar(componenteNaPosicao, capacidade);
+        saida = copiar(saida, capacidade);
+        entrada = copiar(entrada, capacidade);
+        membros = copiar(membros, capacidade);
+    }
+
+    private static int[] copiar(int[] origem, int capacidade) {
+        int[] novo = new int[capacidade];
+        System.arraycopy(origem, 0, novo, 0, origem.length);
+        return novo;
+    }
+
+    private static ListaDeInteiros[] copiar(ListaDeInteiros[] origem, int capacidade) {
+        ListaDeInteiros[] novo = new ListaDeInteiros[capacidade];
+        System.arraycopy(origem, 0, novo, 0, origem.length);
+        return novo;
+    }
+
+    /** Heapsort in-place, para ordenar as posições da região afetada sem alocar. */
+    private static void ordenarInteiros(int[] a) {
+        for (int i = a.length / 2 - 1; i >= 0; i--) {
+            descer(a, i, a.length);
+        }
+        for (int fim = a.length - 1; fim > 0; fim--) {
+            int t = a[0];
+            a[0] = a[fim];
+            a[fim] = t;
+            descer(a, 0, fim);
+        }
+    }
+
+    private static void descer(int[] a, int i, int tamanho) {
+        while (true) {
+            int maior = i;
+            int esquerda = 2 * i + 1;
+            int direita = esquerda + 1;
+            if (esquerda < tamanho && a[esquerda] > a[maior]) maior = esquerda;
+            if (direita < tamanho && a[direita] > a[maior]) maior = direita;
+            if (maior == i) return;
+            int t = a[i];
+            a[i] = a[maior];
+            a[maior] = t;
+            i = maior;
+        }
+    }
+}
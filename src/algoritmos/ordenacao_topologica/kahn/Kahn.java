@@ -1,6 +1,7 @@
 package algoritmos.ordenacao_topologica.kahn;
 
 import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
 import util.hashSet.HashSet;
 import util.lista.ListaEncadeada;
 import util.tabelaHash.TabelaHash;
@@ -14,6 +15,7 @@ import util.tabelaHash.TabelaHash;
 public class Kahn<V> {
 
     private final Grafo<V> grafo;
+    private final GrafoCSR<V> csr; // Representação compacta, quando criado a partir de um GrafoCSR.
 
     public Kahn(Grafo<V> grafo) {
         // O algoritmo de Kahn só funciona em grafos direcionados.
@@ -21,6 +23,21 @@ public class Kahn<V> {
             throw new IllegalArgumentException("Ordenação topológica só é válida para grafos direcionados.");
         }
         this.grafo = grafo;
+        this.csr = null;
+    }
+
+    /**
+     * Cria o algoritmo sobre a representação compacta (CSR) do grafo.
+     * Os graus de entrada ficam em um array indexado pelo id do vértice.
+     *
+     * @param csr Grafo congelado por {@link Grafo#congelar()}.
+     */
+    public Kahn(GrafoCSR<V> csr) {
+        if (!csr.isDirecionado()) {
+            throw new IllegalArgumentException("Ordenação topológica só é válida para grafos direcionados.");
+        }
+        this.grafo = null;
+        this.csr = csr;
     }
 
     /**
@@ -30,6 +47,10 @@ public class Kahn<V> {
      * Retorna lista vazia se o grafo contiver ciclos.
      */
     public ListaEncadeada<V> ordenar() {
+        if (csr != null) {
+            return ordenarCSR();
+        }
+
         // Passo 1: Calcula o grau de entrada (in-degree) de todos os vértices.
         TabelaHash<V, Integer> inDegrees = new TabelaHash<>();
         HashSet<V>.MeuIteradorDeHashSet iteradorVertices = grafo.getVertices().iterator();
@@ -84,4 +105,47 @@ public class Kahn<V> {
 
         return resultado;
     }
+
+    private ListaEncadeada<V> ordenarCSR() {
+        int n = csr.getNumeroDeVertices();
+
+        // Passo 1: Grau de entrada a partir do array de destinos.
+        int[] inDegrees = new int[n];
+        for (int e = 0; e < csr.getNumeroDeArcos(); e++) {
+            inDegrees[csr.alvo(e)]++;
+        }
+
+        // Passo 2: Enfileira vértices com grau de entrada 0 (o array é usado como fila).
+        int[] fila = new int[n];
+        int cabeca = 0;
+        int cauda = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegrees[v] == 0) {
+                fila[cauda++] = v;
+            }
+        }
+
+        // Passo 3: Processa os vértices na fila.
+        while (cabeca < cauda) {
+            int u = fila[cabeca++];
+            for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                int v = csr.alvo(e);
+                if (--inDegrees[v] == 0) {
+                    fila[cauda++] = v;
+                }
+            }
+        }
+
+        // Passo 4: Verifica se o grafo contém ciclo.
+        if (cauda != n) {
+            System.out.println("Erro: O grafo contém um ciclo! Ordenação topológica não é possível.");
+            return new ListaEncadeada<>();
+        }
+
+        ListaEncadeada<V> resultado = new ListaEncadeada<>();
+        for (int i = 0; i < n; i++) {
+            resultado.add(csr.rotuloDe(fila[i]));
+        }
+        return resultado;
+    }
 }
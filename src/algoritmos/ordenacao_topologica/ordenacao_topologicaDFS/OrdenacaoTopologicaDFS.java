@@ -1,21 +1,25 @@
 package algoritmos.ordenacao_topologica.ordenacao_topologicaDFS;
 
+import algoritmos.busca.percurso.PercursoEmProfundidade;
+import algoritmos.busca.percurso.VisitanteGrafo;
 import graph_structure.Grafo;
-import util.hashSet.HashSet;
+import graph_structure.GrafoCSR;
 import util.lista.ListaEncadeada;
 
 /**
  * Ordenação Topológica usando Busca em Profundidade (DFS).
  * Também realiza a detecção de ciclos no grafo.
  *
+ * A busca é feita pelo {@link PercursoEmProfundidade}: cada vértice finalizado entra no início da
+ * ordem, e a primeira aresta de retorno indica um ciclo e interrompe o percurso. O grafo é congelado
+ * em CSR a cada ordenação, para refletir alterações feitas depois da construção.
+ *
  * @param <V> Tipo dos vértices do grafo.
  */
 public class OrdenacaoTopologicaDFS<V> {
 
     private final Grafo<V> grafo;
     private final ListaEncadeada<V> ordem;         // Armazena a ordem topológica final.
-    private final HashSet<V> visitados;            // Vértices já visitados.
-    private final HashSet<V> naPilhaRecursao;      // Vértices na pilha de chamadas (usado para detectar ciclos).
     private boolean temCiclo;
 
     public OrdenacaoTopologicaDFS(Grafo<V> grafo) {
@@ -25,8 +29,6 @@ public class OrdenacaoTopologicaDFS<V> {
         }
         this.grafo = grafo;
         this.ordem = new ListaEncadeada<>();
-        this.visitados = new HashSet<>();
-        this.naPilhaRecursao = new HashSet<>();
         this.temCiclo = false;
     }
 
@@ -37,14 +39,25 @@ public class OrdenacaoTopologicaDFS<V> {
      * Retorna lista vazia se houver ciclo no grafo.
      */
     public ListaEncadeada<V> ordenar() {
+        ordem.clear();
+        GrafoCSR<V> csr = grafo.congelar();
+
         // Garante que todos os componentes sejam analisados.
-        HashSet<V>.MeuIteradorDeHashSet iterador = grafo.getVertices().iterator();
-        while (iterador.hasNext()) {
-            V vertice = iterador.next();
-            if (!visitados.contains(vertice)) {
-                dfs(vertice);
+        boolean terminou = new PercursoEmProfundidade<>(csr).executarTodos(new VisitanteGrafo<V>() {
+            @Override
+            public Acao arestaDeRetorno(int origem, int destino, int aresta) {
+                // O destino ainda está aberto na pilha da busca: há um ciclo.
+                return Acao.PARAR;
             }
-        }
+
+            @Override
+            public Acao finalizar(int vertice, int pai) {
+                // Insere o vértice no início da ordem (garantindo o topo correto da ordenação).
+                ordem.addFirst(csr.rotuloDe(vertice));
+                return Acao.CONTINUAR;
+            }
+        });
+        temCiclo = !terminou;
 
         // Se um ciclo foi detectado, retorna lista vazia.
         if (temCiclo) {
@@ -54,42 +67,4 @@ public class OrdenacaoTopologicaDFS<V> {
 
         return ordem;
     }
-
-    /**
-     * Método recursivo da DFS.
-     * Visita os vértices e monta a ordem topológica.
-     *
-     * @param atual Vértice atualmente sendo processado.
-     */
-    private void dfs(V atual) {
-        // Se já detectamos um ciclo, interrompe a execução.
-        if (temCiclo) {
-            return;
-        }
-
-        visitados.add(atual);
-        naPilhaRecursao.add(atual);
-
-        ListaEncadeada<Grafo.Vizinho<V>>.MeuIteradorDeLista iteradorVizinhos = grafo.getVizinhos(atual).iterador();
-        while (iteradorVizinhos.temProximo()) {
-            V vizinho = iteradorVizinhos.proximo().no();
-
-            // Detecta ciclo: o vizinho está na pilha de recursão.
-            if (naPilhaRecursao.contains(vizinho)) {
-                temCiclo = true;
-                return;
-            }
-
-            // Continua a busca em vizinhos ainda não visitados.
-            if (!visitados.contains(vizinho)) {
-                dfs(vizinho);
-            }
-        }
-
-        // Remove o vértice da pilha de recursão após visitar todos os vizinhos.
-        naPilhaRecursao.remove(atual);
-
-        // Insere o vértice no início da ordem (garantindo o topo correto da ordenação).
-        ordem.addFirst(atual);
-    }
 }
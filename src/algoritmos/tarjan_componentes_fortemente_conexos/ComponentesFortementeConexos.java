@@ -0,0 +1,114 @@
+package algoritmos.tarjan_componentes_fortemente_conexos;
+
+import graph_structure.GrafoCSR;
+import util.hashSet.HashSet;
+import util.lista.ListaEncadeada;
+
+/**
+ * Partição dos vértices em componentes fortemente conexos, em formato plano sobre ids densos.
+ *
+ * - {@code componenteDe[v]}: índice do componente do vértice v, em [0, quantidade);
+ * - {@code vertices}: os ids agrupados por componente; o componente c ocupa
+ *   {@code vertices[offsets[c]]} até {@code vertices[offsets[c + 1] - 1]};
+ * - {@code offsets}: quantidade + 1 posições, com offsets[0] = 0 e offsets[quantidade] = n.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class ComponentesFortementeConexos<V> {
+
+    private final GrafoCSR<V> csr;
+    private final int[] componenteDe;
+    private final int[] vertices;
+    private final int[] offsets;
+
+    public ComponentesFortementeConexos(GrafoCSR<V> csr, int[] componenteDe, int[] vertices, int[] offsets) {
+        this.csr = csr;
+        this.componenteDe = componenteDe;
+        this.vertices = vertices;
+        this.offsets = offsets;
+    }
+
+    public int getQuantidade() {
+        return offsets.length - 1;
+    }
+
+    public int componenteDe(int v) {
+        return componenteDe[v];
+    }
+
+    /** Índice do componente do vértice. */
+    public int componenteDe(V vertice) {
+        int id = csr.idDe(vertice);
+        if (id == -1) {
+            throw new IllegalArgumentException("Vértice não encontrado no grafo: " + vertice);
+        }
+        return componenteDe[id];
+    }
+
+    public int tamanho(int componente) {
+        return offsets[componente + 1] - offsets[componente];
+    }
+
+    public boolean mesmoComponente(int u, int v) {
+        return componenteDe[u] == componenteDe[v];
+    }
+
+    /**
+     * Verifica se as duas decomposições agrupam os vértices da mesma forma, independentemente da
+     * numeração dos componentes (por exemplo, Tarjan contra {@link SccParalelo}).
+     */
+    public boolean mesmaParticao(ComponentesFortementeConexos<?> outra) {
+        if (outra.componenteDe.length != componenteDe.length || outra.getQuantidade() != getQuantidade()) {
+            return false;
+        }
+        // Como as quantidades são iguais, basta o mapeamento daqui para lá ser uma função consistente.
+        int[] correspondente = new int[getQuantidade()];
+        for (int c = 0; c < correspondente.length; c++) {
+            correspondente[c] = -1;
+        }
+        for (int v = 0; v < componenteDe.length; v++) {
+            int c = componenteDe[v];
+            if (correspondente[c] == -1) {
+                correspondente[c] = outra.componenteDe[v];
+            } else if (correspondente[c] != outra.componenteDe[v]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Array de componentes indexado por id (sem cópia). */
+    public int[] getComponenteDe() {
+        return componenteDe;
+    }
+
+    /** Ids agrupados por componente (sem cópia). */
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    /** Início de cada componente em {@link #getVertices()}, mais a posição final (sem cópia). */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Converte para o formato de {@link Tarjan#encontrarSccs()}: um conjunto de rótulos por componente,
+     * na ordem dos índices.
+     */
+    public ListaEncadeada<HashSet<V>> paraConjuntos() {
+        ListaEncadeada<HashSet<V>> componentes = new ListaEncadeada<>();
+        for (int c = 0; c < getQuantidade(); c++) {
+            HashSet<V> conjunto = new HashSet<>();
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+                conjunto.add(csr.rotuloDe(vertices[i]));
+            }
+            componentes.add(conjunto);
+        }
+        return componentes;
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
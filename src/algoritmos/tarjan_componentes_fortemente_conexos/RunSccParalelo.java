@@ -0,0 +1,110 @@
+package algoritmos.tarjan_componentes_fortemente_conexos;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class RunSccParalelo {
+    public static void main(String[] args) {
+
+        // --- Cenário 1: grafo do arquivo, comparado com o Tarjan ---
+        String arquivoTarjan = "src/algoritmos/tarjan_componentes_fortemente_conexos/grafo_tarjan.txt";
+        System.out.println("Carregando grafo de: " + arquivoTarjan);
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(arquivoTarjan);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o arquivo: " + arquivoTarjan);
+            return;
+        }
+
+        ComponentesFortementeConexos<String> paralelo = new SccParalelo<>(grafo).calcular();
+        ComponentesFortementeConexos<String> tarjan = new TarjanIterativo<>(grafo).calcular();
+        System.out.println("Componentes (paralelo): " + paralelo.getQuantidade());
+        int[] vertices = paralelo.getVertices();
+        int[] offsets = paralelo.getOffsets();
+        for (int c = 0; c < paralelo.getQuantidade(); c++) {
+            System.out.print("Componente " + c + ": { ");
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+                System.out.print(grafo.rotuloDe(vertices[i]) + " ");
+            }
+            System.out.println("}");
+        }
+        System.out.println("Mesma partição do Tarjan: " + paralelo.mesmaParticao(tarjan));
+
+        // --- Cenário 2: grafo aleatório grande com um componente gigante ---
+        int n = 1_000_000;
+        GrafoCSR<Integer> grande = gerarGrafoAleatorio(n, 3_000_000, 23);
+        System.out.println("\n--- Grafo aleatório com " + n + " vértices e " + grande.getNumeroDeArcos() + " arcos ---");
+        System.out.println("Threads no pool: " + ForkJoinPool.commonPool().getParallelism());
+
+        TarjanIterativo<Integer> sequencial = new TarjanIterativo<>(grande);
+        SccParalelo<Integer> emParalelo = new SccParalelo<>(grande);
+        sequencial.calcular();
+        emParalelo.calcular();
+
+        long inicio = System.nanoTime();
+        ComponentesFortementeConexos<Integer> referencia = sequencial.calcular();
+        double msTarjan = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        ComponentesFortementeConexos<Integer> resultado = emParalelo.calcular();
+        double msParalelo = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        int maior = 0;
+        for (int c = 0; c < resultado.getQuantidade(); c++) {
+            maior = Math.max(maior, resultado.tamanho(c));
+        }
+        System.out.printf("Tarjan iterativo: %.1f ms%n", msTarjan);
+        System.out.printf("SCC paralelo:     %.1f ms%n", msParalelo);
+        System.out.println("Componentes: " + resultado.getQuantidade() + " | maior componente: " + maior
+                + " | mesma partição: " + resultado.mesmaParticao(referencia));
+
+        // --- Cenário 3: muitos componentes pequenos (200 mil ciclos de 2 vértices, sem ligação entre si) ---
+        int ciclos = 200_000;
+        GrafoCSR<Integer> pequenos = gerarCiclosDeDois(ciclos);
+        System.out.println("\n--- " + ciclos + " ciclos disjuntos de 2 vértices ---");
+        inicio = System.nanoTime();
+        ComponentesFortementeConexos<Integer> resultadoPequenos = new SccParalelo<>(pequenos).calcular();
+        msParalelo = (System.nanoTime() - inicio) / 1_000_000.0;
+        System.out.printf("SCC paralelo: %.1f ms%n", msParalelo);
+        System.out.println("Componentes: " + resultadoPequenos.getQuantidade() + " | mesma partição: "
+                + resultadoPequenos.mesmaParticao(new TarjanIterativo<>(pequenos).calcular()));
+    }
+
+    private static GrafoCSR<Integer> gerarCiclosDeDois(int ciclos) {
+        int n = 2 * ciclos;
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[n];
+        int[] destinos = new int[n];
+        double[] pesos = new double[n];
+        for (int v = 0; v < n; v++) {
+            origens[v] = v;
+            destinos[v] = v ^ 1;
+            pesos[v] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, n, true);
+    }
+
+    private static GrafoCSR<Integer> gerarGrafoAleatorio(int n, int m, long semente) {
+        Random aleatorio = new Random(semente);
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        for (int i = 0; i < m; i++) {
+            origens[i] = aleatorio.nextInt(n);
+            destinos[i] = aleatorio.nextInt(n);
+            pesos[i] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, m, true);
+    }
+}
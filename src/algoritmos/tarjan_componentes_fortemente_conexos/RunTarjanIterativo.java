@@ -0,0 +1,74 @@
+package algoritmos.tarjan_componentes_fortemente_conexos;
+
+import graph_structure.DicionarioDeVertices;
+import graph_structure.GrafoCSR;
+import util.leitoDeArquivo.LeitorDeGrafo;
+
+public class RunTarjanIterativo {
+    public static void main(String[] args) {
+
+        // --- Cenário 1: grafo do arquivo, no formato plano ---
+        String arquivoTarjan = "src/algoritmos/tarjan_componentes_fortemente_conexos/grafo_tarjan.txt";
+        System.out.println("Carregando grafo de: " + arquivoTarjan);
+        GrafoCSR<String> grafo = LeitorDeGrafo.carregarGrafoCSR(arquivoTarjan);
+
+        if (grafo == null) {
+            System.out.println("Falha ao carregar o arquivo: " + arquivoTarjan);
+            return;
+        }
+
+        ComponentesFortementeConexos<String> sccs = new TarjanIterativo<>(grafo).calcular();
+        System.out.println("Número de Componentes Fortemente Conexos encontrados: " + sccs.getQuantidade());
+        int[] vertices = sccs.getVertices();
+        int[] offsets = sccs.getOffsets();
+        for (int c = 0; c < sccs.getQuantidade(); c++) {
+            System.out.print("Componente " + c + ": { ");
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+                System.out.print(grafo.rotuloDe(vertices[i]) + " ");
+            }
+            System.out.println("}");
+        }
+
+        // --- Cenário 2: cadeia longa, que estouraria a pilha de chamadas na versão recursiva ---
+        int n = 2_000_000;
+        GrafoCSR<Integer> cadeia = gerarCadeiaComRetornos(n);
+        long inicio = System.nanoTime();
+        ComponentesFortementeConexos<Integer> resultado = new TarjanIterativo<>(cadeia).calcular();
+        double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        int maior = 0;
+        for (int c = 0; c < resultado.getQuantidade(); c++) {
+            maior = Math.max(maior, resultado.tamanho(c));
+        }
+        System.out.printf("%nCadeia com %d vértices e %d arcos: %.1f ms%n", n, cadeia.getNumeroDeArcos(), ms);
+        System.out.println("Componentes: " + resultado.getQuantidade() + " | maior componente: " + maior);
+    }
+
+    /**
+     * Cadeia 0 → 1 → ... → n-1 em que cada bloco de 1000 vértices tem um arco de volta do último para o
+     * primeiro, formando n / 1000 componentes de 1000 vértices encadeados. A DFS chega a n de profundidade.
+     */
+    private static GrafoCSR<Integer> gerarCadeiaComRetornos(int n) {
+        DicionarioDeVertices<Integer> dicionario = new DicionarioDeVertices<>();
+        for (int v = 0; v < n; v++) {
+            dicionario.internar(v);
+        }
+        int bloco = 1000;
+        int m = (n - 1) + n / bloco;
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        int k = 0;
+        for (int v = 0; v + 1 < n; v++) {
+            origens[k] = v;
+            destinos[k] = v + 1;
+            pesos[k++] = 1.0;
+        }
+        for (int b = 0; b + bloco <= n; b += bloco) {
+            origens[k] = b + bloco - 1;
+            destinos[k] = b;
+            pesos[k++] = 1.0;
+        }
+        return GrafoCSR.deArestas(dicionario, origens, destinos, pesos, k, true);
+    }
+}
@@ -0,0 +1,539 @@
+package algoritmos.tarjan_componentes_fortemente_conexos;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.lista.ListaEncadeada;
+import util.paralelo.LacoParalelo;
+import util.primitivos.ListaDeInteiros;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Decomposição paralela em componentes fortemente conexos (forward-backward com poda).
+ *
+ * 1. Poda: vértices com grau de entrada ou de saída zero (contando só os vértices restantes da
+ *    partição) são componentes unitários. A poda é repetida em rodadas paralelas até não sobrar nenhum.
+ * 2. Forward-backward: em uma partição, escolhe-se um pivô (o de maior grau de entrada × saída, que
+ *    costuma estar no componente gigante) e calcula-se em paralelo o conjunto F que ele alcança e o
+ *    conjunto B que o alcança. F ∩ B é o componente do pivô.
+ * 3. Subpartições: nenhum componente atravessa F \ B, B \ F e o resto. A maior das três continua no
+ *    laço da mesma tarefa, com nova poda, e as menores viram tarefas do {@link ForkJoinPool}; como
+ *    cada tarefa nova tem no máximo metade da partição, o aninhamento é logarítmico.
+ *
+ * Partições pequenas são resolvidas por um Tarjan iterativo restrito à partição. O Tarjan também
+ * assume quando uma rodada reduz a partição em menos de 1/{@link #PROGRESSO_MINIMO} (por exemplo,
+ * muitos componentes pequenos e desconexos, em que cada pivô só retira o próprio componente).
+ *
+ * Cada partição é identificada por uma cor; a busca só entra em vértices da cor da partição, e um
+ * vértice muda de cor por compare-and-set, então buscas concorrentes nunca o disputam.
+ *
+ * O resultado usa o mesmo formato do {@link TarjanIterativo}, mas a numeração dos componentes não
+ * segue a ordem topológica; para comparar, use {@link ComponentesFortementeConexos#mesmaParticao}.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class SccParalelo<V> {
+
+    /** Partições com até esta quantidade de vértices são resolvidas pelo Tarjan, sem novas tarefas. */
+    private static final int LIMIAR_SEQUENCIAL = 4096;
+
+    /**
+     * Uma rodada de poda e forward-backward precisa reduzir a partição em pelo menos 1/PROGRESSO_MINIMO;
+     * caso contrário, o restante vai para o Tarjan.
+     */
+    private static final int PROGRESSO_MINIMO = 16;
+
+    /** Vértices da fronteira por tarefa nas buscas e na poda. */
+    private static final int TAMANHO_DO_BLOCO = 1024;
+
+    /** Cor dos vértices que já têm componente. */
+    private static final int RESOLVIDO = -1;
+
+    /** Cor inexistente, para quando a busca aceita uma só cor. */
+    private static final int NENHUMA = -2;
+
+    private final GrafoCSR<V> csr;
+    private final GrafoCSR<V> entrada;
+    private final ForkJoinPool pool;
+
+    public SccParalelo(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public SccParalelo(GrafoCSR<V> csr) {
+        this(csr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csr  Grafo direcionado.
+     * @param pool Pool em que as partições e as buscas são executadas.
+     */
+    public SccParalelo(GrafoCSR<V> csr, ForkJoinPool pool) {
+        if (!csr.isDirecionado()) {
+            throw new IllegalArgumentException("Componentes fortemente conexos só se aplicam a grafos direcionados.");
+        }
+        this.csr = csr;
+        this.entrada = csr.transposto();
+        this.pool = pool;
+    }
+
+    /**
+     * Encontra os componentes fortemente conexos.
+     */
+    public ComponentesFortementeConexos<V> calcular() {
+        Execucao execucao = new Execucao();
+        int[] todos = new int[execucao.n];
+        for (int v = 0; v < todos.length; v++) {
+            todos[v] = v;
+        }
+        if (todos.length > 0) {
+            pool.invoke(new Particao(execucao, todos, 0));
+        }
+        return execucao.montarResultado();
+    }
+
+    /** Estado de uma chamada a {@link #calcular()}. */
+    private final class Execucao {
+        final int n = csr.getNumeroDeVertices();
+        final AtomicIntegerArray cor = new AtomicIntegerArray(n);  // Todos começam na partição 0.
+        final int[] componenteDe = new int[n];
+        final AtomicInteger proximaCor = new AtomicInteger(1);
+        final AtomicInteger proximoComponente = new AtomicInteger();
+
+        // Usados pelo Tarjan restrito. Partições são disjuntas, então cada posição só é tocada por uma tarefa.
+        final int[] indice = new int[n];
+        final int[] low = new int[n];
+        final boolean[] naPilha = new boolean[n];
+
+        // Graus restritos à partição, usados pela poda. Cada posição só é tocada pela tarefa dona do vértice.
+        final AtomicIntegerArray grauDeEntrada = new AtomicIntegerArray(n);
+        final AtomicIntegerArray grauDeSaida = new AtomicIntegerArray(n);
+
+        /**
+         * Remove em rodadas os vértices da partição sem arestas de entrada ou de saída entre os
+         * restantes da partição, cada um como componente unitário.
+         *
+         * @return Os vértices que sobraram, ainda com a cor da partição.
+         */
+        int[] podar(int[] vertices, int corDaParticao) {
+            // Os graus são calculados antes de qualquer vértice sair, para que todos vejam as mesmas cores.
+            int[] atual = expandir(vertices, new Graus(this, vertices, corDaParticao));
+            while (atual.length > 0) {
+                int primeiro = proximoComponente.getAndAdd(atual.length);
+                for (int i = 0; i < atual.length; i++) {
+                    cor.set(atual[i], RESOLVIDO);
+                    componenteDe[atual[i]] = primeiro + i;
+                }
+                atual = expandir(atual, new Poda(this, atual, corDaParticao));
+            }
+
+            ListaDeInteiros restantes = new ListaDeInteiros(vertices.length);
+            for (int v : vertices) {
+                if (cor.get(v) == corDaParticao) {
+                    restantes.add(v);
+                }
+            }
+            return restantes.toArray();
+        }
+
+        /** Grava o mesmo componente novo em todos os vértices dados. */
+        void registrar(int[] vertices, int quantidade) {
+            int componente = proximoComponente.getAndIncrement();
+            for (int i = 0; i < quantidade; i++) {
+                componenteDe[vertices[i]] = componente;
+            }
+        }
+
+        ComponentesFortementeConexos<V> montarResultado() {
+            int quantidade = proximoComponente.get();
+            int[] offsets = new int[quantidade + 1];
+            for (int v = 0; v < n; v++) {
+                offsets[componenteDe[v] + 1]++;
+            }
+            for (int c = 0; c < quantidade; c++) {
+                offsets[c + 1] += offsets[c];
+            }
+            int[] posicao = new int[quantidade];
+            for (int c = 0; c < quantidade; c++) {
+                posicao[c] = offsets[c];
+            }
+            int[] vertices = new int[n];
+            for (int v = 0; v < n; v++) {
+                vertices[posicao[componenteDe[v]]++] = v;
+            }
+            return new ComponentesFortementeConexos<>(csr, componenteDe, vertices, offsets);
+        }
+    }
+
+    /**
+     * Resolve uma partição em um laço: poda, um passo forward-backward, e segue com a maior
+     * subpartição; as menores são bifurcadas como novas tarefas. Um só vértice vira componente, e
+     * partições pequenas (ou que quase não encolheram na rodada) vão para o Tarjan.
+     */
+    private final class Particao extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Execucao execucao;
+        private final int[] vertices;
+        private final int corDaParticao;
+
+        Particao(Execucao execucao, int[] vertices, int corDaParticao) {
+            this.execucao = execucao;
+            this.vertices = vertices;
+            this.corDaParticao = corDaParticao;
+        }
+
+        @Override
+        protected void compute() {
+            ListaEncadeada<Particao> bifurcadas = new ListaEncadeada<>();
+            int[] atual = vertices;
+            int corAtual = corDaParticao;
+            while (atual.length > 0) {
+                if (atual.length == 1) {
+                    execucao.cor.set(atual[0], RESOLVIDO);
+                    execucao.registrar(atual, 1);
+                    break;
+                }
+                if (atual.length <= LIMIAR_SEQUENCIAL) {
+                    tarjanRestrito(execucao, atual, corAtual);
+                    break;
+                }
+
+                int tamanhoDaRodada = atual.length;
+                atual = execucao.podar(atual, corAtual);
+                if (atual.length <= LIMIAR_SEQUENCIAL) {
+                    continue;
+                }
+
+                int corF = execucao.proximaCor.getAndIncrement();
+                int corB = execucao.proximaCor.getAndIncrement();
+                ListaDeInteiros[] partes = separarComponenteDoPivo(atual, corAtual, corF, corB);
+                int[] cores = {corF, corB, corAtual};
+
+                int maior = 0;
+                for (int i = 1; i < 3; i++) {
+                    if (partes[i].size() > partes[maior].size()) {
+                        maior = i;
+                    }
+                }
+                for (int i = 0; i < 3; i++) {
+                    if (i != maior && !partes[i].isEmpty()) {
+                        Particao tarefa = new Particao(execucao, partes[i].toArray(), cores[i]);
+                        tarefa.fork();
+                        bifurcadas.add(tarefa);
+                    }
+                }
+
+                int[] proxima = partes[maior].toArray();
+                if (proxima.length > tamanhoDaRodada - tamanhoDaRodada / PROGRESSO_MINIMO) {
+                    // Rodada quase sem efeito: o Tarjan resolve o restante em tempo linear.
+                    tarjanRestrito(execucao, proxima, cores[maior]);
+                    break;
+                }
+                atual = proxima;
+                corAtual = cores[maior];
+            }
+
+            ListaEncadeada<Particao>.MeuIteradorDeLista iterador = bifurcadas.iterador();
+            while (iterador.temProximo()) {
+                iterador.proximo().join();
+            }
+        }
+
+        /**
+         * Passo forward-backward: registra o componente do pivô e devolve F \ B (com corF),
+         * B \ F (com corB) e o resto (ainda com a cor da partição).
+         */
+        private ListaDeInteiros[] separarComponenteDoPivo(int[] atual, int corAtual, int corF, int corB) {
+            int pivo = atual[0];
+            long melhor = -1;
+            for (int v : atual) {
+                long produto = (long) execucao.grauDeSaida.get(v) * execucao.grauDeEntrada.get(v);
+                if (produto > melhor) {
+                    melhor = produto;
+                    pivo = v;
+                }
+            }
+
+            AtomicIntegerArray cor = execucao.cor;
+            int corScc = execucao.proximaCor.getAndIncrement();
+
+            // Para frente: partição → F. Para trás, pelo transposto: partição → B e F → F ∩ B.
+            cor.set(pivo, corF);
+            alcancar(execucao, csr, pivo, corAtual, corF, NENHUMA, NENHUMA);
+            cor.set(pivo, corScc);
+            alcancar(execucao, entrada, pivo, corAtual, corB, corF, corScc);
+
+            ListaDeInteiros scc = new ListaDeInteiros();
+            ListaDeInteiros soFrente = new ListaDeInteiros();
+            ListaDeInteiros soTras = new ListaDeInteiros();
+            ListaDeInteiros resto = new ListaDeInteiros();
+            for (int v : atual) {
+                int c = cor.get(v);
+                if (c == corScc) {
+                    scc.add(v);
+                    cor.set(v, RESOLVIDO);
+                } else if (c == corF) {
+                    soFrente.add(v);
+                } else if (c == corB) {
+                    soTras.add(v);
+                } else {
+                    resto.add(v);
+                }
+            }
+            execucao.registrar(scc.toArray(), scc.size());
+            return new ListaDeInteiros[]{soFrente, soTras, resto};
+        }
+    }
+
+    /**
+     * Busca síncrona por nível a partir da origem (que já deve ter a cor nova). Um vértice com corA
+     * passa para novaA, e um com corB passa para novaB; os demais não são visitados.
+     */
+    private void alcancar(Execucao execucao, GrafoCSR<V> grafo, int origem, int corA, int novaA,
+                          int corB, int novaB) {
+        int[] fronteira = {origem};
+        while (fronteira.length > 0) {
+            fronteira = expandir(fronteira, new Busca(execucao.cor, grafo, fronteira, corA, novaA, corB, novaB));
+        }
+    }
+
+    /**
+     * Expande uma fronteira: em blocos paralelos se for grande, na própria thread se for pequena.
+     * Os buffers de cada bloco são concatenados na próxima fronteira.
+     */
+    private int[] expandir(int[] fronteira, Expansao expansao) {
+        ListaDeInteiros[] buffers = new ListaDeInteiros[LacoParalelo.numeroDeBlocos(fronteira.length, TAMANHO_DO_BLOCO)];
+        LacoParalelo.paraCadaBloco(pool, fronteira.length, TAMANHO_DO_BLOCO,
+                (bloco, inicio, fim) -> buffers[bloco] = expansao.expandirBloco(inicio, fim));
+        int total = 0;
+        for (ListaDeInteiros buffer : buffers) {
+            total += buffer.size();
+        }
+        int[] proxima = new int[total];
+        int posicao = 0;
+        for (ListaDeInteiros buffer : buffers) {
+            for (int i = 0; i < buffer.size(); i++) {
+                proxima[posicao++] = buffer.get(i);
+            }
+        }
+        return proxima;
+    }
+
+    /**
+     * Tarjan iterativo restrito aos vértices da partição (os de cor {@code corDaParticao}),
+     * como no {@link TarjanIterativo}, mas com arrays de pilha do tamanho da partição.
+     */
+    private void tarjanRestrito(Execucao execucao, int[] vertices, int corDaParticao) {
+        AtomicIntegerArray cor = execucao.cor;
+        int[] indice = execucao.indice;
+        int[] low = execucao.low;
+        boolean[] naPilha = execucao.naPilha;
+        for (int v : vertices) {
+            indice[v] = -1;
+        }
+
+        int tamanho = vertices.length;
+        int[] pilhaTarjan = new int[tamanho];
+        int[] pilhaBusca = new int[tamanho];
+        int[] cursor = new int[tamanho];
+        int[] componente = new int[tamanho];
+        int topoTarjan = 0;
+        int topoBusca = 0;
+        int contador = 0;
+
+        for (int raiz : vertices) {
+            if (indice[raiz] != -1) continue;
+
+            indice[raiz] = contador;
+            low[raiz] = contador;
+            contador++;
+            pilhaTarjan[topoTarjan++] = raiz;
+            naPilha[raiz] = true;
+            pilhaBusca[topoBusca] = raiz;
+            cursor[topoBusca] = csr.inicio(raiz);
+            topoBusca++;
+
+            while (topoBusca > 0) {
+                int u = pilhaBusca[topoBusca - 1];
+                int e = cursor[topoBusca - 1];
+
+                if (e < csr.fim(u)) {
+                    cursor[topoBusca - 1] = e + 1;
+                    int v = csr.alvo(e);
+                    if (cor.get(v) != corDaParticao) continue;
+                    if (indice[v] == -1) {
+                        indice[v] = contador;
+                        low[v] = contador;
+                        contador++;
+                        pilhaTarjan[topoTarjan++] = v;
+                        naPilha[v] = true;
+                        pilhaBusca[topoBusca] = v;
+                        cursor[topoBusca] = csr.inicio(v);
+                        topoBusca++;
+                    } else if (naPilha[v] && indice[v] < low[u]) {
+                        low[u] = indice[v];
+                    }
+                    continue;
+                }
+
+                topoBusca--;
+                if (topoBusca > 0) {
+                    int pai = pilhaBusca[topoBusca - 1];
+                    if (low[u] < low[pai]) {
+                        low[pai] = low[u];
+                    }
+                }
+
+                if (low[u] == indice[u]) {
+                    int quantidade = 0;
+                    int w;
+                    do {
+                        w = pilhaTarjan[--topoTarjan];
+                        naPilha[w] = false;
+                        componente[quantidade++] = w;
+                    } while (w != u);
+                    execucao.registrar(componente, quantidade);
+                }
+            }
+        }
+        // Só agora os vértices saem da partição: durante a busca, a cor é o que a delimita.
+        for (int v : vertices) {
+            cor.set(v, RESOLVIDO);
+        }
+    }
+
+    /** Expansão de uma faixa da fronteira, que devolve os vértices reivindicados por ela. */
+    private interface Expansao {
+        ListaDeInteiros expandirBloco(int inicio, int fim);
+    }
+
+    /** Um passo da busca forward ou backward. */
+    private static final class Busca implements Expansao {
+        private final AtomicIntegerArray cor;
+        private final GrafoCSR<?> grafo;
+        private final int[] fronteira;
+        private final int corA;
+        private final int novaA;
+        private final int corB;
+        private final int novaB;
+
+        Busca(AtomicIntegerArray cor, GrafoCSR<?> grafo, int[] fronteira, int corA, int novaA, int corB, int novaB) {
+            this.cor = cor;
+            this.grafo = grafo;
+            this.fronteira = fronteira;
+            this.corA = corA;
+            this.novaA = novaA;
+            this.corB = corB;
+            this.novaB = novaB;
+        }
+
+        @Override
+        public ListaDeInteiros expandirBloco(int inicio, int fim) {
+            ListaDeInteiros descobertos = new ListaDeInteiros();
+            for (int i = inicio; i < fim; i++) {
+                int u = fronteira[i];
+                for (int e = grafo.inicio(u); e < grafo.fim(u); e++) {
+                    int v = grafo.alvo(e);
+                    int c = cor.get(v);
+                    if ((c == corA && cor.compareAndSet(v, corA, novaA))
+                            || (c == corB && corB != NENHUMA && cor.compareAndSet(v, corB, novaB))) {
+                        descobertos.add(v);
+                    }
+                }
+            }
+            return descobertos;
+        }
+    }
+
+    /**
+     * Calcula os graus de entrada e de saída de cada vértice da partição, contando só os vizinhos da
+     * mesma cor, e devolve os que têm algum grau zero. Não muda cores, então os blocos não interferem.
+     */
+    private final class Graus implements Expansao {
+        private final Execucao execucao;
+        private final int[] vertices;
+        private final int corDaParticao;
+
+        Graus(Execucao execucao, int[] vertices, int corDaParticao) {
+            this.execucao = execucao;
+            this.vertices = vertices;
+            this.corDaParticao = corDaParticao;
+        }
+
+        @Override
+        public ListaDeInteiros expandirBloco(int inicio, int fim) {
+            AtomicIntegerArray cor = execucao.cor;
+            ListaDeInteiros semGrau = new ListaDeInteiros();
+            // Se a partição é o grafo inteiro, todo vizinho está nela e os graus são os do CSR.
+            boolean grafoInteiro = vertices.length == execucao.n;
+            for (int i = inicio; i < fim; i++) {
+                int u = vertices[i];
+                int saida = grafoInteiro ? csr.grau(u) : 0;
+                int chegada = grafoInteiro ? entrada.grau(u) : 0;
+                for (int e = csr.inicio(u); !grafoInteiro && e < csr.fim(u); e++) {
+                    if (cor.get(csr.alvo(e)) == corDaParticao) saida++;
+                }
+                for (int e = entrada.inicio(u); !grafoInteiro && e < entrada.fim(u); e++) {
+                    if (cor.get(entrada.alvo(e)) == corDaParticao) chegada++;
+                }
+                execucao.grauDeSaida.set(u, saida);
+                execucao.grauDeEntrada.set(u, chegada);
+                if (saida == 0 || chegada == 0) {
+                    semGrau.add(u);
+                }
+            }
+            return semGrau;
+        }
+    }
+
+    /**
+     * Uma rodada da poda: cada vértice removido decrementa o grau de entrada dos sucessores e o de
+     * saída dos predecessores que ainda estão na partição; quem chega a zero é reivindicado para a
+     * próxima rodada.
+     */
+    private final class Poda implements Expansao {
+        private final Execucao execucao;
+        private final int[] fronteira;
+        private final int corDaParticao;
+
+        Poda(Execucao execucao, int[] fronteira, int corDaParticao) {
+            this.execucao = execucao;
+            this.fronteira = fronteira;
+            this.corDaParticao = corDaParticao;
+        }
+
+        @Override
+        public ListaDeInteiros expandirBloco(int inicio, int fim) {
+            AtomicIntegerArray cor = execucao.cor;
+            AtomicIntegerArray grauDeEntrada = execucao.grauDeEntrada;
+            AtomicIntegerArray grauDeSaida = execucao.grauDeSaida;
+            ListaDeInteiros removidos = new ListaDeInteiros();
+            for (int i = inicio; i < fim; i++) {
+                int u = fronteira[i];
+                for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+                    int v = csr.alvo(e);
+                    if (cor.get(v) == corDaParticao && grauDeEntrada.decrementAndGet(v) == 0
+                            && cor.compareAndSet(v, corDaParticao, RESOLVIDO)) {
+                        removidos.add(v);
+                    }
+                }
+                for (int e = entrada.inicio(u); e < entrada.fim(u); e++) {
+                    int v = entrada.alvo(e);
+                    if (cor.get(v) == corDaParticao && grauDeSaida.decrementAndGet(v) == 0
+                            && cor.compareAndSet(v, corDaParticao, RESOLVIDO)) {
+                        removidos.add(v);
+                    }
+                }
+            }
+            return removidos;
+        }
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
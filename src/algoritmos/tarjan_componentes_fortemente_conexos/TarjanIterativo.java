@@ -0,0 +1,127 @@
+package algoritmos.tarjan_componentes_fortemente_conexos;
+
+import graph_structure.Grafo;
+import graph_structure.GrafoCSR;
+import util.primitivos.ConjuntoDeBits;
+import util.primitivos.ListaDeInteiros;
+
+/**
+ * Algoritmo de Tarjan sem recursão, sobre ids densos.
+ *
+ * A recursão da DFS é substituída por uma pilha explícita em que cada entrada guarda o vértice e a
+ * próxima aresta a percorrer; ao desempilhar um vértice, o low-link dele é propagado para o pai,
+ * que é o novo topo. Assim, cadeias com milhões de vértices não estouram a pilha de chamadas.
+ *
+ * Índices de descoberta e low-links ficam em {@code int[]}, e a presença na pilha de Tarjan em um
+ * {@link ConjuntoDeBits}. Os componentes são numerados na ordem em que são fechados, que é a ordem
+ * topológica inversa do grafo de componentes (um componente só é fechado depois dos que ele alcança).
+ *
+ * A instância não guarda estado entre execuções, então pode ser compartilhada entre threads.
+ *
+ * @param <V> Tipo dos vértices do grafo.
+ */
+public class TarjanIterativo<V> {
+
+    private final GrafoCSR<V> csr;
+
+    public TarjanIterativo(Grafo<V> grafo) {
+        this(grafo.congelar());
+    }
+
+    public TarjanIterativo(GrafoCSR<V> csr) {
+        if (!csr.isDirecionado()) {
+            throw new IllegalArgumentException("O algoritmo de Tarjan só funciona em grafos direcionados.");
+        }
+        this.csr = csr;
+    }
+
+    /**
+     * Encontra os componentes fortemente conexos.
+     */
+    public ComponentesFortementeConexos<V> calcular() {
+        int n = csr.getNumeroDeVertices();
+        int[] indice = new int[n];
+        int[] low = new int[n];
+        for (int v = 0; v < n; v++) {
+            indice[v] = -1;
+        }
+        ConjuntoDeBits naPilha = new ConjuntoDeBits(n);
+        int[] pilhaTarjan = new int[n];
+        int topoTarjan = 0;
+        // Pilha da DFS: vértice e próxima aresta de cada chamada "aberta".
+        int[] pilhaBusca = new int[n];
+        int[] cursor = new int[n];
+        int topoBusca = 0;
+
+        int[] componenteDe = new int[n];
+        int[] vertices = new int[n];
+        ListaDeInteiros offsets = new ListaDeInteiros();
+        offsets.add(0);
+        int fechados = 0;
+        int contador = 0;
+
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (indice[raiz] != -1) continue;
+
+            indice[raiz] = contador;
+            low[raiz] = contador;
+            contador++;
+            pilhaTarjan[topoTarjan++] = raiz;
+            naPilha.add(raiz);
+            pilhaBusca[topoBusca] = raiz;
+            cursor[topoBusca] = csr.inicio(raiz);
+            topoBusca++;
+
+            while (topoBusca > 0) {
+                int u = pilhaBusca[topoBusca - 1];
+                int e = cursor[topoBusca - 1];
+
+                if (e < csr.fim(u)) {
+                    cursor[topoBusca - 1] = e + 1;
+                    int v = csr.alvo(e);
+                    if (indice[v] == -1) {
+                        // Equivale à chamada recursiva para v.
+                        indice[v] = contador;
+                        low[v] = contador;
+                        contador++;
+                        pilhaTarjan[topoTarjan++] = v;
+                        naPilha.add(v);
+                        pilhaBusca[topoBusca] = v;
+                        cursor[topoBusca] = csr.inicio(v);
+                        topoBusca++;
+                    } else if (naPilha.contains(v) && indice[v] < low[u]) {
+                        low[u] = indice[v];
+                    }
+                    continue;
+                }
+
+                // Todas as arestas de u foram vistas: equivale ao retorno da chamada.
+                topoBusca--;
+                if (topoBusca > 0) {
+                    int pai = pilhaBusca[topoBusca - 1];
+                    if (low[u] < low[pai]) {
+                        low[pai] = low[u];
+                    }
+                }
+
+                if (low[u] == indice[u]) {
+                    int componente = offsets.size() - 1;
+                    int w;
+                    do {
+                        w = pilhaTarjan[--topoTarjan];
+                        naPilha.remove(w);
+                        componenteDe[w] = componente;
+                        vertices[fechados++] = w;
+                    } while (w != u);
+                    offsets.add(fechados);
+                }
+            }
+        }
+
+        return new ComponentesFortementeConexos<>(csr, componenteDe, vertices, offsets.toArray());
+    }
+
+    public GrafoCSR<V> getGrafo() {
+        return csr;
+    }
+}
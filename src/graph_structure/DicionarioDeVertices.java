@@ -0,0 +1,83 @@
+package graph_structure;
+
+import util.tabelaHash.TabelaHash;
+
+/**
+ * Dicionário que associa cada rótulo de vértice a um id inteiro denso e estável (0, 1, 2, ...).
+ * Os ids são atribuídos na ordem em que os rótulos são internados e nunca mudam,
+ * o que permite que os algoritmos trabalhem apenas com inteiros e só convertam
+ * de volta para rótulos na hora de exibir o resultado.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public class DicionarioDeVertices<V> {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private final TabelaHash<V, Integer> ids;   // rótulo -> id
+    private Object[] rotulos;                   // id -> rótulo
+    private int tamanho;
+
+    public DicionarioDeVertices() {
+        this.ids = new TabelaHash<>();
+        this.rotulos = new Object[CAPACIDADE_INICIAL];
+        this.tamanho = 0;
+    }
+
+    /**
+     * Retorna o id do rótulo, atribuindo um novo id caso ele ainda não exista.
+     *
+     * @param rotulo Rótulo do vértice.
+     * @return O id denso do vértice.
+     */
+    public int internar(V rotulo) {
+        Integer id = ids.get(rotulo);
+        if (id != null) {
+            return id;
+        }
+
+        if (tamanho == rotulos.length) {
+            Object[] novo = new Object[rotulos.length * 2];
+            System.arraycopy(rotulos, 0, novo, 0, tamanho);
+            rotulos = novo;
+        }
+        rotulos[tamanho] = rotulo;
+        ids.put(rotulo, tamanho);
+        return tamanho++;
+    }
+
+    /**
+     * Retorna o id de um rótulo já internado.
+     *
+     * @param rotulo Rótulo do vértice.
+     * @return O id do vértice, ou -1 se o rótulo não foi internado.
+     */
+    public int idDe(V rotulo) {
+        Integer id = ids.get(rotulo);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Retorna o rótulo associado a um id.
+     *
+     * @param id Id denso do vértice.
+     * @return O rótulo original.
+     * @throws IndexOutOfBoundsException se o id não existir.
+     */
+    @SuppressWarnings("unchecked")
+    public V rotuloDe(int id) {
+        if (id < 0 || id >= tamanho) {
+            throw new IndexOutOfBoundsException("Id de vértice inválido: " + id);
+        }
+        return (V) rotulos[id];
+    }
+
+    public boolean contem(V rotulo) {
+        return ids.get(rotulo) != null;
+    }
+
+    /** Número de rótulos internados (ids válidos vão de 0 a tamanho() - 1). */
+    public int tamanho() {
+        return tamanho;
+    }
+}
@@ -84,14 +84,54 @@ public class Grafo<V> {
         return this.direcionado;
     }
 
+    /**
+     * Gera uma cópia imutável do grafo no formato CSR (Compressed Sparse Row).
+     * Os vértices recebem ids densos na ordem de iteração de {@link #getVertices()} e as
+     * arestas de cada vértice mantêm a mesma ordem das listas de adjacência.
+     * Alterações posteriores neste grafo não são refletidas na cópia.
+     *
+     * @return A visão CSR do grafo.
+     */
+    public GrafoCSR<V> congelar() {
+        int n = vertices.size();
+        DicionarioDeVertices<V> dicionario = new DicionarioDeVertices<>();
+
+        // Passo 1: Atribui um id denso a cada vértice.
+        HashSet<V>.MeuIteradorDeHashSet iteradorVertices = vertices.iterator();
+        while (iteradorVertices.hasNext()) {
+            dicionario.internar(iteradorVertices.next());
+        }
+
+        // Passo 2: Calcula os offsets a partir do grau de saída de cada vértice.
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + adjacencias.get(dicionario.rotuloDe(u)).size();
+        }
+
+        // Passo 3: Copia destinos e pesos para os arrays contíguos.
+        int[] alvos = new int[offsets[n]];
+        double[] pesos = new double[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            int posicao = offsets[u];
+            ListaEncadeada<Vizinho<V>>.MeuIteradorDeLista iteradorVizinhos = adjacencias.get(dicionario.rotuloDe(u)).iterador();
+            while (iteradorVizinhos.temProximo()) {
+                Vizinho<V> vizinho = iteradorVizinhos.proximo();
+                alvos[posicao] = dicionario.idDe(vizinho.no());
+                pesos[posicao] = vizinho.peso();
+                posicao++;
+            }
+        }
+
+        return new GrafoCSR<>(dicionario, offsets, alvos, pesos, direcionado);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Grafo (Direcionado: ").append(direcionado).append(")\n");
         sb.append("Vértices: ").append(getNumeroDeVertices()).append(", Arestas: ").append(getNumeroDeArestas()).append("\n");
 
-        ListaEncadeada<V> todasAsChaves = adjacencias.keySet();
-        ListaEncadeada<V>.MeuIteradorDeLista iteradorVertices = todasAsChaves.iterador();
+        TabelaHash<V, ListaEncadeada<Vizinho<V>>>.IteradorDeChaves iteradorVertices = adjacencias.keySet().iterador();
 
         while (iteradorVertices.temProximo()) {
             V vertice = iteradorVertices.proximo();
@@ -0,0 +1,283 @@
+package graph_structure;
+
+/**
+ * Representação imutável de um {@link Grafo} no formato CSR (Compressed Sparse Row).
+ * Os vértices são mapeados para ids inteiros densos (0 .. n-1) e as adjacências ficam
+ * armazenadas em três arrays contíguos:
+ * - offsets[u] .. offsets[u + 1] delimita as posições das arestas de saída de u;
+ * - alvos[e] guarda o id do vértice de destino da aresta e;
+ * - pesos[e] guarda o peso da aresta e.
+ *
+ * A iteração sobre os vizinhos não aloca nenhum objeto:
+ * <pre>
+ * for (int e = csr.inicio(u); e < csr.fim(u); e++) {
+ *     int v = csr.alvo(e);
+ *     double peso = csr.peso(e);
+ * }
+ * </pre>
+ *
+ * Instâncias são obtidas por {@link Grafo#congelar()} ou montadas diretamente a partir
+ * de arrays de arestas com {@link #deArestas}, sem passar por um {@link Grafo}.
+ *
+ * @param <V> Tipo dos rótulos dos vértices.
+ */
+public final class GrafoCSR<V> {
+
+    private final DicionarioDeVertices<V> dicionario; // rótulo <-> id denso.
+    private final int[] offsets;                // Tamanho n + 1.
+    private final int[] alvos;                  // Destino de cada aresta.
+    private final double[] pesos;               // Peso de cada aresta.
+    private final boolean direcionado;
+
+    GrafoCSR(DicionarioDeVertices<V> dicionario, int[] offsets, int[] alvos, double[] pesos, boolean direcionado) {
+        this.dicionario = dicionario;
+        this.offsets = offsets;
+        this.alvos = alvos;
+        this.pesos = pesos;
+        this.direcionado = direcionado;
+    }
+
+    /**
+     * Monta um CSR a partir de arestas já expressas em ids do dicionário.
+     * A semântica é a mesma de {@link Grafo#adicionarAresta(Object, Object, double)}:
+     * em grafos não direcionados cada aresta gera os dois sentidos, e uma aresta repetida
+     * (mesmo destino e mesmo peso) aparece apenas uma vez na adjacência. A ordem dos
+     * vizinhos de cada vértice é a ordem de inserção.
+     *
+     * @param dicionario  Dicionário com todos os vértices (ids de 0 a tamanho() - 1).
+     * @param origens     Id de origem de cada aresta.
+     * @param destinos    Id de destino de cada aresta.
+     * @param pesosArestas Peso de cada aresta.
+     * @param quantidade  Número de posições válidas nos arrays de arestas.
+     * @param direcionado Se o grafo é direcionado.
+     * @return O grafo em formato CSR.
+     */
+    public static <V> GrafoCSR<V> deArestas(DicionarioDeVertices<V> dicionario, int[] origens, int[] destinos,
+                                            double[] pesosArestas, int quantidade, boolean direcionado) {
+        int n = dicionario.tamanho();
+        int arcos = direcionado ? quantidade : 2 * quantidade;
+
+        // Passo 1: Gera os arcos na mesma ordem em que o Grafo os inseriria.
+        int[] arcoOrigem = new int[arcos];
+        int[] arcoDestino = new int[arcos];
+        double[] arcoPeso = new double[arcos];
+        int k = 0;
+        for (int i = 0; i < quantidade; i++) {
+            arcoOrigem[k] = origens[i];
+            arcoDestino[k] = destinos[i];
+            arcoPeso[k] = pesosArestas[i];
+            k++;
+            if (!direcionado) {
+                arcoOrigem[k] = destinos[i];
+                arcoDestino[k] = origens[i];
+                arcoPeso[k] = pesosArestas[i];
+                k++;
+            }
+        }
+
+        // Passo 2: Counting sort estável pela origem.
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < arcos; i++) {
+            offsets[arcoOrigem[i] + 1]++;
+        }
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+        int[] posicao = new int[n];
+        for (int u = 0; u < n; u++) {
+            posicao[u] = offsets[u];
+        }
+        int[] alvos = new int[arcos];
+        double[] pesos = new double[arcos];
+        for (int i = 0; i < arcos; i++) {
+            int p = posicao[arcoOrigem[i]]++;
+            alvos[p] = arcoDestino[i];
+            pesos[p] = arcoPeso[i];
+        }
+
+        // Passo 3: Remove arcos repetidos (mesmo destino e peso), compactando os arrays no lugar.
+        // marca[v] == u indica que u já tem algum arco para v; só então a lista de u é varrida.
+        int[] marca = new int[n];
+        for (int v = 0; v < n; v++) {
+            marca[v] = -1;
+        }
+        int escrita = 0;
+        int inicioAntigo = 0;
+        for (int u = 0; u < n; u++) {
+            int fimAntigo = offsets[u + 1];
+            int inicioNovo = escrita;
+            for (int e = inicioAntigo; e < fimAntigo; e++) {
+                int v = alvos[e];
+                boolean repetido = false;
+                if (marca[v] == u) {
+                    for (int j = inicioNovo; j < escrita; j++) {
+                        if (alvos[j] == v && pesos[j] == pesos[e]) {
+                            repetido = true;
+                            break;
+                        }
+                    }
+                }
+                if (!repetido) {
+                    marca[v] = u;
+                    alvos[escrita] = v;
+                    pesos[escrita] = pesos[e];
+                    escrita++;
+                }
+            }
+            offsets[u] = inicioNovo;
+            inicioAntigo = fimAntigo;
+        }
+        offsets[n] = escrita;
+
+        if (escrita < arcos) {
+            int[] alvosCompactos = new int[escrita];
+            double[] pesosCompactos = new double[escrita];
+            System.arraycopy(alvos, 0, alvosCompactos, 0, escrita);
+            System.arraycopy(pesos, 0, pesosCompactos, 0, escrita);
+            alvos = alvosCompactos;
+            pesos = pesosCompactos;
+        }
+
+        return new GrafoCSR<>(dicionario, offsets, alvos, pesos, direcionado);
+    }
+
+    /**
+     * Retorna o grafo transposto (todas as arestas invertidas), compartilhando o mesmo dicionário,
+     * de modo que os ids continuam válidos. Em grafos não direcionados a adjacência já é simétrica
+     * e o próprio grafo é retornado.
+     *
+     * A adjacência de entrada de v fica ordenada pelo id de origem. Custo O(V + E).
+     *
+     * @return O grafo com a adjacência reversa.
+     */
+    public GrafoCSR<V> transposto() {
+        if (!direcionado) {
+            return this;
+        }
+        int n = getNumeroDeVertices();
+        int arcos = alvos.length;
+
+        // Counting sort pelo destino: conta as arestas de entrada de cada vértice.
+        int[] offsetsReversos = new int[n + 1];
+        for (int e = 0; e < arcos; e++) {
+            offsetsReversos[alvos[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsetsReversos[v + 1] += offsetsReversos[v];
+        }
+        int[] posicao = new int[n];
+        System.arraycopy(offsetsReversos, 0, posicao, 0, n);
+
+        int[] alvosReversos = new int[arcos];
+        double[] pesosReversos = new double[arcos];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int p = posicao[alvos[e]]++;
+                alvosReversos[p] = u;
+                pesosReversos[p] = pesos[e];
+            }
+        }
+        return new GrafoCSR<>(dicionario, offsetsReversos, alvosReversos, pesosReversos, true);
+    }
+
+    public int getNumeroDeVertices() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Retorna o número de entradas de adjacência armazenadas.
+     * Em grafos não direcionados cada aresta aparece duas vezes (uma em cada sentido).
+     */
+    public int getNumeroDeArcos() {
+        return alvos.length;
+    }
+
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    /** Posição da primeira aresta de saída do vértice u. */
+    public int inicio(int u) {
+        return offsets[u];
+    }
+
+    /** Posição seguinte à última aresta de saída do vértice u (exclusiva). */
+    public int fim(int u) {
+        return offsets[u + 1];
+    }
+
+    public int grau(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /** Id do vértice de destino da aresta e. */
+    public int alvo(int e) {
+        return alvos[e];
+    }
+
+    public double peso(int e) {
+        return pesos[e];
+    }
+
+    /**
+     * Id do vértice de origem da aresta e.
+     * Como o CSR não guarda a origem explicitamente, é feita uma busca binária em offsets: O(log V).
+     */
+    public int origem(int e) {
+        if (e < 0 || e >= alvos.length) {
+            throw new IndexOutOfBoundsException("Aresta inválida: " + e);
+        }
+        int esquerda = 0;
+        int direita = offsets.length - 2;
+        // Procura o maior u tal que offsets[u] <= e (vértices sem arestas são pulados naturalmente).
+        while (esquerda < direita) {
+            int meio = (esquerda + direita + 1) >>> 1;
+            if (offsets[meio] <= e) {
+                esquerda = meio;
+            } else {
+                direita = meio - 1;
+            }
+        }
+        return esquerda;
+    }
+
+    /**
+     * Retorna o id denso de um vértice.
+     *
+     * @param vertice Rótulo do vértice.
+     * @return O id do vértice, ou -1 se ele não pertencer ao grafo.
+     */
+    public int idDe(V vertice) {
+        return dicionario.idDe(vertice);
+    }
+
+    /**
+     * Retorna o rótulo original associado a um id.
+     *
+     * @param id Id denso do vértice.
+     * @return O rótulo do vértice.
+     */
+    public V rotuloDe(int id) {
+        return dicionario.rotuloDe(id);
+    }
+
+    /** Dicionário de vértices compartilhado por este grafo. */
+    public DicionarioDeVertices<V> getDicionario() {
+        return dicionario;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("GrafoCSR (Direcionado: ").append(direcionado).append(")\n");
+        sb.append("Vértices: ").append(getNumeroDeVertices()).append(", Arcos: ").append(getNumeroDeArcos()).append("\n");
+        for (int u = 0; u < getNumeroDeVertices(); u++) {
+            sb.append(rotuloDe(u)).append(" -> ");
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                sb.append(rotuloDe(alvos[e])).append(" (").append(pesos[e]).append(") ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,213 @@
+package util.filaDePrioridade;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Fila de prioridade mínima indexada por ids inteiros densos (0 .. capacidade-1),
+ * com prioridades {@code double} primitivas.
+ * Cada id aparece no máximo uma vez, e a posição de cada id dentro do heap é
+ * mantida em um array auxiliar, o que permite {@link #decreaseKey(int, double)}
+ * e {@link #contains(int)} sem busca. Nenhuma operação aloca objetos.
+ *
+ * Usada por algoritmos que relaxam vértices (Prim eager, Dijkstra, A*, ...),
+ * mantendo o heap com no máximo V entradas em vez de uma entrada por aresta.
+ */
+public class FilaDePrioridadeIndexada {
+
+    private final int[] heap;         // heap[i] = id na posição i do heap.
+    private final int[] posicao;      // posicao[id] = índice no heap, ou -1 se ausente.
+    private final double[] prioridade;
+    private int tamanho;
+
+    /**
+     * Cria uma fila vazia para ids de 0 a capacidade - 1.
+     *
+     * @param capacidade maior id + 1 (normalmente o número de vértices)
+     */
+    public FilaDePrioridadeIndexada(int capacidade) {
+        if (capacidade < 0)
+            throw new IllegalArgumentException("Capacidade não pode ser negativa.");
+        this.heap = new int[capacidade];
+        this.posicao = new int[capacidade];
+        this.prioridade = new double[capacidade];
+        for (int i = 0; i < capacidade; i++) {
+            posicao[i] = -1;
+        }
+        this.tamanho = 0;
+    }
+
+    /**
+     * Insere um id com a prioridade informada.
+     *
+     * @throws IllegalArgumentException se o id já estiver na fila
+     */
+    public void add(int id, double prioridadeInicial) {
+        checarId(id);
+        if (posicao[id] != -1)
+            throw new IllegalArgumentException("Id já está na fila: " + id);
+        heap[tamanho] = id;
+        posicao[id] = tamanho;
+        prioridade[id] = prioridadeInicial;
+        subir(tamanho);
+        tamanho++;
+    }
+
+    /**
+     * Diminui a prioridade de um id que já está na fila.
+     *
+     * @throws IllegalArgumentException se o id não estiver na fila ou a nova prioridade for maior
+     */
+    public void decreaseKey(int id, double novaPrioridade) {
+        checarId(id);
+        if (posicao[id] == -1)
+            throw new IllegalArgumentException("Id não está na fila: " + id);
+        if (novaPrioridade > prioridade[id])
+            throw new IllegalArgumentException("A nova prioridade é maior que a atual.");
+        prioridade[id] = novaPrioridade;
+        subir(posicao[id]);
+    }
+
+    /**
+     * Insere o id ou diminui sua prioridade, o que for aplicável.
+     * Se o id já estiver na fila com prioridade menor ou igual, nada muda.
+     *
+     * @return true se a fila foi alterada
+     */
+    public boolean addOuDiminuir(int id, double novaPrioridade) {
+        checarId(id);
+        if (posicao[id] == -1) {
+            add(id, novaPrioridade);
+            return true;
+        }
+        if (novaPrioridade < prioridade[id]) {
+            prioridade[id] = novaPrioridade;
+            subir(posicao[id]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Altera a prioridade de um id que já está na fila, para cima ou para baixo.
+     *
+     * @throws IllegalArgumentException se o id não estiver na fila
+     */
+    public void alterarPrioridade(int id, double novaPrioridade) {
+        checarId(id);
+        if (posicao[id] == -1)
+            throw new IllegalArgumentException("Id não está na fila: " + id);
+        double antiga = prioridade[id];
+        prioridade[id] = novaPrioridade;
+        if (novaPrioridade < antiga) {
+            subir(posicao[id]);
+        } else {
+            descer(posicao[id]);
+        }
+    }
+
+    public boolean contains(int id) {
+        checarId(id);
+        return posicao[id] != -1;
+    }
+
+    /**
+     * Remove e retorna o id de menor prioridade.
+     *
+     * @return o id removido
+     */
+    public int removeMin() {
+        if (tamanho == 0) throw new NoSuchElementException("A fila de prioridade está vazia.");
+        int menor = heap[0];
+        tamanho--;
+        if (tamanho > 0) {
+            heap[0] = heap[tamanho];
+            posicao[heap[0]] = 0;
+            descer(0);
+        }
+        posicao[menor] = -1;
+        return menor;
+    }
+
+    /** Retorna o id de menor prioridade sem removê-lo. */
+    public int minId() {
+        if (tamanho == 0) throw new NoSuchElementException("A fila de prioridade está vazia.");
+        return heap[0];
+    }
+
+    /** Retorna a menor prioridade presente na fila. */
+    public double minPrioridade() {
+        if (tamanho == 0) throw new NoSuchElementException("A fila de prioridade está vazia.");
+        return prioridade[heap[0]];
+    }
+
+    /**
+     * Retorna a prioridade atual de um id presente na fila.
+     */
+    public double prioridade(int id) {
+        checarId(id);
+        if (posicao[id] == -1)
+            throw new IllegalArgumentException("Id não está na fila: " + id);
+        return prioridade[id];
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Esvazia a fila em O(tamanho), permitindo reutilizá-la entre consultas sem realocar.
+     */
+    public void clear() {
+        for (int i = 0; i < tamanho; i++) {
+            posicao[heap[i]] = -1;
+        }
+        tamanho = 0;
+    }
+
+    private void subir(int indice) {
+        int id = heap[indice];
+        double p = prioridade[id];
+        while (indice > 0) {
+            int pai = (indice - 1) >>> 1;
+            int idPai = heap[pai];
+            if (p >= prioridade[idPai]) {
+                break;
+            }
+            heap[indice] = idPai;
+            posicao[idPai] = indice;
+            indice = pai;
+        }
+        heap[indice] = id;
+        posicao[id] = indice;
+    }
+
+    private void descer(int indice) {
+        int id = heap[indice];
+        double p = prioridade[id];
+        int metade = tamanho >>> 1;
+        while (indice < metade) {
+            int filho = 2 * indice + 1;
+            int direita = filho + 1;
+            if (direita < tamanho && prioridade[heap[direita]] < prioridade[heap[filho]]) {
+                filho = direita;
+            }
+            if (p <= prioridade[heap[filho]]) {
+                break;
+            }
+            heap[indice] = heap[filho];
+            posicao[heap[indice]] = indice;
+            indice = filho;
+        }
+        heap[indice] = id;
+        posicao[id] = indice;
+    }
+
+    private void checarId(int id) {
+        if (id < 0 || id >= posicao.length)
+            throw new IndexOutOfBoundsException("Id fora da capacidade: " + id);
+    }
+}
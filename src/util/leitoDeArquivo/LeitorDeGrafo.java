@@ -1,9 +1,11 @@
 package util.leitoDeArquivo;
 
+import graph_structure.DicionarioDeVertices;
 import graph_structure.Grafo;
 import graph_structure.Grafo.Aresta;
-import util.hashSet.HashSet;
-import util.lista.ListaEncadeada;
+import graph_structure.GrafoCSR;
+import util.lista.ListaArray;
+import util.tabelaHash.TabelaHash;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
@@ -12,7 +14,7 @@ import java.io.IOException;
 public class LeitorDeGrafo {
 
     public static Grafo<String> carregarGrafoComDeteccao(String caminhoArquivo) {
-        ListaEncadeada<Aresta<String>> listaArestas = new ListaEncadeada<>();
+        ListaArray<Aresta<String>> listaArestas = new ListaArray<>();
 
         try (BufferedReader leitor = new BufferedReader(new FileReader(caminhoArquivo))) {
             String linha;
@@ -46,22 +48,188 @@ public class LeitorDeGrafo {
         return grafo;
     }
 
-    private static boolean ehNaoDirecionado(ListaEncadeada<Aresta<String>> arestas) {
-        // Usando o seu HashSet customizado
-        HashSet<String> arestasSemPar = new HashSet<>();
-
+    /**
+     * Aplica a mesma detecção de {@link #carregarGrafoCSR(String)} às arestas lidas, para que um
+     * arquivo seja classificado da mesma forma pelos dois carregadores.
+     */
+    private static boolean ehNaoDirecionado(ListaArray<Aresta<String>> arestas) {
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        int[] origens = new int[arestas.size()];
+        int[] destinos = new int[arestas.size()];
         for (int i = 0; i < arestas.size(); i++) {
-            Aresta<String> aresta = arestas.get(i);
-            String chaveDireta = aresta.origem() + "->" + aresta.destino();
-            String chaveInversa = aresta.destino() + "->" + aresta.origem();
+            origens[i] = dicionario.internar(arestas.get(i).origem());
+            destinos[i] = dicionario.internar(arestas.get(i).destino());
+        }
+        return ehNaoDirecionado(origens, destinos, arestas.size());
+    }
+
+    /**
+     * Carrega o grafo diretamente no formato CSR. Cada rótulo é internado em um id inteiro
+     * no momento da leitura, de modo que nenhum {@link Grafo} intermediário é criado e os
+     * algoritmos podem trabalhar apenas com ids. Os rótulos originais continuam disponíveis
+     * em {@link GrafoCSR#rotuloDe(int)} para a exibição dos resultados.
+     *
+     * @param caminhoArquivo Caminho do arquivo no formato "origem destino peso".
+     * @return O grafo em formato CSR, ou null se o arquivo não puder ser lido.
+     */
+    public static GrafoCSR<String> carregarGrafoCSR(String caminhoArquivo) {
+        DicionarioDeVertices<String> dicionario = new DicionarioDeVertices<>();
+        int[] origens = new int[16];
+        int[] destinos = new int[16];
+        double[] pesos = new double[16];
+        int quantidade = 0;
+
+        try (BufferedReader leitor = new BufferedReader(new FileReader(caminhoArquivo))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) continue;
+
+                String[] partes = linha.split("\\s+");
+                if (partes.length < 3) continue;
+
+                if (quantidade == origens.length) {
+                    origens = crescer(origens);
+                    destinos = crescer(destinos);
+                    pesos = crescer(pesos);
+                }
+                origens[quantidade] = dicionario.internar(partes[0]);
+                destinos[quantidade] = dicionario.internar(partes[1]);
+                pesos[quantidade] = Double.parseDouble(partes[2]);
+                quantidade++;
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao ler o arquivo: " + e.getMessage());
+            return null;
+        }
+
+        boolean direcionado = !ehNaoDirecionado(origens, destinos, quantidade);
+        GrafoCSR<String> grafo = GrafoCSR.deArestas(dicionario, origens, destinos, pesos, quantidade, direcionado);
+
+        System.out.println("Tipo detectado: " + (direcionado ? "Direcionado" : "Não-Direcionado"));
+        return grafo;
+    }
+
+    /**
+     * Carrega as coordenadas dos vértices de um arquivo auxiliar, lido junto com o arquivo de arestas.
+     * Usado por heurísticas geométricas, como a distância euclidiana do A*.
+     *
+     * @param caminhoArquivo Caminho do arquivo no formato "vertice x y".
+     * @return Tabela rótulo → {x, y}, ou null se o arquivo não puder ser lido.
+     */
+    public static TabelaHash<String, double[]> carregarCoordenadas(String caminhoArquivo) {
+        TabelaHash<String, double[]> coordenadas = new TabelaHash<>();
+
+        try (BufferedReader leitor = new BufferedReader(new FileReader(caminhoArquivo))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) continue;
 
-            if (arestasSemPar.contains(chaveInversa)) {
-                arestasSemPar.remove(chaveInversa);
+                String[] partes = linha.split("\\s+");
+                if (partes.length < 3) continue;
+
+                coordenadas.put(partes[0], new double[]{Double.parseDouble(partes[1]), Double.parseDouble(partes[2])});
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao ler o arquivo: " + e.getMessage());
+            return null;
+        }
+        return coordenadas;
+    }
+
+    /**
+     * Regra de detecção usada pelos dois carregadores: o grafo é não direcionado se cada linha
+     * (origem, destino) aparece tantas vezes quanto a inversa (destino, origem), e cada laço um número
+     * par de vezes. As linhas são contadas como multiconjunto, então "A B", "A B", "B A" é direcionado.
+     *
+     * Não aloca um objeto por aresta: cada par vira um long, e os longs são ordenados.
+     */
+    private static boolean ehNaoDirecionado(int[] origens, int[] destinos, int quantidade) {
+        long[] chaves = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            chaves[i] = chave(origens[i], destinos[i]);
+        }
+        ordenar(chaves);
+
+        for (int inicio = 0; inicio < quantidade; ) {
+            int fim = inicio + 1;
+            while (fim < quantidade && chaves[fim] == chaves[inicio]) {
+                fim++;
+            }
+            int origem = (int) (chaves[inicio] >>> 32);
+            int destino = (int) chaves[inicio];
+            int vezes = fim - inicio;
+            if (origem == destino) {
+                if (vezes % 2 != 0) return false;
+            } else if (ocorrencias(chaves, chave(destino, origem)) != vezes) {
+                return false;
+            }
+            inicio = fim;
+        }
+        return true;
+    }
+
+    private static long chave(int origem, int destino) {
+        return ((long) origem << 32) | (destino & 0xFFFFFFFFL);
+    }
+
+    /** Quantidade de cópias da chave no array ordenado, por duas buscas binárias. */
+    private static int ocorrencias(long[] ordenado, long chave) {
+        return primeiraPosicaoMaiorQue(ordenado, chave) - primeiraPosicaoMaiorQue(ordenado, chave - 1);
+    }
+
+    private static int primeiraPosicaoMaiorQue(long[] ordenado, long chave) {
+        int baixo = 0;
+        int alto = ordenado.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (ordenado[meio] <= chave) {
+                baixo = meio + 1;
             } else {
-                arestasSemPar.add(chaveDireta);
+                alto = meio;
             }
         }
+        return baixo;
+    }
+
+    /** Heapsort in-place: O(m log m) sem memória extra. */
+    private static void ordenar(long[] a) {
+        for (int i = a.length / 2 - 1; i >= 0; i--) {
+            descer(a, i, a.length);
+        }
+        for (int fim = a.length - 1; fim > 0; fim--) {
+            long troca = a[0];
+            a[0] = a[fim];
+            a[fim] = troca;
+            descer(a, 0, fim);
+        }
+    }
+
+    private static void descer(long[] a, int i, int tamanho) {
+        while (true) {
+            int maior = i;
+            int esquerda = 2 * i + 1;
+            int direita = esquerda + 1;
+            if (esquerda < tamanho && a[esquerda] > a[maior]) maior = esquerda;
+            if (direita < tamanho && a[direita] > a[maior]) maior = direita;
+            if (maior == i) return;
+            long troca = a[i];
+            a[i] = a[maior];
+            a[maior] = troca;
+            i = maior;
+        }
+    }
+
+    private static int[] crescer(int[] array) {
+        int[] novo = new int[array.length * 2];
+        System.arraycopy(array, 0, novo, 0, array.length);
+        return novo;
+    }
 
-        return arestasSemPar.isEmpty();
+    private static double[] crescer(double[] array) {
+        double[] novo = new double[array.length * 2];
+        System.arraycopy(array, 0, novo, 0, array.length);
+        return novo;
     }
 }
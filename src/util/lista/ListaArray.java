@@ -0,0 +1,199 @@
+package util.lista;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+
+/**
+ * Lista baseada em array dinâmico que emula ArrayList.
+ * Inserção no final em O(1) amortizado e acesso por índice (get/set) em O(1),
+ * ao contrário de {@link ListaEncadeada}, que percorre a cadeia a cada get(i).
+ *
+ * @param <E> o tipo dos elementos armazenados na lista
+ */
+public class ListaArray<E> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int CAPACIDADE_INICIAL = 10;
+
+    private Object[] elementos;
+    private int tamanho;
+    protected transient int modCount = 0;
+
+    /** Construtor padrão. Cria uma lista vazia com capacidade 10. */
+    public ListaArray() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Cria uma lista vazia com a capacidade informada.
+     *
+     * @param capacidadeInicial número de elementos que cabem sem realocação
+     */
+    public ListaArray(int capacidadeInicial) {
+        if (capacidadeInicial < 0)
+            throw new IllegalArgumentException("Capacidade não pode ser negativa: " + capacidadeInicial);
+        this.elementos = new Object[Math.max(1, capacidadeInicial)];
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public boolean add(E e) {
+        garantirCapacidade(tamanho + 1);
+        elementos[tamanho++] = e;
+        modCount++;
+        return true;
+    }
+
+    public void add(int indice, E elemento) {
+        if (indice < 0 || indice > tamanho)
+            throw new IndexOutOfBoundsException("Índice para adicionar inválido: " + indice);
+        garantirCapacidade(tamanho + 1);
+        System.arraycopy(elementos, indice, elementos, indice + 1, tamanho - indice);
+        elementos[indice] = elemento;
+        tamanho++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int indice) {
+        checarIndice(indice);
+        return (E) elementos[indice];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada.
+     * Não é uma modificação estrutural, portanto não invalida cursores abertos.
+     *
+     * @param indice o índice do elemento a ser substituído.
+     * @param elemento o novo elemento.
+     * @return o elemento que ocupava a posição.
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int indice, E elemento) {
+        checarIndice(indice);
+        E antigo = (E) elementos[indice];
+        elementos[indice] = elemento;
+        return antigo;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E remove(int indice) {
+        checarIndice(indice);
+        E removido = (E) elementos[indice];
+        int deslocar = tamanho - indice - 1;
+        if (deslocar > 0) {
+            System.arraycopy(elementos, indice + 1, elementos, indice, deslocar);
+        }
+        elementos[--tamanho] = null;
+        modCount++;
+        return removido;
+    }
+
+    public E removeLast() {
+        if (tamanho == 0) throw new NoSuchElementException();
+        return remove(tamanho - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public E getLast() {
+        if (tamanho == 0) throw new NoSuchElementException();
+        return (E) elementos[tamanho - 1];
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    public int indexOf(Object o) {
+        for (int i = 0; i < tamanho; i++) {
+            if (o == null ? elementos[i] == null : o.equals(elementos[i])) return i;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        for (int i = 0; i < tamanho; i++) {
+            elementos[i] = null;
+        }
+        tamanho = 0;
+        modCount++;
+    }
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo > elementos.length) {
+            int novaCapacidade = Math.max(minimo, elementos.length + (elementos.length >> 1) + 1);
+            Object[] novo = new Object[novaCapacidade];
+            System.arraycopy(elementos, 0, novo, 0, tamanho);
+            elementos = novo;
+        }
+    }
+
+    private void checarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho)
+            throw new IndexOutOfBoundsException("Índice inválido: " + indice);
+    }
+
+    public MeuIteradorDeLista iterador() {
+        return new MeuIteradorDeLista();
+    }
+
+    /** Cursor fail-fast sobre a lista, com suporte a remoção. */
+    public class MeuIteradorDeLista {
+        private int cursor = 0;
+        private int ultimoRetornado = -1;
+        private int esperadoModCount = modCount;
+
+        public boolean temProximo() {
+            checarComodificacao();
+            return cursor < tamanho;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E proximo() {
+            checarComodificacao();
+            if (cursor >= tamanho) throw new IllegalStateException("Sem próximo.");
+            ultimoRetornado = cursor;
+            return (E) elementos[cursor++];
+        }
+
+        /**
+         * Remove o último elemento retornado por proximo().
+         */
+        public void remove() {
+            checarComodificacao();
+            if (ultimoRetornado < 0) {
+                throw new IllegalStateException("remove() chamado indevidamente.");
+            }
+            ListaArray.this.remove(ultimoRetornado);
+            cursor = ultimoRetornado;
+            ultimoRetornado = -1;
+            esperadoModCount = modCount;
+        }
+
+        private void checarComodificacao() {
+            if (modCount != esperadoModCount) {
+                throw new IllegalStateException("Lista modificada durante iteração.");
+            }
+        }
+    }
+
+    /**
+     * Retorna uma representação em String da lista no formato "[e1, e2, ..., eN]".
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < tamanho; i++) {
+            builder.append(elementos[i]);
+            if (i < tamanho - 1) builder.append(", ");
+        }
+        return builder.append("]").toString();
+    }
+}
@@ -0,0 +1,90 @@
+package util.paralelo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Laço paralelo sobre um intervalo [0, tamanho) dividido em blocos de tamanho fixo.
+ *
+ * O bloco b cobre [b * tamanhoDoBloco, min(tamanho, (b + 1) * tamanhoDoBloco)). Com um único bloco, o
+ * corpo roda na própria thread; com mais, uma tarefa do {@link ForkJoinPool} divide o intervalo de
+ * blocos ao meio até sobrar um. Como o índice do bloco é passado ao corpo, cada bloco pode gravar em
+ * uma posição própria de um array (um buffer ou um contador), sem travas.
+ */
+public final class LacoParalelo {
+
+    private LacoParalelo() {
+    }
+
+    /** Trabalho feito sobre o bloco de índice {@code bloco}, que cobre [inicio, fim). */
+    @FunctionalInterface
+    public interface CorpoDoBloco {
+        void executar(int bloco, int inicio, int fim);
+    }
+
+    /** Quantidade de blocos de {@code tamanhoDoBloco} elementos necessários para cobrir {@code tamanho}. */
+    public static int numeroDeBlocos(int tamanho, int tamanhoDoBloco) {
+        if (tamanhoDoBloco <= 0) {
+            throw new IllegalArgumentException("O tamanho do bloco deve ser positivo: " + tamanhoDoBloco);
+        }
+        return (int) (((long) tamanho + tamanhoDoBloco - 1) / tamanhoDoBloco);
+    }
+
+    /**
+     * Executa o corpo em cada bloco de [0, tamanho) e só retorna quando todos terminarem.
+     * Se a thread atual já for do pool (uma tarefa chamando outro laço), a divisão roda nela mesma.
+     *
+     * @param pool           Pool em que os blocos são distribuídos.
+     * @param tamanho        Quantidade de elementos; com 0, o corpo não é chamado.
+     * @param tamanhoDoBloco Elementos por bloco.
+     * @param corpo          Trabalho de cada bloco.
+     */
+    public static void paraCadaBloco(ForkJoinPool pool, int tamanho, int tamanhoDoBloco, CorpoDoBloco corpo) {
+        int blocos = numeroDeBlocos(tamanho, tamanhoDoBloco);
+        if (blocos == 0) {
+            return;
+        }
+        if (blocos == 1) {
+            corpo.executar(0, 0, tamanho);
+            return;
+        }
+        RecursiveAction tarefa = new Blocos(corpo, tamanho, tamanhoDoBloco, 0, blocos);
+        if (ForkJoinTask.getPool() == pool) {
+            tarefa.invoke();
+        } else {
+            pool.invoke(tarefa);
+        }
+    }
+
+    /** Divide os blocos [inicio, fim) ao meio até sobrar um. */
+    private static final class Blocos extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CorpoDoBloco corpo;
+        private final int tamanho;
+        private final int tamanhoDoBloco;
+        private final int inicio;
+        private final int fim;
+
+        Blocos(CorpoDoBloco corpo, int tamanho, int tamanhoDoBloco, int inicio, int fim) {
+            this.corpo = corpo;
+            this.tamanho = tamanho;
+            this.tamanhoDoBloco = tamanhoDoBloco;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio == 1) {
+                int primeiro = inicio * tamanhoDoBloco;
+                corpo.executar(inicio, primeiro, Math.min(tamanho, primeiro + tamanhoDoBloco));
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Blocos(corpo, tamanho, tamanhoDoBloco, inicio, meio),
+                    new Blocos(corpo, tamanho, tamanhoDoBloco, meio, fim));
+        }
+    }
+}
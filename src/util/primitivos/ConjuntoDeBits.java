@@ -0,0 +1,114 @@
+package util.primitivos;
+
+/**
+ * Conjunto de inteiros não negativos representado como um mapa de bits (bitset).
+ * Cada elemento ocupa um único bit de um array de {@code long}, o que torna a
+ * marcação de visitados sobre ids densos 8 vezes menor que um {@code boolean[]}
+ * (que usa um byte por elemento) e sem nenhuma alocação por elemento.
+ */
+public class ConjuntoDeBits {
+
+    private final long[] palavras;
+    private final int capacidade;
+    private int tamanho;
+
+    /**
+     * Cria um conjunto capaz de armazenar os inteiros de 0 a capacidade - 1.
+     *
+     * @param capacidade quantidade de posições (normalmente o número de vértices)
+     */
+    public ConjuntoDeBits(int capacidade) {
+        if (capacidade < 0)
+            throw new IllegalArgumentException("Capacidade não pode ser negativa.");
+        this.capacidade = capacidade;
+        this.palavras = new long[(capacidade + 63) >>> 6];
+        this.tamanho = 0;
+    }
+
+    /**
+     * Adiciona um elemento ao conjunto.
+     *
+     * @param i elemento (0 <= i < capacidade)
+     * @return true se o elemento ainda não estava presente
+     */
+    public boolean add(int i) {
+        checarIndice(i);
+        int palavra = i >>> 6;
+        long mascara = 1L << i; // O deslocamento de long usa apenas os 6 bits menos significativos.
+        if ((palavras[palavra] & mascara) != 0) {
+            return false;
+        }
+        palavras[palavra] |= mascara;
+        tamanho++;
+        return true;
+    }
+
+    public boolean contains(int i) {
+        checarIndice(i);
+        return (palavras[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Remove um elemento do conjunto.
+     *
+     * @param i elemento
+     * @return true se o elemento estava presente
+     */
+    public boolean remove(int i) {
+        checarIndice(i);
+        int palavra = i >>> 6;
+        long mascara = 1L << i;
+        if ((palavras[palavra] & mascara) == 0) {
+            return false;
+        }
+        palavras[palavra] &= ~mascara;
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Retorna o menor elemento presente que seja maior ou igual a {@code inicio}.
+     *
+     * @param inicio posição inicial da busca
+     * @return o elemento encontrado, ou -1 se não houver
+     */
+    public int proximo(int inicio) {
+        if (inicio >= capacidade) return -1;
+        int palavra = inicio >>> 6;
+        long bits = palavras[palavra] & (-1L << inicio);
+        while (true) {
+            if (bits != 0) {
+                return (palavra << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++palavra == palavras.length) {
+                return -1;
+            }
+            bits = palavras[palavra];
+        }
+    }
+
+    /** Quantidade de elementos presentes. */
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public int capacidade() {
+        return capacidade;
+    }
+
+    public void clear() {
+        for (int i = 0; i < palavras.length; i++) {
+            palavras[i] = 0L;
+        }
+        tamanho = 0;
+    }
+
+    private void checarIndice(int i) {
+        if (i < 0 || i >= capacidade)
+            throw new IndexOutOfBoundsException("Elemento fora da capacidade: " + i);
+    }
+}
@@ -0,0 +1,102 @@
+package util.primitivos;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Lista de inteiros baseada em array dinâmico de {@code int}, sem boxing.
+ * Pode ser usada como lista, pilha (add/removeLast) ou buffer de fila.
+ */
+public class ListaDeInteiros {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private int[] elementos;
+    private int tamanho;
+
+    /** Construtor padrão: capacidade inicial 16. */
+    public ListaDeInteiros() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Construtor com capacidade inicial personalizada.
+     *
+     * @param capacidadeInicial capacidade inicial solicitada
+     */
+    public ListaDeInteiros(int capacidadeInicial) {
+        if (capacidadeInicial < 0)
+            throw new IllegalArgumentException("Capacidade não pode ser negativa.");
+        this.elementos = new int[Math.max(1, capacidadeInicial)];
+        this.tamanho = 0;
+    }
+
+    public void add(int valor) {
+        if (tamanho == elementos.length) {
+            int[] novo = new int[elementos.length * 2];
+            System.arraycopy(elementos, 0, novo, 0, tamanho);
+            elementos = novo;
+        }
+        elementos[tamanho++] = valor;
+    }
+
+    public int get(int indice) {
+        checarIndice(indice);
+        return elementos[indice];
+    }
+
+    public void set(int indice, int valor) {
+        checarIndice(indice);
+        elementos[indice] = valor;
+    }
+
+    /** Remove e retorna o último elemento (uso como pilha). */
+    public int removeLast() {
+        if (tamanho == 0) throw new NoSuchElementException("Lista vazia.");
+        return elementos[--tamanho];
+    }
+
+    /** Retorna o último elemento sem removê-lo. */
+    public int getLast() {
+        if (tamanho == 0) throw new NoSuchElementException("Lista vazia.");
+        return elementos[tamanho - 1];
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    /** Esvazia a lista mantendo a capacidade já alocada. */
+    public void clear() {
+        tamanho = 0;
+    }
+
+    /**
+     * Copia os elementos para um array do tamanho exato da lista.
+     *
+     * @return um novo array com os elementos na ordem de inserção
+     */
+    public int[] toArray() {
+        int[] copia = new int[tamanho];
+        System.arraycopy(elementos, 0, copia, 0, tamanho);
+        return copia;
+    }
+
+    private void checarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho)
+            throw new IndexOutOfBoundsException("Índice inválido: " + indice);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < tamanho; i++) {
+            builder.append(elementos[i]);
+            if (i < tamanho - 1) builder.append(", ");
+        }
+        return builder.append("]").toString();
+    }
+}
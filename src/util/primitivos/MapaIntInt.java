@@ -0,0 +1,200 @@
+package util.primitivos;
+
+/**
+ * Mapa de chaves {@code int} para valores {@code int} com endereçamento aberto
+ * (sondagem linear), sem boxing e sem nós encadeados.
+ * A capacidade é sempre uma potência de dois e a remoção usa deslocamento para trás
+ * (backward shift), de modo que não existem marcadores de remoção.
+ *
+ * Indicado para chaves inteiras esparsas; para ids densos (0 .. n-1) um {@code int[]} é mais barato.
+ */
+public class MapaIntInt {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+    private static final float FATOR_DE_CARGA = 0.5f;
+
+    private int[] chaves;
+    private int[] valores;
+    private boolean[] ocupados;
+    private int tamanho;
+    private int limiar;
+    private final int valorAusente;
+
+    /** Cria um mapa vazio que retorna -1 para chaves ausentes. */
+    public MapaIntInt() {
+        this(CAPACIDADE_INICIAL, -1);
+    }
+
+    /**
+     * Construtor com capacidade e valor de ausência personalizados.
+     *
+     * @param capacidadeInicial número esperado de chaves
+     * @param valorAusente valor retornado por {@link #get(int)} quando a chave não existe
+     */
+    public MapaIntInt(int capacidadeInicial, int valorAusente) {
+        if (capacidadeInicial < 0)
+            throw new IllegalArgumentException("Capacidade não pode ser negativa.");
+        int capacidade = CAPACIDADE_INICIAL;
+        while (capacidade * FATOR_DE_CARGA < capacidadeInicial) {
+            capacidade <<= 1; // próxima potência de 2
+        }
+        this.valorAusente = valorAusente;
+        alocar(capacidade);
+    }
+
+    public void put(int chave, int valor) {
+        int mascara = chaves.length - 1;
+        int i = indice(chave, mascara);
+        while (ocupados[i]) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        ocupados[i] = true;
+        chaves[i] = chave;
+        valores[i] = valor;
+        if (++tamanho > limiar) {
+            redimensionar();
+        }
+    }
+
+    /**
+     * Retorna o valor associado à chave.
+     *
+     * @param chave chave procurada
+     * @return o valor, ou o valor de ausência configurado
+     */
+    public int get(int chave) {
+        int i = posicao(chave);
+        return i < 0 ? valorAusente : valores[i];
+    }
+
+    public boolean containsKey(int chave) {
+        return posicao(chave) >= 0;
+    }
+
+    /**
+     * Soma {@code delta} ao valor da chave (tratando chave ausente como 0).
+     *
+     * @return o novo valor
+     */
+    public int adicionar(int chave, int delta) {
+        int i = posicao(chave);
+        if (i >= 0) {
+            valores[i] += delta;
+            return valores[i];
+        }
+        put(chave, delta);
+        return delta;
+    }
+
+    /**
+     * Remove a chave do mapa.
+     *
+     * @param chave chave a remover
+     * @return o valor removido, ou o valor de ausência se a chave não existia
+     */
+    public int remover(int chave) {
+        int i = posicao(chave);
+        if (i < 0) {
+            return valorAusente;
+        }
+        int removido = valores[i];
+        int mascara = chaves.length - 1;
+
+        // Deslocamento para trás: puxa para a posição livre as entradas seguintes
+        // que estavam fora do seu balde ideal, mantendo as sequências de sondagem contíguas.
+        int livre = i;
+        int j = (i + 1) & mascara;
+        while (ocupados[j]) {
+            int ideal = indice(chaves[j], mascara);
+            if (((j - ideal) & mascara) >= ((j - livre) & mascara)) {
+                chaves[livre] = chaves[j];
+                valores[livre] = valores[j];
+                livre = j;
+            }
+            j = (j + 1) & mascara;
+        }
+        ocupados[livre] = false;
+        tamanho--;
+        return removido;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < ocupados.length; i++) {
+            ocupados[i] = false;
+        }
+        tamanho = 0;
+    }
+
+    /**
+     * Copia as chaves presentes para um novo array (ordem não especificada).
+     *
+     * @return array com as chaves
+     */
+    public int[] chaves() {
+        int[] resultado = new int[tamanho];
+        int k = 0;
+        for (int i = 0; i < chaves.length; i++) {
+            if (ocupados[i]) {
+                resultado[k++] = chaves[i];
+            }
+        }
+        return resultado;
+    }
+
+    private int posicao(int chave) {
+        int mascara = chaves.length - 1;
+        int i = indice(chave, mascara);
+        while (ocupados[i]) {
+            if (chaves[i] == chave) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void redimensionar() {
+        int[] antigasChaves = chaves;
+        int[] antigosValores = valores;
+        boolean[] antigosOcupados = ocupados;
+
+        alocar(antigasChaves.length * 2);
+        int mascara = chaves.length - 1;
+        for (int k = 0; k < antigasChaves.length; k++) {
+            if (antigosOcupados[k]) {
+                int i = indice(antigasChaves[k], mascara);
+                while (ocupados[i]) {
+                    i = (i + 1) & mascara;
+                }
+                ocupados[i] = true;
+                chaves[i] = antigasChaves[k];
+                valores[i] = antigosValores[k];
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new int[capacidade];
+        valores = new int[capacidade];
+        ocupados = new boolean[capacidade];
+        limiar = (int) (capacidade * FATOR_DE_CARGA);
+    }
+
+    /** Espalha os bits da chave (multiplicação de Fibonacci) antes de aplicar a máscara. */
+    private static int indice(int chave, int mascara) {
+        int h = chave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+}
@@ -1,23 +1,56 @@
 package util.tabelaHash;
 
-import util.lista.ListaEncadeada;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
 
+/**
+ * Estrutura tipo mapa (chave → valor) com endereçamento aberto e sondagem linear.
+ * - A capacidade é sempre uma potência de dois, então o índice é obtido com uma máscara.
+ * - O hash vem de {@code hashCode()} da chave, espalhado por multiplicação de Fibonacci,
+ *   o que funciona para qualquer tipo de chave (não só Integer e String).
+ * - A remoção usa deslocamento para trás (backward shift): não há marcadores de remoção
+ *   e nenhuma varredura extra.
+ * - {@link #keySet()} devolve uma visão das chaves, sem copiar nada.
+ *
+ * Chaves nulas não são aceitas.
+ *
+ * @param <K> tipo das chaves
+ * @param <V> tipo dos valores
+ */
 public class TabelaHash<K, V> {
-    private int tamanho;
+
+    private static final int CAPACIDADE_INICIAL = 16;
+    private static final float FATOR_DE_CARGA = 0.5f;
+
+    private Object[] chaves;   // null indica posição livre.
+    private Object[] valores;
+    private int[] hashes;      // Hash espalhado de cada chave, evita recalcular e acelera o equals.
     private int elementosInseridos;
-    private ListaEncadeada<Entrada<K, V>>[] tabela;
+    private int limiar;
+    private final ConjuntoDeChaves visaoChaves = new ConjuntoDeChaves();
+
+    /** Contador de modificações estruturais, para o iterador fail-fast. */
+    protected transient int modCount = 0;
 
     public TabelaHash() {
-        this(10);
+        this(CAPACIDADE_INICIAL);
     }
 
+    /**
+     * Cria a tabela com espaço para aproximadamente {@code tamanho} chaves sem redimensionar.
+     *
+     * @param tamanho número esperado de chaves
+     */
     public TabelaHash(int tamanho) {
-        this.tamanho = tamanho;
-        this.elementosInseridos = 0;
-        this.tabela = new ListaEncadeada[tamanho];
-        for (int i = 0; i < tamanho; i++) {
-            tabela[i] = new ListaEncadeada<>();
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Tamanho não pode ser negativo.");
         }
+        int capacidade = CAPACIDADE_INICIAL;
+        while (capacidade * FATOR_DE_CARGA < tamanho) {
+            capacidade <<= 1; // próxima potência de 2
+        }
+        alocar(capacidade);
+        this.elementosInseridos = 0;
     }
 
     public void put(K chave, V valor) {
@@ -32,153 +65,209 @@ public class TabelaHash<K, V> {
         return contemChave(chave);
     }
 
-    public ListaEncadeada<K> keySet() {
-        ListaEncadeada<K> listaChaves = new ListaEncadeada<>();
-        for (ListaEncadeada<Entrada<K, V>> lista : tabela) {
-            ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = lista.iterador();
-            while (iterador.temProximo()) {
-                Entrada<K, V> entrada = iterador.proximo();
-                listaChaves.add(entrada.getChave());
-            }
-        }
-        return listaChaves;
+    /**
+     * Retorna uma visão das chaves da tabela. Nenhuma cópia é feita: a visão reflete
+     * o estado atual da tabela e seu iterador falha se a tabela for alterada durante a iteração.
+     */
+    public ConjuntoDeChaves keySet() {
+        return visaoChaves;
+    }
+
+    public int size() {
+        return elementosInseridos;
+    }
+
+    public boolean isEmpty() {
+        return elementosInseridos == 0;
     }
 
     public void inserir(K chave, V valor) {
-        int indice = funcaoHash(chave, tamanho);
-        ListaEncadeada<Entrada<K, V>> listaDoIndice = tabela[indice];
-
-        // Itera pela lista para verificar se a chave já existe
-        ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = listaDoIndice.iterador();
-        while (iterador.temProximo()) {
-            Entrada<K, V> entrada = iterador.proximo();
-            if (entrada.getChave().equals(chave)) {
-                // Se a chave já existe, ATUALIZA o valor e encerra o método.
-                entrada.setValor(valor);
+        int hash = hash(chave);
+        int mascara = chaves.length - 1;
+        int indice = hash & mascara;
+
+        // Sonda até achar a chave (atualização) ou uma posição livre (inserção).
+        while (chaves[indice] != null) {
+            if (hashes[indice] == hash && chaves[indice].equals(chave)) {
+                valores[indice] = valor;
                 return;
             }
+            indice = (indice + 1) & mascara;
         }
 
-        // Se o loop terminar, a chave não foi encontrada.
-        // Então, INSERE uma nova entrada.
-        Entrada<K, V> novaEntrada = new Entrada<>(chave, valor);
-        listaDoIndice.add(novaEntrada);
+        chaves[indice] = chave;
+        valores[indice] = valor;
+        hashes[indice] = hash;
         elementosInseridos++;
+        modCount++;
 
         // Verifica se precisa redimensionar a tabela.
-        if ((double) elementosInseridos / tamanho >= 0.7) {
+        if (elementosInseridos > limiar) {
             redimensionarTabela();
         }
     }
 
-    private int funcaoHash(K chave, int tamanho) {
-        double A = 0.6180339887;
-        if (chave instanceof Integer) {
-            int chaveInt = (Integer) chave;
-            return Math.abs((int) (tamanho * ((chaveInt * A) % 1)));
-        } else if (chave instanceof String) {
-            String chaveString = (String) chave;
-            int soma = 0;
-            for (int i = 0; i < chaveString.length(); i++) {
-                soma += chaveString.charAt(i);
-            }
-            return Math.abs((int) (tamanho * ((soma * A) % 1)));
-        } else {
-            throw new IllegalArgumentException("Chave inválida.");
-        }
-    }
-
-
-    private void redimensionarTabela() {
-        int novoTamanho = tamanho * 2;
-        ListaEncadeada<Entrada<K, V>>[] novaTabela = new ListaEncadeada[novoTamanho];
-        for (int i = 0; i < novoTamanho; i++) {
-            novaTabela[i] = new ListaEncadeada<>();
-        }
-
-        for (int i = 0; i < tamanho; i++) {
-            ListaEncadeada<Entrada<K, V>> lista = tabela[i];
-            ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = lista.iterador();
-            while (iterador.temProximo()) {
-                Entrada<K, V> entrada = iterador.proximo();
-                int novoIndice = funcaoHash(entrada.getChave(), novoTamanho);
-                novaTabela[novoIndice].add(entrada);
-            }
-        }
-
-        tamanho = novoTamanho;
-        tabela = novaTabela;
-    }
-
+    @SuppressWarnings("unchecked")
     public V buscar(K chave) {
-        int indice = funcaoHash(chave, tamanho);
-        ListaEncadeada<Entrada<K, V>> lista = tabela[indice];
-        ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = lista.iterador();
-        while (iterador.temProximo()) {
-            Entrada<K, V> entrada = iterador.proximo();
-            if (entrada.getChave().equals(chave)) {
-                return entrada.getValor();
-            }
-        }
-        return null;
+        int indice = posicao(chave);
+        return indice < 0 ? null : (V) valores[indice];
     }
 
     public boolean contemChave(K chave) {
-        return buscar(chave) != null;
+        return posicao(chave) >= 0;
     }
 
+    @SuppressWarnings("unchecked")
     public V remover(K chave) {
-        int indice = funcaoHash(chave, tamanho);
-        ListaEncadeada<Entrada<K, V>> lista = tabela[indice];
-        ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = lista.iterador();
-        while (iterador.temProximo()) {
-            Entrada<K, V> entrada = iterador.proximo();
-            if (entrada.getChave().equals(chave)) {
-                lista.remove(entrada);
-                elementosInseridos--;
-                return entrada.getValor();
+        int indice = posicao(chave);
+        if (indice < 0) {
+            return null;
+        }
+        V removido = (V) valores[indice];
+        int mascara = chaves.length - 1;
+
+        // Deslocamento para trás: entradas seguintes que estavam fora do seu balde ideal
+        // são puxadas para a posição livre, mantendo as sequências de sondagem contíguas.
+        int livre = indice;
+        int j = (indice + 1) & mascara;
+        while (chaves[j] != null) {
+            int ideal = hashes[j] & mascara;
+            if (((j - ideal) & mascara) >= ((j - livre) & mascara)) {
+                chaves[livre] = chaves[j];
+                valores[livre] = valores[j];
+                hashes[livre] = hashes[j];
+                livre = j;
             }
+            j = (j + 1) & mascara;
         }
-        return null;
+        chaves[livre] = null;
+        valores[livre] = null;
+
+        elementosInseridos--;
+        modCount++;
+        return removido;
     }
 
     public void imprimir() {
         System.out.println("Tabela Hash:");
-        for (int i = 0; i < tamanho; i++) {
-            ListaEncadeada<Entrada<K, V>> lista = tabela[i];
+        for (int i = 0; i < chaves.length; i++) {
             System.out.print("Slot " + i + ": ");
-            ListaEncadeada<Entrada<K, V>>.MeuIteradorDeLista iterador = lista.iterador();
-            if (!iterador.temProximo()) {
+            if (chaves[i] == null) {
                 System.out.println("(vazio)");
             } else {
-                while (iterador.temProximo()) {
-                    Entrada<K, V> entrada = iterador.proximo();
-                    System.out.print("(" + entrada.getChave() + ", " + entrada.getValor() + ") ");
+                System.out.println("(" + chaves[i] + ", " + valores[i] + ")");
+            }
+        }
+    }
+
+    private int posicao(K chave) {
+        int hash = hash(chave);
+        int mascara = chaves.length - 1;
+        int indice = hash & mascara;
+        while (chaves[indice] != null) {
+            if (hashes[indice] == hash && chaves[indice].equals(chave)) {
+                return indice;
+            }
+            indice = (indice + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void redimensionarTabela() {
+        Object[] antigasChaves = chaves;
+        Object[] antigosValores = valores;
+        int[] antigosHashes = hashes;
+
+        alocar(antigasChaves.length * 2);
+        int mascara = chaves.length - 1;
+        for (int i = 0; i < antigasChaves.length; i++) {
+            if (antigasChaves[i] != null) {
+                int indice = antigosHashes[i] & mascara;
+                while (chaves[indice] != null) {
+                    indice = (indice + 1) & mascara;
                 }
-                System.out.println();
+                chaves[indice] = antigasChaves[i];
+                valores[indice] = antigosValores[i];
+                hashes[indice] = antigosHashes[i];
             }
         }
     }
 
-    private static class Entrada<K, V> {
-        private final K chave;
-        private  V valor;
+    private void alocar(int capacidade) {
+        chaves = new Object[capacidade];
+        valores = new Object[capacidade];
+        hashes = new int[capacidade];
+        limiar = (int) (capacidade * FATOR_DE_CARGA);
+    }
+
+    /**
+     * Espalha os bits de {@code hashCode()} para que chaves com hashes parecidos
+     * (ex.: "v12" e "v21", ou inteiros sequenciais) caiam em baldes distantes.
+     */
+    private static int hash(Object chave) {
+        if (chave == null) {
+            throw new IllegalArgumentException("Chave inválida.");
+        }
+        int h = chave.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** Visão das chaves da tabela, sem cópia. */
+    public class ConjuntoDeChaves {
 
-        public Entrada(K chave, V valor) {
-            this.chave = chave;
-            this.valor = valor;
+        public int size() {
+            return elementosInseridos;
         }
 
-        public K getChave() {
-            return chave;
+        public boolean isEmpty() {
+            return elementosInseridos == 0;
         }
 
-        public V getValor() {
-            return valor;
+        public boolean contains(K chave) {
+            return contemChave(chave);
         }
 
-        public void setValor(V valor) {
-            this.valor = valor;
+        public IteradorDeChaves iterador() {
+            return new IteradorDeChaves();
+        }
+    }
+
+    /** Iterador fail-fast sobre as chaves, percorrendo diretamente o array da tabela. */
+    public class IteradorDeChaves {
+        private final Object[] tabela = chaves;
+        private final int esperadoModCount = modCount;
+        private int indice = -1;
+
+        public IteradorDeChaves() {
+            avancar();
+        }
+
+        private void avancar() {
+            do {
+                indice++;
+            } while (indice < tabela.length && tabela[indice] == null);
+        }
+
+        public boolean temProximo() {
+            checarComodificacao();
+            return indice < tabela.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        public K proximo() {
+            checarComodificacao();
+            if (indice >= tabela.length) {
+                throw new NoSuchElementException("Sem mais chaves.");
+            }
+            K chave = (K) tabela[indice];
+            avancar();
+            return chave;
+        }
+
+        private void checarComodificacao() {
+            if (modCount != esperadoModCount) {
+                throw new ConcurrentModificationException("Tabela modificada durante iteração.");
+            }
         }
     }
 }
@@ -0,0 +1,157 @@
+package util.union_find;
+
+import util.paralelo.LacoParalelo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Union-Find sobre ids densos que pode ser usado por várias threads ao mesmo tempo, sem travas.
+ *
+ * Os pais ficam em um {@link AtomicIntegerArray}:
+ * - {@code find} segue os pais com divisão de caminho; o atalho para o avô é gravado com
+ *   compare-and-set e só é aplicado se o pai não mudou, então nunca desfaz uma união de outra thread;
+ * - {@code union} encontra as duas raízes e pendura a de id maior na de id menor com compare-and-set.
+ *   Se a raiz deixou de ser raiz no meio do caminho, a tentativa é refeita.
+ *
+ * A união é por id, e não por tamanho: com uma ordem fixa entre as raízes, duas threads nunca ligam
+ * um conjunto ao outro em sentidos opostos, e não se formam ciclos. Como consequência, a raiz de
+ * cada conjunto é o seu menor elemento. As árvores ficam rasas na prática, porque cada {@code find}
+ * encurta o caminho percorrido.
+ */
+public class UnionFindConcorrente {
+
+    /** Pares por tarefa em {@link #unirTodos(int[], int[], ForkJoinPool)}. */
+    private static final int TAMANHO_DO_BLOCO = 4096;
+
+    private final AtomicIntegerArray pai;
+    private final AtomicInteger numeroDeConjuntos;
+
+    /**
+     * @param n Quantidade de elementos; cada um começa em um conjunto próprio.
+     */
+    public UnionFindConcorrente(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("A quantidade de elementos não pode ser negativa: " + n);
+        }
+        pai = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            pai.set(i, i);
+        }
+        numeroDeConjuntos = new AtomicInteger(n);
+    }
+
+    /**
+     * Encontra a raiz do conjunto do elemento. Com uniões acontecendo em paralelo, a resposta é a
+     * raiz em algum instante da chamada.
+     */
+    public int find(int elemento) {
+        int x = elemento;
+        while (true) {
+            int p = pai.get(x);
+            if (p == x) {
+                return x;
+            }
+            int avo = pai.get(p);
+            if (avo != p) {
+                pai.compareAndSet(x, p, avo);
+            }
+            x = avo;
+        }
+    }
+
+    /**
+     * Une os conjuntos de dois elementos.
+     *
+     * @return true se esta chamada fez a ligação; quando várias threads unem os mesmos conjuntos,
+     *         exatamente uma recebe true.
+     */
+    public boolean union(int a, int b) {
+        int raizA = find(a);
+        int raizB = find(b);
+        while (raizA != raizB) {
+            int alto = Math.max(raizA, raizB);
+            int baixo = Math.min(raizA, raizB);
+            if (pai.compareAndSet(alto, alto, baixo)) {
+                numeroDeConjuntos.decrementAndGet();
+                return true;
+            }
+            // Outra thread pendurou alto em outra raiz: recomeça das raízes atuais.
+            raizA = find(alto);
+            raizB = find(baixo);
+        }
+        return false;
+    }
+
+    /**
+     * Une a[i] com b[i] para cada i, em paralelo no pool comum.
+     *
+     * @return Quantidade de uniões que juntaram conjuntos diferentes.
+     */
+    public int unirTodos(int[] a, int[] b) {
+        return unirTodos(a, b, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Une a[i] com b[i] para cada i, dividindo os pares em blocos de {@link #TAMANHO_DO_BLOCO} entre
+     * as threads do pool. O resultado final não depende da ordem em que os pares são processados.
+     */
+    public int unirTodos(int[] a, int[] b, ForkJoinPool pool) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Os arrays devem ter o mesmo tamanho: " + a.length + ", " + b.length);
+        }
+        // Um contador por bloco, somado no fim.
+        int[] unioes = new int[LacoParalelo.numeroDeBlocos(a.length, TAMANHO_DO_BLOCO)];
+        LacoParalelo.paraCadaBloco(pool, a.length, TAMANHO_DO_BLOCO,
+                (bloco, inicio, fim) -> unioes[bloco] = unirIntervalo(a, b, inicio, fim));
+        int total = 0;
+        for (int u : unioes) {
+            total += u;
+        }
+        return total;
+    }
+
+    /**
+     * Faz cada elemento de [inicio, fim) apontar direto para a raiz. Deve ser chamada quando não há
+     * uniões em andamento; intervalos diferentes podem ser comprimidos em paralelo.
+     */
+    public void comprimir(int inicio, int fim) {
+        for (int v = inicio; v < fim; v++) {
+            int p = pai.get(v);
+            while (p != pai.get(p)) {
+                p = pai.get(p);
+            }
+            pai.set(v, p);
+        }
+    }
+
+    /**
+     * Pai atual do elemento, sem percorrer o caminho. Depois de {@link #comprimir(int, int)}, é a raiz.
+     */
+    public int paiDe(int elemento) {
+        return pai.get(elemento);
+    }
+
+    public boolean mesmoConjunto(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    public int getNumeroDeConjuntos() {
+        return numeroDeConjuntos.get();
+    }
+
+    public int size() {
+        return pai.length();
+    }
+
+    private int unirIntervalo(int[] a, int[] b, int inicio, int fim) {
+        int unioes = 0;
+        for (int i = inicio; i < fim; i++) {
+            if (union(a[i], b[i])) {
+                unioes++;
+            }
+        }
+        return unioes;
+    }
+}
@@ -0,0 +1,102 @@
+package util.union_find;
+
+/**
+ * Union-Find (Disjoint Set Union) sobre ids densos em [0, n), guardado em dois arrays de int.
+ *
+ * Usa união por tamanho (a raiz do conjunto menor é pendurada na do maior) e divisão de caminho
+ * (path halving) no {@code find}: cada vértice visitado passa a apontar para o avô, em uma única
+ * passada e sem pilha. Juntas, as duas otimizações dão custo amortizado quase constante por operação.
+ *
+ * Não é segura para uso por várias threads; para isso existe o {@link UnionFindConcorrente}.
+ */
+public class UnionFindDeInteiros {
+
+    private final int[] pai;
+    private final int[] tamanho;
+    private int numeroDeConjuntos;
+
+    /**
+     * @param n Quantidade de elementos; cada um começa em um conjunto próprio.
+     */
+    public UnionFindDeInteiros(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("A quantidade de elementos não pode ser negativa: " + n);
+        }
+        pai = new int[n];
+        tamanho = new int[n];
+        for (int i = 0; i < n; i++) {
+            pai[i] = i;
+            tamanho[i] = 1;
+        }
+        numeroDeConjuntos = n;
+    }
+
+    /**
+     * Encontra o representante (raiz) do conjunto do elemento, aplicando a divisão de caminho.
+     */
+    public int find(int elemento) {
+        int x = elemento;
+        while (pai[x] != x) {
+            pai[x] = pai[pai[x]];
+            x = pai[x];
+        }
+        return x;
+    }
+
+    /**
+     * Une os conjuntos de dois elementos.
+     *
+     * @return true se os elementos estavam em conjuntos diferentes.
+     */
+    public boolean union(int a, int b) {
+        int raizA = find(a);
+        int raizB = find(b);
+        if (raizA == raizB) {
+            return false;
+        }
+        if (tamanho[raizA] < tamanho[raizB]) {
+            int troca = raizA;
+            raizA = raizB;
+            raizB = troca;
+        }
+        pai[raizB] = raizA;
+        tamanho[raizA] += tamanho[raizB];
+        numeroDeConjuntos--;
+        return true;
+    }
+
+    /**
+     * Une a[i] com b[i] para cada i, na ordem dos índices.
+     *
+     * @return Quantidade de uniões que juntaram conjuntos diferentes.
+     */
+    public int unirTodos(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Os arrays devem ter o mesmo tamanho: " + a.length + ", " + b.length);
+        }
+        int unioes = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (union(a[i], b[i])) {
+                unioes++;
+            }
+        }
+        return unioes;
+    }
+
+    public boolean mesmoConjunto(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /** Quantidade de elementos no conjunto do elemento. */
+    public int tamanhoDoConjunto(int elemento) {
+        return tamanho[find(elemento)];
+    }
+
+    public int getNumeroDeConjuntos() {
+        return numeroDeConjuntos;
+    }
+
+    public int size() {
+        return pai.length;
+    }
+}